@@ -0,0 +1,139 @@
+package Benchmarks;
+
+import DAO.Memoria.AlmacenMemoria;
+import DBConeccion.SQLConeccion;
+import Modelos.Estudiante;
+import Modelos.Proyecto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mide las operaciones de {@link DAO.Estudiante.DAOimp} y {@link DAO.Proyecto.DAOimp} contra una base
+ * de datos H2 embebida en memoria (modo MySQL), usando el mismo pool y la misma caché de sentencias
+ * que la aplicación.
+ *
+ * Con {@code -p almacen=memoria} se miden en su lugar los DAO sobre {@link AlmacenMemoria}, que sirven
+ * como línea base sin JDBC.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DAOBenchmark {
+
+    private static final int ESTUDIANTES = 200;
+    private static final int PROYECTOS = 50;
+
+    @Param({"h2", "memoria"})
+    public String almacen;
+
+    private DAO.Estudiante.DAO estudianteDAO;
+    private DAO.Proyecto.DAO proyectoDAO;
+    private final AtomicInteger siguienteRegistro = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void preparar() throws Exception {
+        // Los DAO informan cada operación por consola; se silencia para no medir la escritura en pantalla.
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        if ("memoria".equals(almacen)) {
+            AlmacenMemoria memoria = new AlmacenMemoria();
+            estudianteDAO = new DAO.Estudiante.DAOMemoria(memoria);
+            proyectoDAO = new DAO.Proyecto.DAOMemoria(memoria);
+            for (int i = 0; i < PROYECTOS; i++) {
+                memoria.insertarProyecto("Proyecto " + i, "Descripción del proyecto " + i);
+            }
+        } else {
+            estudianteDAO = new DAO.Estudiante.DAOimp();
+            proyectoDAO = new DAO.Proyecto.DAOimp();
+            prepararH2();
+        }
+
+        List<Estudiante> estudiantes = new ArrayList<>(ESTUDIANTES);
+        for (int i = 0; i < ESTUDIANTES; i++) {
+            Estudiante estudiante = new Estudiante();
+            estudiante.setEmail(email(i));
+            estudiante.setContrasena("password123");
+            estudiante.setMatricula(String.format("S%08d", i));
+            estudiantes.add(estudiante);
+        }
+        estudianteDAO.registrarEstudiantes(estudiantes, 100);
+        for (int i = 0; i < ESTUDIANTES; i++) {
+            estudianteDAO.asignarProyectoAEstudiante(email(i), 1 + i % PROYECTOS);
+        }
+    }
+
+    private void prepararH2() throws Exception {
+        System.setProperty("db.url", "jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;"
+                + "INIT=RUNSCRIPT FROM 'classpath:esquema-h2.sql'");
+        System.setProperty("db.usuario", "sa");
+        System.setProperty("db.contrasena", "");
+        System.setProperty("db.pool.maximo", "16");
+        SQLConeccion.inicializarConnecion();
+
+        try (Connection conn = SQLConeccion.obtenerConeccion();
+             PreparedStatement stmt = conn.prepareStatement("INSERT INTO proyecto (nombre, descripcion) VALUES (?, ?)")) {
+            for (int i = 0; i < PROYECTOS; i++) {
+                stmt.setString(1, "Proyecto " + i);
+                stmt.setString(2, "Descripción del proyecto " + i);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        SQLConeccion.CerrarConneciones();
+    }
+
+    private static String email(int i) {
+        return "estudiante" + i + "@uv.mx";
+    }
+
+    private static String emailAleatorio() {
+        return email(ThreadLocalRandom.current().nextInt(ESTUDIANTES));
+    }
+
+    @Benchmark
+    public boolean estudianteActualizarDatosPersonales() {
+        return estudianteDAO.updateActualizarDatosPersonales(emailAleatorio(), "2281234567",
+                "Nombre Apellido", "Calle 123", "Femenino");
+    }
+
+    @Benchmark
+    public boolean estudianteAsignarProyecto() {
+        return estudianteDAO.asignarProyectoAEstudiante(emailAleatorio(),
+                1 + ThreadLocalRandom.current().nextInt(PROYECTOS));
+    }
+
+    /**
+     * Incluye el hash BCrypt de la contraseña, que domina el costo del registro.
+     */
+    @Benchmark
+    public boolean estudiantePostRegistrar() {
+        int n = ESTUDIANTES + siguienteRegistro.getAndIncrement();
+        return estudianteDAO.postRegistrar(email(n), "password123", String.format("S%08d", n));
+    }
+
+    @Benchmark
+    public Proyecto proyectoVisualizarProyectoEstudiante() {
+        return proyectoDAO.getVisualizarProyectoEstudiante(emailAleatorio());
+    }
+
+    @Benchmark
+    public List<Proyecto> proyectoVisualizarProyectosPagina() {
+        return proyectoDAO.getVisualizarProyectos(null, ThreadLocalRandom.current().nextInt(PROYECTOS), 20);
+    }
+}
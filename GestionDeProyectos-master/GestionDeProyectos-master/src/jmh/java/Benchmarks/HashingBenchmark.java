@@ -0,0 +1,62 @@
+package Benchmarks;
+
+import Seguridad.PasswordHasher;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el costo de encriptar y verificar contraseñas con BCrypt.
+ *
+ * {@code fuerza} es el factor de trabajo de BCrypt (cada unidad duplica el costo); 10 es el valor que usa
+ * {@link PasswordHasher}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashingBenchmark {
+
+    @Param({"4", "8", "10", "12"})
+    public int fuerza;
+
+    private BCryptPasswordEncoder encriptador;
+    private String hash;
+    private String hashPredeterminado;
+
+    @Setup
+    public void preparar() {
+        encriptador = new BCryptPasswordEncoder(fuerza);
+        hash = encriptador.encode("password123");
+        hashPredeterminado = PasswordHasher.encodePassword("password123");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encriptador.encode("password123");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encriptador.matches("password123", hash);
+    }
+
+    /**
+     * Ruta real de la aplicación (fuerza predeterminada); no depende del parámetro.
+     */
+    @Benchmark
+    public String encodePasswordAplicacion() {
+        return PasswordHasher.encodePassword("password123");
+    }
+
+    /**
+     * Ruta real del inicio de sesión (fuerza predeterminada); no depende del parámetro.
+     */
+    @Benchmark
+    public boolean matchesAplicacion() {
+        return PasswordHasher.matches("password123", hashPredeterminado);
+    }
+}
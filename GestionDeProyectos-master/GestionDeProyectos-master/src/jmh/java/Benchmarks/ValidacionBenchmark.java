@@ -0,0 +1,79 @@
+package Benchmarks;
+
+import Modelos.Estudiante;
+import Modelos.Proyecto;
+import Modelos.Usuario;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el costo de validar los modelos con sus restricciones de Jakarta Validation.
+ *
+ * Los métodos {@code *FabricaPorLlamada} reproducen la implementación anterior, que construía una
+ * {@link ValidatorFactory} en cada validación (dos en el caso de {@link Estudiante}), para comparar
+ * contra el validador compartido de {@link Modelos.Validador}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidacionBenchmark {
+
+    private Usuario usuario;
+    private Estudiante estudiante;
+    private Proyecto proyecto;
+
+    @Setup
+    public void preparar() {
+        usuario = new Usuario() {
+        };
+
+        estudiante = new Estudiante();
+        estudiante.setEmail("estudiante@uv.mx");
+        estudiante.setMatricula("S12345678");
+
+        proyecto = new Proyecto();
+        proyecto.setNombre("Proyecto de prueba");
+        proyecto.setDescripcion("Descripción del proyecto de prueba.");
+    }
+
+    @Benchmark
+    public Usuario validarUsuario() {
+        usuario.validate();
+        return usuario;
+    }
+
+    @Benchmark
+    public Estudiante validarEstudiante() {
+        estudiante.validate();
+        return estudiante;
+    }
+
+    @Benchmark
+    public Proyecto validarProyecto() {
+        proyecto.validate();
+        return proyecto;
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Estudiante>> validarEstudianteFabricaPorLlamada() {
+        // Antes se validaba primero la clase padre con su propia fábrica y luego la clase hija.
+        ValidatorFactory factoryPadre = Validation.buildDefaultValidatorFactory();
+        factoryPadre.getValidator().validate((Usuario) estudiante);
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        return factory.getValidator().validate(estudiante);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Proyecto>> validarProyectoFabricaPorLlamada() {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        return factory.getValidator().validate(proyecto);
+    }
+}
@@ -0,0 +1,35 @@
+-- Esquema mínimo de GestionDeProyectos para los benchmarks sobre H2 (modo MySQL).
+CREATE TABLE IF NOT EXISTS usuario_base (
+    id_usuario INT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    contrasena VARCHAR(100) NOT NULL,
+    nombre VARCHAR(100),
+    telefono VARCHAR(10),
+    direccion VARCHAR(255),
+    version INT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS proyecto (
+    id_proyecto INT AUTO_INCREMENT PRIMARY KEY,
+    nombre VARCHAR(100) NOT NULL,
+    descripcion VARCHAR(1000),
+    version INT NOT NULL DEFAULT 0,
+    cupo INT,
+    ocupados INT NOT NULL DEFAULT 0,
+    CHECK (ocupados >= 0 AND (cupo IS NULL OR ocupados <= cupo))
+);
+
+CREATE TABLE IF NOT EXISTS estudiante (
+    id_usuario INT PRIMARY KEY,
+    matricula VARCHAR(9) NOT NULL UNIQUE,
+    genero VARCHAR(10),
+    id_proyecto INT,
+    FOREIGN KEY (id_usuario) REFERENCES usuario_base (id_usuario),
+    FOREIGN KEY (id_proyecto) REFERENCES proyecto (id_proyecto)
+);
+
+CREATE TABLE IF NOT EXISTS coordinador (
+    id_usuario INT PRIMARY KEY,
+    no_personal VARCHAR(15),
+    FOREIGN KEY (id_usuario) REFERENCES usuario_base (id_usuario)
+);
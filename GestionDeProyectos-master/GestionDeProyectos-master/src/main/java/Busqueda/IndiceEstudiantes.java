@@ -0,0 +1,191 @@
+package Busqueda;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice en memoria para buscar estudiantes por prefijo de correo, nombre o matrícula, pensado para el
+ * autocompletado de las ventanas del coordinador.
+ *
+ * Cada estudiante se guarda en un mapa ordenado bajo varias claves normalizadas (sin acentos y en
+ * minúsculas): el correo, la matrícula, el nombre completo y el nombre a partir de cada palabra, de modo
+ * que "perez" encuentra a "Ana Pérez". Buscar un prefijo es recorrer el rango de claves que empiezan con él,
+ * sin consultar la base de datos. Las claves terminan con el correo para que varios estudiantes puedan
+ * compartir el mismo nombre.
+ *
+ * El índice se llena con {@link #cargar(Collection)} y se mantiene al día con {@link #agregar(Entrada)}.
+ * Todas las operaciones pueden llamarse desde varios hilos; las escrituras sobre un mismo correo se aplican
+ * una a la vez.
+ */
+public class IndiceEstudiantes {
+
+    private static final Pattern DIACRITICOS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+    // Separa la clave normalizada del correo; es menor que cualquier carácter que pueda escribir el usuario.
+    private static final char SEPARADOR = '\0';
+
+    /**
+     * Datos de un estudiante en el índice. El nombre o la matrícula pueden ser null si no se conocen.
+     */
+    public record Entrada(String email, String nombre, String matricula) {
+
+        /**
+         * @return Una copia con los datos de {@code nueva}; sus valores null conservan los actuales.
+         */
+        Entrada combinar(Entrada nueva) {
+            return new Entrada(email, nueva.nombre != null ? nueva.nombre : nombre,
+                    nueva.matricula != null ? nueva.matricula : matricula);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            if (nombre != null && !nombre.isBlank()) {
+                sb.append(nombre).append(" - ");
+            }
+            sb.append(email);
+            if (matricula != null) {
+                sb.append(" (").append(matricula).append(')');
+            }
+            return sb.toString();
+        }
+    }
+
+    private final ConcurrentNavigableMap<String, Entrada> claves = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, Entrada> porEmail = new ConcurrentHashMap<>();
+    private volatile boolean cargado;
+
+    /**
+     * Agrega los estudiantes leídos del almacenamiento y marca el índice como cargado.
+     *
+     * Los estudiantes que ya están en el índice conservan sus datos, porque los agregados mientras se leía
+     * el almacenamiento son más recientes; solo se completan sus valores desconocidos.
+     *
+     * @param estudiantes Los estudiantes a indexar.
+     */
+    public void cargar(Collection<Entrada> estudiantes) {
+        for (Entrada entrada : estudiantes) {
+            if (entrada.email() != null) {
+                porEmail.compute(entrada.email(), (email, actual) ->
+                        publicar(actual, actual == null ? entrada : entrada.combinar(actual)));
+            }
+        }
+        cargado = true;
+    }
+
+    /**
+     * Agrega un estudiante o actualiza sus datos. Los valores null de la entrada conservan los actuales.
+     *
+     * @param entrada Los datos del estudiante.
+     */
+    public void agregar(Entrada entrada) {
+        if (entrada.email() != null) {
+            porEmail.compute(entrada.email(), (email, actual) ->
+                    publicar(actual, actual == null ? entrada : actual.combinar(entrada)));
+        }
+    }
+
+    /**
+     * Busca los estudiantes cuyo correo, matrícula o alguna palabra del nombre empiezan con el prefijo.
+     *
+     * @param prefijo El texto escrito por el usuario; no distingue mayúsculas ni acentos.
+     * @param limite  El número máximo de estudiantes a devolver.
+     * @return Los estudiantes encontrados, sin repetir, en orden alfabético de la clave que coincidió.
+     */
+    public List<Entrada> buscar(String prefijo, int limite) {
+        String normalizado = normalizar(prefijo);
+        if (normalizado.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        Map<String, Entrada> encontrados = new LinkedHashMap<>();
+        for (Entrada entrada : claves.subMap(normalizado, true, normalizado + Character.MAX_VALUE, false).values()) {
+            encontrados.putIfAbsent(entrada.email(), entrada);
+            if (encontrados.size() == limite) {
+                break;
+            }
+        }
+        return new ArrayList<>(encontrados.values());
+    }
+
+    /**
+     * @param email El correo del estudiante.
+     * @return Los datos indexados del estudiante, o null si no está en el índice.
+     */
+    public Entrada obtener(String email) {
+        return email == null ? null : porEmail.get(email);
+    }
+
+    /**
+     * @return true si ya se cargaron los estudiantes del almacenamiento.
+     */
+    public boolean isCargado() {
+        return cargado;
+    }
+
+    /**
+     * @return El número de estudiantes indexados.
+     */
+    public int tamano() {
+        return porEmail.size();
+    }
+
+    /**
+     * Reemplaza las claves de la entrada anterior por las de la nueva. Se llama dentro de
+     * {@code porEmail.compute}, que serializa las escrituras de un mismo correo.
+     */
+    private Entrada publicar(Entrada anterior, Entrada nueva) {
+        if (nueva.equals(anterior)) {
+            return anterior;
+        }
+        List<String> nuevas = clavesDe(nueva);
+        for (String clave : nuevas) {
+            claves.put(clave, nueva);
+        }
+        if (anterior != null) {
+            for (String clave : clavesDe(anterior)) {
+                if (!nuevas.contains(clave)) {
+                    claves.remove(clave, anterior);
+                }
+            }
+        }
+        return nueva;
+    }
+
+    private static List<String> clavesDe(Entrada entrada) {
+        List<String> resultado = new ArrayList<>(4);
+        String sufijo = SEPARADOR + entrada.email();
+        resultado.add(normalizar(entrada.email()) + sufijo);
+        if (entrada.matricula() != null) {
+            resultado.add(normalizar(entrada.matricula()) + sufijo);
+        }
+        String nombre = normalizar(entrada.nombre());
+        // El nombre completo y el resto del nombre a partir de cada palabra.
+        for (int inicio = 0; inicio < nombre.length(); ) {
+            resultado.add(nombre.substring(inicio) + sufijo);
+            int espacio = nombre.indexOf(' ', inicio);
+            inicio = espacio < 0 ? nombre.length() : espacio + 1;
+        }
+        return resultado;
+    }
+
+    /**
+     * @return El texto sin acentos, en minúsculas y con los espacios repetidos reducidos a uno.
+     */
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String sinAcentos = DIACRITICOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACIOS.matcher(sinAcentos.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
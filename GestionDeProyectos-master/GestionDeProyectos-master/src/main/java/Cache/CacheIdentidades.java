@@ -0,0 +1,59 @@
+package Cache;
+
+/**
+ * Caché compartida que resuelve el correo de un estudiante a su {@code id_usuario}.
+ *
+ * El registro y el inicio de sesión la llenan con el identificador que ya obtuvieron, y los DAO la consultan
+ * antes de actualizar, de modo que las actualizaciones se hacen por llave primaria sin volver a buscar el
+ * correo en {@code usuario_base}. Solo guarda estudiantes: las sentencias de actualización confían en que el
+ * identificador es de un estudiante y no lo vuelven a comprobar. El correo de un usuario no cambia, así que las entradas solo se invalidan
+ * cuando una actualización por identificador no encuentra la fila.
+ *
+ * La capacidad y el tiempo de vida se configuran con {@code cache.identidades.capacidad} y
+ * {@code cache.identidades.ttl} (milisegundos).
+ */
+public final class CacheIdentidades {
+
+    private static final CacheLRU<String, Integer> CACHE = new CacheLRU<>(
+            Integer.getInteger("cache.identidades.capacidad", 10000),
+            Long.getLong("cache.identidades.ttl", 3600000L));
+
+    private CacheIdentidades() {
+    }
+
+    /**
+     * @param email El correo del usuario.
+     * @return El {@code id_usuario} guardado, o null si no está en la caché.
+     */
+    public static Integer obtener(String email) {
+        return email == null ? null : CACHE.obtener(email);
+    }
+
+    /**
+     * Guarda el identificador de un usuario.
+     *
+     * @param email     El correo del usuario.
+     * @param idUsuario Su {@code id_usuario}.
+     */
+    public static void registrar(String email, int idUsuario) {
+        if (email != null && idUsuario > 0) {
+            CACHE.poner(email, idUsuario);
+        }
+    }
+
+    /**
+     * Descarta el identificador guardado de un usuario.
+     *
+     * @param email El correo del usuario.
+     */
+    public static void invalidar(String email) {
+        CACHE.invalidar(email);
+    }
+
+    /**
+     * @return La caché subyacente, para consultar sus estadísticas.
+     */
+    public static CacheLRU<String, Integer> getCache() {
+        return CACHE;
+    }
+}
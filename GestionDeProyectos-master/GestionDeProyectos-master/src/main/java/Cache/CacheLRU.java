@@ -0,0 +1,219 @@
+package Cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caché acotada y segura para hilos con desalojo LRU y caducidad por tiempo (TTL).
+ *
+ * Cuando se alcanza la capacidad se desaloja la entrada usada hace más tiempo; además, una entrada con
+ * más de {@code ttlMs} milisegundos se considera caducada y se descarta al consultarla. La caché lleva la
+ * cuenta de aciertos, fallos, desalojos y caducidades para poder calcular su efectividad.
+ *
+ * La caché no almacena valores null; para recordar que una clave no tiene valor se puede guardar un
+ * {@link java.util.Optional} vacío.
+ *
+ * @param <K> Tipo de las claves.
+ * @param <V> Tipo de los valores.
+ */
+public class CacheLRU<K, V> {
+
+    private final int capacidad;
+    private final long ttlMs;
+    private final LinkedHashMap<K, Entrada<V>> entradas;
+
+    // Cargas en curso por clave. Solo contiene las claves que se están cargando, así que no crece con la caché.
+    private final Map<K, Carga> cargas = new HashMap<>();
+
+    private long aciertos;
+    private long fallos;
+    private long desalojos;
+    private long caducadas;
+
+    /**
+     * @param capacidad Número máximo de entradas.
+     * @param ttlMs     Tiempo de vida de cada entrada en milisegundos; 0 o negativo para no caducar.
+     */
+    public CacheLRU(int capacidad, long ttlMs) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacidad);
+        }
+        this.capacidad = capacidad;
+        this.ttlMs = ttlMs;
+        this.entradas = new LinkedHashMap<>(Math.min(capacidad, 1024), 0.75f, true);
+    }
+
+    /**
+     * Obtiene el valor asociado a la clave si existe y no ha caducado.
+     *
+     * @param clave La clave a buscar.
+     * @return El valor, o null si no está en la caché.
+     */
+    public synchronized V obtener(K clave) {
+        Entrada<V> entrada = entradas.get(clave);
+        if (entrada != null && entrada.caducada(ttlMs)) {
+            entradas.remove(clave);
+            caducadas++;
+            entrada = null;
+        }
+        if (entrada == null) {
+            fallos++;
+            return null;
+        }
+        aciertos++;
+        return entrada.valor;
+    }
+
+    /**
+     * Obtiene el valor de la caché o, si no está, lo carga con {@code cargador} y lo guarda.
+     *
+     * La carga se hace fuera del bloqueo de la caché, por lo que una carga lenta no detiene a los demás hilos.
+     * Si la clave se invalida mientras se carga, el valor cargado se devuelve pero no se guarda, porque puede
+     * ser anterior a la modificación que causó la invalidación.
+     *
+     * @param clave    La clave a buscar.
+     * @param cargador Función que obtiene el valor cuando no está en la caché.
+     * @return El valor de la caché o el recién cargado; null si el cargador devolvió null (no se guarda).
+     */
+    public V obtener(K clave, Function<? super K, ? extends V> cargador) {
+        Carga carga;
+        long generacion;
+        synchronized (this) {
+            V valor = obtener(clave);
+            if (valor != null) {
+                return valor;
+            }
+            carga = cargas.computeIfAbsent(clave, k -> new Carga());
+            carga.hilos++;
+            generacion = carga.generacion;
+        }
+        V valor = null;
+        try {
+            valor = cargador.apply(clave);
+        } finally {
+            synchronized (this) {
+                if (valor != null && carga.generacion == generacion) {
+                    poner(clave, valor);
+                }
+                if (--carga.hilos == 0) {
+                    cargas.remove(clave);
+                }
+            }
+        }
+        return valor;
+    }
+
+    /**
+     * Guarda un valor, desalojando la entrada menos usada recientemente si se supera la capacidad.
+     *
+     * @param clave La clave.
+     * @param valor El valor; no puede ser null.
+     */
+    public synchronized void poner(K clave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("La caché no admite valores null.");
+        }
+        entradas.put(clave, new Entrada<>(valor, System.currentTimeMillis()));
+        if (entradas.size() > capacidad) {
+            Iterator<Map.Entry<K, Entrada<V>>> it = entradas.entrySet().iterator();
+            it.next();
+            it.remove();
+            desalojos++;
+        }
+    }
+
+    /**
+     * Elimina la entrada asociada a la clave, si existe.
+     *
+     * @param clave La clave a invalidar.
+     */
+    public synchronized void invalidar(K clave) {
+        entradas.remove(clave);
+        Carga carga = cargas.get(clave);
+        if (carga != null) {
+            carga.generacion++;
+        }
+    }
+
+    /**
+     * Elimina todas las entradas. Las estadísticas se conservan.
+     */
+    public synchronized void limpiar() {
+        entradas.clear();
+        for (Carga carga : cargas.values()) {
+            carga.generacion++;
+        }
+    }
+
+    public synchronized int getTamano() {
+        return entradas.size();
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    public synchronized long getAciertos() {
+        return aciertos;
+    }
+
+    public synchronized long getFallos() {
+        return fallos;
+    }
+
+    /**
+     * @return Número de entradas desalojadas por falta de capacidad.
+     */
+    public synchronized long getDesalojos() {
+        return desalojos;
+    }
+
+    /**
+     * @return Número de entradas descartadas por haber superado su tiempo de vida.
+     */
+    public synchronized long getCaducadas() {
+        return caducadas;
+    }
+
+    /**
+     * @return Proporción de aciertos entre 0 y 1, o 0 si aún no hubo consultas.
+     */
+    public synchronized double getTasaAciertos() {
+        long total = aciertos + fallos;
+        return total == 0 ? 0.0 : (double) aciertos / total;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("CacheLRU[tamano=%d/%d, aciertos=%d, fallos=%d, tasa=%.2f, desalojos=%d, caducadas=%d]",
+                entradas.size(), capacidad, aciertos, fallos, getTasaAciertos(), desalojos, caducadas);
+    }
+
+    /**
+     * Hilos que cargan una clave y número de veces que se invalidó desde que empezó la primera carga.
+     */
+    private static final class Carga {
+        int hilos;
+        long generacion;
+    }
+
+    /**
+     * Valor guardado junto con el instante en que se guardó.
+     */
+    private static final class Entrada<V> {
+        final V valor;
+        final long creada;
+
+        Entrada(V valor, long creada) {
+            this.valor = valor;
+            this.creada = creada;
+        }
+
+        boolean caducada(long ttlMs) {
+            return ttlMs > 0 && System.currentTimeMillis() - creada > ttlMs;
+        }
+    }
+}
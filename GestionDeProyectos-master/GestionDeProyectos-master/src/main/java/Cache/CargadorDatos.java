@@ -0,0 +1,211 @@
+package Cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Agrupa las consultas por clave que llegan casi al mismo tiempo, para hacer pocas consultas por lote en
+ * lugar de una por clave.
+ *
+ * Hace dos cosas:
+ * <ul>
+ *     <li>Consulta única: si una clave ya se está consultando, las demás solicitudes de esa clave esperan
+ *     el mismo resultado en lugar de consultarla otra vez.</li>
+ *     <li>Lotes: la primera clave nueva abre un lote que se envía tras {@code ventanaMs} milisegundos, o
+ *     antes si junta {@code maximoLote} claves; todas las claves del lote se cargan con una sola llamada a
+ *     la función de carga por lote.</li>
+ * </ul>
+ *
+ * No es una caché: en cuanto una carga termina, la siguiente solicitud de la clave vuelve a consultarla.
+ * Los valores se comparten entre las solicitudes que esperaron la misma carga, así que deben tratarse como
+ * de solo lectura. Todas las operaciones pueden llamarse desde varios hilos.
+ *
+ * @param <K> Tipo de las claves.
+ * @param <V> Tipo de los valores.
+ */
+public class CargadorDatos<K, V> {
+
+    /**
+     * Ventana predeterminada de los cargadores de los servicios, configurable con {@code cargador.ventana.ms}.
+     */
+    public static final long VENTANA_MS = Long.getLong("cargador.ventana.ms", 2L);
+
+    /**
+     * Tamaño máximo predeterminado de los lotes, configurable con {@code cargador.lote}. Coincide con la
+     * lista {@code IN} más larga que usan los DAO.
+     */
+    public static final int MAXIMO_LOTE = Integer.getInteger("cargador.lote", 256);
+
+    private final Function<Collection<K>, Map<K, V>> cargaPorLote;
+    private final long ventanaMs;
+    private final int maximoLote;
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> enCurso = new ConcurrentHashMap<>();
+
+    // Lote abierto que todavía acepta claves; null si no hay ninguno. Se protege con el monitor del cargador.
+    private List<Pendiente<K, V>> loteAbierto;
+
+    private final LongAdder solicitudes = new LongAdder();
+    private final LongAdder compartidas = new LongAdder();
+    private final LongAdder lotes = new LongAdder();
+
+    /**
+     * @param cargaPorLote Carga los valores de un lote de claves distintas; las claves sin valor se omiten
+     *                     del mapa. Se ejecuta en un hilo virtual.
+     * @param ventanaMs    Milisegundos que un lote espera más claves antes de enviarse; 0 para enviar cada
+     *                     clave de inmediato, conservando la consulta única.
+     * @param maximoLote   Número de claves con el que un lote se envía sin esperar a que termine la ventana.
+     */
+    public CargadorDatos(Function<Collection<K>, Map<K, V>> cargaPorLote, long ventanaMs, int maximoLote) {
+        if (maximoLote < 1) {
+            throw new IllegalArgumentException("El lote debe admitir al menos una clave: " + maximoLote);
+        }
+        this.cargaPorLote = cargaPorLote;
+        this.ventanaMs = Math.max(ventanaMs, 0);
+        this.maximoLote = maximoLote;
+    }
+
+    /**
+     * Obtiene el valor de una clave, uniéndose a la carga en curso de esa clave o agregándola al lote abierto.
+     *
+     * @param clave La clave a cargar.
+     * @return Un futuro que se completa con el valor, con null si la clave no tiene valor, o con la
+     *         excepción de la carga.
+     */
+    public CompletableFuture<V> cargarAsync(K clave) {
+        solicitudes.increment();
+        CompletableFuture<V> nuevo = new CompletableFuture<>();
+        CompletableFuture<V> existente = enCurso.putIfAbsent(clave, nuevo);
+        if (existente != null) {
+            compartidas.increment();
+            return existente;
+        }
+
+        List<Pendiente<K, V>> listo = null;
+        synchronized (this) {
+            if (loteAbierto == null) {
+                loteAbierto = new ArrayList<>();
+                if (ventanaMs > 0) {
+                    List<Pendiente<K, V>> lote = loteAbierto;
+                    Thread.ofVirtual().start(() -> enviarAlTerminarVentana(lote));
+                }
+            }
+            loteAbierto.add(new Pendiente<>(clave, nuevo));
+            if (ventanaMs == 0 || loteAbierto.size() >= maximoLote) {
+                listo = loteAbierto;
+                loteAbierto = null;
+            }
+        }
+        if (listo != null) {
+            List<Pendiente<K, V>> lote = listo;
+            Thread.ofVirtual().start(() -> enviar(lote));
+        }
+        return nuevo;
+    }
+
+    /**
+     * Versión bloqueante de {@link #cargarAsync(Object)}.
+     *
+     * @param clave La clave a cargar.
+     * @return El valor, o null si la clave no tiene valor.
+     * @throws RuntimeException La excepción de la carga, si falló.
+     */
+    public V cargar(K clave) {
+        try {
+            return cargarAsync(clave).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Hace que las solicitudes siguientes de la clave no se unan a la carga que está en curso, porque su
+     * resultado puede ser anterior a una escritura. Quienes ya esperan esa carga reciben su resultado.
+     *
+     * @param clave La clave modificada.
+     */
+    public void olvidar(K clave) {
+        enCurso.remove(clave);
+    }
+
+    private void enviarAlTerminarVentana(List<Pendiente<K, V>> lote) {
+        try {
+            Thread.sleep(ventanaMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (loteAbierto != lote) {
+                return; // Ya se envió al llenarse.
+            }
+            loteAbierto = null;
+        }
+        enviar(lote);
+    }
+
+    private void enviar(List<Pendiente<K, V>> lote) {
+        lotes.increment();
+        // Una clave olvidada y vuelta a pedir mientras el lote estaba abierto aparece dos veces.
+        Collection<K> claves = new LinkedHashSet<>(lote.size() * 2);
+        for (Pendiente<K, V> pendiente : lote) {
+            claves.add(pendiente.clave());
+        }
+        Map<K, V> valores;
+        try {
+            valores = cargaPorLote.apply(claves);
+        } catch (RuntimeException | Error e) {
+            for (Pendiente<K, V> pendiente : lote) {
+                enCurso.remove(pendiente.clave(), pendiente.futuro());
+                pendiente.futuro().completeExceptionally(e);
+            }
+            return;
+        }
+        // Se quita cada carga de las que están en curso antes de completarla, para que una solicitud que
+        // llegue después del resultado haga una carga nueva.
+        for (Pendiente<K, V> pendiente : lote) {
+            enCurso.remove(pendiente.clave(), pendiente.futuro());
+            pendiente.futuro().complete(valores.get(pendiente.clave()));
+        }
+    }
+
+    /**
+     * @return El número de solicitudes recibidas.
+     */
+    public long getSolicitudes() {
+        return solicitudes.sum();
+    }
+
+    /**
+     * @return El número de solicitudes que se unieron a una carga en curso de la misma clave.
+     */
+    public long getCompartidas() {
+        return compartidas.sum();
+    }
+
+    /**
+     * @return El número de lotes enviados, es decir, de llamadas a la función de carga.
+     */
+    public long getLotes() {
+        return lotes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CargadorDatos{solicitudes=" + getSolicitudes() + ", compartidas=" + getCompartidas()
+                + ", lotes=" + getLotes() + "}";
+    }
+
+    private record Pendiente<K, V>(K clave, CompletableFuture<V> futuro) {
+    }
+}
@@ -0,0 +1,163 @@
+package Carga;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Parámetros de una prueba de carga, leídos de propiedades del sistema.
+ *
+ * <ul>
+ *     <li>{@code carga.usuarios}: usuarios virtuales concurrentes (50).</li>
+ *     <li>{@code carga.duracion.s}: duración de la medición en segundos (60).</li>
+ *     <li>{@code carga.calentamiento.s}: segundos de carga previa que no se miden (10).</li>
+ *     <li>{@code carga.rampa.s}: segundos en los que arrancan gradualmente los usuarios (0).</li>
+ *     <li>{@code carga.pensar.ms}: tiempo medio de espera entre operaciones de un usuario (200).</li>
+ *     <li>{@code carga.estudiantes}: estudiantes que se registran antes de empezar (200).</li>
+ *     <li>{@code carga.proyectos}: proyectos que se registran si no hay ninguno (20).</li>
+ *     <li>{@code carga.mezcla}: peso de cada operación, por ejemplo
+ *         {@code login:30,verProyecto:25,listarProyectos:15,actualizar:15,asignar:10,registrar:5}.</li>
+ * </ul>
+ */
+public class ConfiguracionCarga {
+
+    /**
+     * Operaciones que puede ejecutar un usuario virtual.
+     */
+    public enum Operacion {
+        LOGIN("login"),
+        REGISTRAR("registrar"),
+        ACTUALIZAR("actualizar"),
+        ASIGNAR("asignar"),
+        VER_PROYECTO("verProyecto"),
+        LISTAR_PROYECTOS("listarProyectos");
+
+        private final String nombre;
+
+        Operacion(String nombre) {
+            this.nombre = nombre;
+        }
+
+        public String getNombre() {
+            return nombre;
+        }
+
+        static Operacion porNombre(String nombre) {
+            for (Operacion operacion : values()) {
+                if (operacion.nombre.equalsIgnoreCase(nombre)) {
+                    return operacion;
+                }
+            }
+            throw new IllegalArgumentException("Operación desconocida en carga.mezcla: " + nombre);
+        }
+    }
+
+    private static final String MEZCLA_PREDETERMINADA =
+            "login:30,verProyecto:25,listarProyectos:15,actualizar:15,asignar:10,registrar:5";
+
+    private final int usuarios = Integer.getInteger("carga.usuarios", 50);
+    private final int duracionSegundos = Integer.getInteger("carga.duracion.s", 60);
+    private final int calentamientoSegundos = Integer.getInteger("carga.calentamiento.s", 10);
+    private final int rampaSegundos = Integer.getInteger("carga.rampa.s", 0);
+    private final long pensarMs = Long.getLong("carga.pensar.ms", 200L);
+    private final int estudiantes = Integer.getInteger("carga.estudiantes", 200);
+    private final int proyectos = Integer.getInteger("carga.proyectos", 20);
+    private final Map<Operacion, Integer> mezcla;
+    private final Operacion[] operaciones;
+    private final int[] pesosAcumulados;
+
+    public ConfiguracionCarga() {
+        mezcla = leerMezcla(System.getProperty("carga.mezcla", MEZCLA_PREDETERMINADA));
+        operaciones = mezcla.keySet().toArray(new Operacion[0]);
+        pesosAcumulados = new int[operaciones.length];
+        int acumulado = 0;
+        for (int i = 0; i < operaciones.length; i++) {
+            acumulado += mezcla.get(operaciones[i]);
+            pesosAcumulados[i] = acumulado;
+        }
+        if (acumulado <= 0) {
+            throw new IllegalArgumentException("carga.mezcla debe tener al menos una operación con peso positivo.");
+        }
+    }
+
+    private static Map<Operacion, Integer> leerMezcla(String texto) {
+        Map<Operacion, Integer> mezcla = new EnumMap<>(Operacion.class);
+        for (String parte : texto.split(",")) {
+            if (parte.isBlank()) {
+                continue;
+            }
+            String[] campos = parte.trim().split(":");
+            if (campos.length != 2) {
+                throw new IllegalArgumentException("Entrada inválida en carga.mezcla: " + parte);
+            }
+            int peso = Integer.parseInt(campos[1].trim());
+            if (peso > 0) {
+                mezcla.put(Operacion.porNombre(campos[0].trim()), peso);
+            }
+        }
+        return mezcla;
+    }
+
+    /**
+     * Elige una operación al azar según los pesos de la mezcla.
+     */
+    public Operacion siguienteOperacion() {
+        int valor = ThreadLocalRandom.current().nextInt(pesosAcumulados[pesosAcumulados.length - 1]);
+        for (int i = 0; i < pesosAcumulados.length; i++) {
+            if (valor < pesosAcumulados[i]) {
+                return operaciones[i];
+            }
+        }
+        return operaciones[operaciones.length - 1];
+    }
+
+    /**
+     * Tiempo de espera antes de la siguiente operación, con distribución exponencial alrededor de la media
+     * configurada para que las llegadas no queden sincronizadas.
+     */
+    public long siguienteEsperaMs() {
+        if (pensarMs <= 0) {
+            return 0;
+        }
+        return (long) (-pensarMs * Math.log(1.0 - ThreadLocalRandom.current().nextDouble()));
+    }
+
+    public int getUsuarios() {
+        return usuarios;
+    }
+
+    public int getDuracionSegundos() {
+        return duracionSegundos;
+    }
+
+    public int getCalentamientoSegundos() {
+        return calentamientoSegundos;
+    }
+
+    public int getRampaSegundos() {
+        return rampaSegundos;
+    }
+
+    public long getPensarMs() {
+        return pensarMs;
+    }
+
+    public int getEstudiantes() {
+        return estudiantes;
+    }
+
+    public int getProyectos() {
+        return proyectos;
+    }
+
+    public Map<Operacion, Integer> getMezcla() {
+        return mezcla;
+    }
+
+    @Override
+    public String toString() {
+        return "usuarios=" + usuarios + ", duracion=" + duracionSegundos + "s, calentamiento="
+                + calentamientoSegundos + "s, rampa=" + rampaSegundos + "s, pensar=" + pensarMs
+                + "ms, estudiantes=" + estudiantes + ", mezcla=" + mezcla;
+    }
+}
@@ -0,0 +1,238 @@
+package Carga;
+
+import Carga.ConfiguracionCarga.Operacion;
+import DAO.Estudiante.ResultadoRegistro;
+import DAO.FabricaDAO;
+import DBConeccion.SQLConeccion;
+import Metricas.MetricaOperacion;
+import Metricas.RegistroMetricas;
+import Modelos.Estudiante;
+import Modelos.Proyecto;
+import Servicio.AutenticacionServicio;
+import Servicio.EstudianteServicio;
+import Servicio.ProyectoServicio;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generador de carga sin interfaz gráfica para los flujos de inicio de sesión, registro, actualización y
+ * asignación de proyectos.
+ *
+ * Cada usuario virtual es un hilo virtual que elige operaciones según la mezcla configurada, las ejecuta
+ * sobre las instancias compartidas de los servicios y espera un tiempo de "pensar" entre una y otra. Las
+ * operaciones se miden con {@link RegistroMetricas} como {@code carga.<operación>}; al terminar se imprime
+ * el rendimiento, la tasa de errores y los percentiles de latencia de cada una, junto con el detalle de
+ * los servicios y DAO.
+ *
+ * Se ejecuta contra la base de datos configurada en {@code db.url} o, con {@code -Dalmacen=memoria},
+ * contra el almacenamiento en memoria. Los parámetros se describen en {@link ConfiguracionCarga}.
+ *
+ * <pre>
+ * mvn -q compile exec:java -Dexec.mainClass=Carga.PruebaCarga -Dalmacen=memoria -Dcarga.usuarios=200
+ * </pre>
+ */
+public class PruebaCarga {
+
+    private static final String CONTRASENA = "carga12345";
+
+    private final ConfiguracionCarga configuracion;
+    private final EstudianteServicio estudianteServicio = EstudianteServicio.getInstancia();
+    private final ProyectoServicio proyectoServicio = ProyectoServicio.getInstancia();
+    private final AutenticacionServicio autenticacionServicio = AutenticacionServicio.getInstancia();
+
+    // Prefijo único de la corrida para no chocar con datos de corridas anteriores en la base de datos.
+    private final String prefijo = Long.toString(System.currentTimeMillis(), 36);
+    private final int baseMatricula = ThreadLocalRandom.current().nextInt(50_000_000);
+    private final AtomicInteger siguienteEstudiante = new AtomicInteger();
+
+    private final List<String> estudiantes = new ArrayList<>();
+    private final List<Integer> proyectos = new ArrayList<>();
+    private volatile boolean detener;
+
+    public PruebaCarga(ConfiguracionCarga configuracion) {
+        this.configuracion = configuracion;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+        PrintStream consola = System.out;
+        ConfiguracionCarga configuracion = new ConfiguracionCarga();
+        consola.println("Prueba de carga (" + (FabricaDAO.esMemoria() ? "memoria" : "base de datos") + "): "
+                + configuracion);
+
+        // Los DAO informan cada operación exitosa por la salida estándar; se silencia para no medir la
+        // escritura en pantalla. Los errores siguen llegando a la salida de errores.
+        if (!Boolean.getBoolean("carga.verboso")) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        PruebaCarga prueba = new PruebaCarga(configuracion);
+        prueba.preparar(consola);
+        long duracionMs = prueba.ejecutar(consola);
+        consola.print(prueba.reporte(duracionMs));
+        if (Boolean.parseBoolean(System.getProperty("carga.detalle", "true"))) {
+            consola.println();
+            consola.print(RegistroMetricas.reporte());
+        }
+
+        if (!FabricaDAO.esMemoria()) {
+            SQLConeccion.CerrarConneciones();
+        }
+    }
+
+    /**
+     * Registra los estudiantes iniciales y obtiene (o crea) los proyectos a asignar.
+     *
+     * @throws IllegalStateException Si no se registró ningún estudiante o si no hay proyectos y no se
+     *                               pudieron crear; la prueba no se ejecuta con una mezcla incompleta.
+     */
+    void preparar(PrintStream consola) {
+        List<Estudiante> nuevos = new ArrayList<>(configuracion.getEstudiantes());
+        for (int i = 0; i < configuracion.getEstudiantes(); i++) {
+            nuevos.add(nuevoEstudiante());
+        }
+        for (ResultadoRegistro resultado : estudianteServicio.registrarEstudiantes(nuevos)) {
+            if (resultado.isExitoso()) {
+                estudiantes.add(resultado.getEmail());
+            }
+        }
+        consola.println("Estudiantes registrados: " + estudiantes.size() + " de " + nuevos.size());
+
+        cargarProyectos();
+        if (proyectos.isEmpty()) {
+            for (int i = 0; i < configuracion.getProyectos(); i++) {
+                proyectoServicio.registrarProyecto("Proyecto de carga " + i, "Proyecto creado por la prueba de carga.");
+            }
+            cargarProyectos();
+        }
+        consola.println("Proyectos disponibles: " + proyectos.size());
+
+        if (estudiantes.isEmpty()) {
+            throw new IllegalStateException("No se pudo registrar ningún estudiante; revise la conexión.");
+        }
+        if (proyectos.isEmpty()) {
+            throw new IllegalStateException("No hay proyectos para las asignaciones y no se pudieron crear; "
+                    + "registre al menos uno antes de la prueba.");
+        }
+    }
+
+    private void cargarProyectos() {
+        for (Proyecto proyecto : proyectoServicio.obtenerProyectos()) {
+            proyectos.add(Integer.parseInt(proyecto.getProyectoId()));
+        }
+    }
+
+    private Estudiante nuevoEstudiante() {
+        int n = siguienteEstudiante.getAndIncrement();
+        Estudiante estudiante = new Estudiante();
+        estudiante.setEmail("carga-" + prefijo + "-" + n + "@uv.mx");
+        estudiante.setContrasena(CONTRASENA);
+        estudiante.setMatricula(String.format("S%08d", (baseMatricula + n) % 100_000_000));
+        return estudiante;
+    }
+
+    /**
+     * Lanza los usuarios virtuales, descarta el calentamiento y mide durante la duración configurada.
+     *
+     * @return La duración real de la medición en milisegundos.
+     */
+    long ejecutar(PrintStream consola) throws InterruptedException {
+        List<Thread> hilos = new ArrayList<>(configuracion.getUsuarios());
+        long rampaMs = configuracion.getRampaSegundos() * 1000L;
+        for (int i = 0; i < configuracion.getUsuarios(); i++) {
+            long retraso = configuracion.getUsuarios() > 1 ? rampaMs * i / (configuracion.getUsuarios() - 1) : 0;
+            hilos.add(Thread.ofVirtual().name("usuario-virtual-" + i).start(() -> usuarioVirtual(retraso)));
+        }
+
+        Thread.sleep(rampaMs + configuracion.getCalentamientoSegundos() * 1000L);
+        RegistroMetricas.reiniciar();
+        consola.println("Midiendo durante " + configuracion.getDuracionSegundos() + " s...");
+        long inicio = System.nanoTime();
+        Thread.sleep(configuracion.getDuracionSegundos() * 1000L);
+        detener = true;
+        long duracionMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        for (Thread hilo : hilos) {
+            hilo.join(10_000);
+        }
+        return duracionMs;
+    }
+
+    private void usuarioVirtual(long retrasoMs) {
+        try {
+            Thread.sleep(retrasoMs);
+            while (!detener) {
+                Operacion operacion = configuracion.siguienteOperacion();
+                try {
+                    RegistroMetricas.medir("carga." + operacion.getNombre(), () -> ejecutar(operacion));
+                } catch (RuntimeException e) {
+                    // Ya se contó como error; el usuario sigue con la siguiente operación.
+                }
+                Thread.sleep(configuracion.siguienteEsperaMs());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Ejecuta una operación y devuelve si tuvo éxito.
+     */
+    private boolean ejecutar(Operacion operacion) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        String email = estudiantes.get(aleatorio.nextInt(estudiantes.size()));
+        switch (operacion) {
+            case LOGIN:
+                return autenticacionServicio.autenticar(email, CONTRASENA) != null;
+            case REGISTRAR:
+                Estudiante nuevo = nuevoEstudiante();
+                return estudianteServicio.registrarEstudiante(nuevo.getEmail(), CONTRASENA, nuevo.getMatricula());
+            case ACTUALIZAR:
+                return estudianteServicio.actualizarDatosPersonales(email, "228" + (1_000_000 + aleatorio.nextInt(9_000_000)),
+                        "Estudiante de carga", "Calle " + aleatorio.nextInt(1000), aleatorio.nextBoolean() ? "Masculino" : "Femenino");
+            case ASIGNAR:
+                return estudianteServicio.asignarProyectoAEstudiante(email, proyectos.get(aleatorio.nextInt(proyectos.size())));
+            case VER_PROYECTO:
+                return proyectoServicio.obtenerProyectoEstudiante(email) != null;
+            case LISTAR_PROYECTOS:
+                return proyectoServicio.obtenerProyectos() != null;
+            default:
+                throw new IllegalArgumentException("Operación no soportada: " + operacion);
+        }
+    }
+
+    /**
+     * Construye la tabla de resultados por operación.
+     */
+    String reporte(long duracionMs) {
+        double segundos = Math.max(duracionMs, 1) / 1000.0;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%-16s %10s %10s %8s %9s %9s %9s %9s %9s%n", "operación", "llamadas", "ops/s",
+                "error %", "media ms", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        long totalLlamadas = 0;
+        long totalErrores = 0;
+        for (Operacion operacion : configuracion.getMezcla().keySet()) {
+            MetricaOperacion metrica = RegistroMetricas.obtener("carga." + operacion.getNombre());
+            long llamadas = metrica.getLlamadas();
+            totalLlamadas += llamadas;
+            totalErrores += metrica.getErrores();
+            sb.append(String.format("%-16s %10d %10.1f %8.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n", operacion.getNombre(),
+                    llamadas, llamadas / segundos, porcentaje(metrica.getErrores(), llamadas), metrica.getMediaMs(),
+                    metrica.getP50Ms(), metrica.getP95Ms(), metrica.getP99Ms(), metrica.getMaximoMs()));
+        }
+        sb.append(String.format("%-16s %10d %10.1f %8.2f%n", "total", totalLlamadas, totalLlamadas / segundos,
+                porcentaje(totalErrores, totalLlamadas)));
+        return sb.toString();
+    }
+
+    private static double porcentaje(long parte, long total) {
+        return total == 0 ? 0.0 : 100.0 * parte / total;
+    }
+}
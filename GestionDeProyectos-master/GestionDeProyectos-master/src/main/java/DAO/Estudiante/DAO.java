@@ -1,7 +1,12 @@
 package DAO.Estudiante;
 
+import DAO.ResultadoActualizacion;
 import Modelos.Estudiante;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Interfaz que define los métodos para interactuar con la base de datos de estudiantes.
  * Proporciona métodos para registrar, actualizar y obtener la información de los estudiantes,
@@ -20,7 +25,20 @@ public interface DAO {
     boolean postRegistrar(String email, String contrasena, String matricula);
 
     /**
-     * Actualiza los datos personales de un estudiante existente en la base de datos.
+     * Registra varios estudiantes usando inserciones por lotes.
+     *
+     * Los estudiantes se insertan en bloques de {@code tamanoLote} filas; cada bloque se confirma en su
+     * propia transacción, de modo que un error en un bloque no revierte los bloques ya confirmados.
+     *
+     * @param estudiantes Los estudiantes a registrar, con correo, contraseña en texto plano y matrícula.
+     * @param tamanoLote  Número de estudiantes por transacción.
+     * @return Un resultado por cada estudiante, en el mismo orden que la lista de entrada.
+     */
+    List<ResultadoRegistro> registrarEstudiantes(List<Estudiante> estudiantes, int tamanoLote);
+
+    /**
+     * Actualiza los datos personales de un estudiante existente en la base de datos. Se escriben los cuatro
+     * campos; un valor null deja la columna en NULL.
      *
      * @param email      El correo electrónico actualizado del estudiante.
      * @param telefono   El número de teléfono actualizado del estudiante.
@@ -32,6 +50,43 @@ public interface DAO {
     boolean updateActualizarDatosPersonales(String email, String telefono, String nombre,
                                             String direccion, String genero);
 
+    /**
+     * Guarda los datos personales que cambiaron en un estudiante, según {@link Estudiante#getCamposModificados()}.
+     *
+     * Solo se escriben el nombre, el teléfono, la dirección y el género, y únicamente si están marcados como
+     * modificados; un campo modificado a null se guarda como NULL. La tabla {@code estudiante} no se toca si
+     * el género no cambió. El estudiante se identifica
+     * por su correo (y por su id, si lo tiene). Si no hay cambios, no se consulta la base de datos. Tras
+     * guardar, los cambios del objeto se limpian.
+     *
+     * @param estudiante El estudiante, normalmente obtenido con {@link #getEstudiante(String)} y modificado después.
+     * @return true si la actualización fue exitosa o no había cambios, false si ocurrió algún error.
+     */
+    boolean updateActualizarDatosPersonales(Estudiante estudiante);
+
+    /**
+     * Actualiza el nombre, el teléfono, la dirección y el género de varios estudiantes en una sola
+     * transacción, como {@link #updateActualizarDatosPersonales(String, String, String, String, String)}
+     * para cada uno. Si la transacción falla, no se guarda ninguno.
+     *
+     * @param estudiantes Los datos de cada estudiante, identificado por su correo; los correos no se repiten.
+     * @return Por cada estudiante, en el mismo orden, true si se actualizó.
+     */
+    List<Boolean> actualizarDatosPersonales(List<Estudiante> estudiantes);
+
+    /**
+     * Guarda los datos personales y el proyecto marcados como modificados en el estudiante, solo si la fila
+     * conserva la versión con la que se leyó ({@link Estudiante#getVersion()}).
+     *
+     * Todas las escrituras sobre un estudiante, condicionadas o no, aumentan su versión, de modo que un
+     * {@link ResultadoActualizacion#CONFLICTO} indica que alguien más lo modificó después de leerlo. Con
+     * {@link ResultadoActualizacion#EXITO} la versión del objeto aumenta en uno y sus cambios se limpian.
+     *
+     * @param estudiante El estudiante, obtenido con {@link #getEstudiante(String)} y modificado después.
+     * @return El resultado de la actualización.
+     */
+    ResultadoActualizacion actualizarConVersion(Estudiante estudiante);
+
     /**
      * Obtiene la información de un estudiante en base a su correo electrónico.
      *
@@ -41,6 +96,23 @@ public interface DAO {
      */
     Estudiante getEstudiante(String email);
 
+    /**
+     * Obtiene varios estudiantes a partir de sus correos electrónicos con pocas consultas.
+     *
+     * @param emails Los correos de los estudiantes a buscar. Los repetidos se consultan una sola vez.
+     * @return Un mapa de correo a {@link Estudiante} con los estudiantes encontrados; los correos que no
+     *         corresponden a un estudiante no aparecen en el mapa.
+     */
+    Map<String, Estudiante> getEstudiantes(Collection<String> emails);
+
+    /**
+     * Obtiene el correo, el nombre y la matrícula de todos los estudiantes, para construir índices de
+     * búsqueda. Los demás datos no se consultan.
+     *
+     * @return Los estudiantes registrados, o los que se alcanzaron a leer si ocurrió un error.
+     */
+    List<Estudiante> getResumenEstudiantes();
+
     /**
      * Asigna un proyecto específico a un estudiante en el sistema.
      *
@@ -49,4 +121,16 @@ public interface DAO {
      * @return true si la asignación fue exitosa, false si hubo algún error durante el proceso.
      */
     boolean asignarProyectoAEstudiante(String email, int idProyecto);
+
+    /**
+     * Asigna un proyecto a cada estudiante indicado en una sola transacción.
+     *
+     * Los estudiantes que no existen o cuyo proyecto no existe se reportan sin detener al resto. Si la
+     * transacción falla, no se asigna ningún proyecto y los demás estudiantes se reportan como
+     * {@link ResultadoAsignacion#ERROR}. Cada asignación aumenta la versión del estudiante.
+     *
+     * @param asignaciones El {@code id_proyecto} a asignar a cada correo de estudiante.
+     * @return Un resultado por cada correo, en el orden de iteración del mapa de entrada.
+     */
+    Map<String, ResultadoAsignacion> asignarProyectos(Map<String, Integer> asignaciones);
 }
@@ -0,0 +1,276 @@
+package DAO.Estudiante;
+
+import DAO.Memoria.AlmacenMemoria;
+import DAO.Memoria.AlmacenMemoria.FilaUsuario;
+import DAO.ResultadoActualizacion;
+import Modelos.Campo;
+import Modelos.Estudiante;
+import Seguridad.ServicioHashing;
+
+import static Seguridad.PasswordHasher.encodePassword;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementación de la interfaz {@link DAO} sobre {@link AlmacenMemoria}, sin base de datos.
+ *
+ * Devuelve los mismos resultados que {@link DAOimp}: las contraseñas se encriptan igual, los correos
+ * y matrículas duplicados se rechazan y cada operación es atómica. A diferencia de {@link DAOimp}, no
+ * imprime un mensaje por cada operación exitosa, para que las pruebas de carga no midan la consola; esas
+ * operaciones ya se cuentan en {@link Metricas.RegistroMetricas}.
+ */
+public class DAOMemoria implements DAO {
+
+    private final AlmacenMemoria almacen;
+
+    /**
+     * Crea el DAO sobre el almacén compartido de la aplicación.
+     */
+    public DAOMemoria() {
+        this(AlmacenMemoria.getInstancia());
+    }
+
+    /**
+     * @param almacen El almacén en memoria a utilizar.
+     */
+    public DAOMemoria(AlmacenMemoria almacen) {
+        this.almacen = almacen;
+    }
+
+    @Override
+    public boolean postRegistrar(String email, String contrasena, String matricula) {
+        try {
+            almacen.insertarEstudiante(email, encodePassword(contrasena), matricula);
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error al registrar el estudiante: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Registra varios estudiantes. Las contraseñas se encriptan en paralelo con {@link ServicioHashing}
+     * y cada estudiante se inserta de forma independiente, como en el reintento fila por fila de
+     * {@link DAOimp}.
+     */
+    @Override
+    public List<ResultadoRegistro> registrarEstudiantes(List<Estudiante> estudiantes, int tamanoLote) {
+        List<String> contrasenas = new ArrayList<>(estudiantes.size());
+        for (Estudiante estudiante : estudiantes) {
+            contrasenas.add(estudiante.getContrasena());
+        }
+        List<String> hashes = ServicioHashing.getInstancia().encodeTodos(contrasenas);
+
+        List<ResultadoRegistro> resultados = new ArrayList<>(estudiantes.size());
+        for (int i = 0; i < estudiantes.size(); i++) {
+            Estudiante estudiante = estudiantes.get(i);
+            try {
+                int idUsuario = almacen.insertarEstudiante(estudiante.getEmail(), hashes.get(i), estudiante.getMatricula());
+                resultados.add(ResultadoRegistro.exito(estudiante.getEmail(), idUsuario));
+            } catch (SQLException e) {
+                resultados.add(ResultadoRegistro.fallo(estudiante.getEmail(), e.getMessage()));
+            }
+        }
+        return resultados;
+    }
+
+    @Override
+    public boolean updateActualizarDatosPersonales(String email, String telefono, String nombre,
+                                                   String direccion, String genero) {
+        if (!almacen.actualizarDatosPersonales(email, nombre, telefono, direccion, genero)) {
+            System.err.println("Error al actualizar el estudiante: No se encontró un estudiante con el email proporcionado.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * El almacenamiento en memoria no tiene transacciones: cada estudiante se actualiza por separado.
+     */
+    @Override
+    public List<Boolean> actualizarDatosPersonales(List<Estudiante> estudiantes) {
+        List<Boolean> resultados = new ArrayList<>(estudiantes.size());
+        for (Estudiante estudiante : estudiantes) {
+            resultados.add(almacen.actualizarDatosPersonales(estudiante.getEmail(), estudiante.getNombre(),
+                    estudiante.getTelefono(), estudiante.getDireccion(), estudiante.getGenero()));
+        }
+        return resultados;
+    }
+
+    /**
+     * Guarda solo los datos personales marcados como modificados, incluidos los modificados a null; los
+     * demás conservan su valor actual.
+     */
+    @Override
+    public boolean updateActualizarDatosPersonales(Estudiante estudiante) {
+        Set<Campo> campos = camposPersonalesModificados(estudiante);
+        if (campos.isEmpty()) {
+            return true;
+        }
+        boolean actualizado = almacen.actualizarEstudiante(estudiante.getEmail(), null,
+                f -> f.conDatosPersonales(campos, estudiante.getNombre(), estudiante.getTelefono(),
+                        estudiante.getDireccion(), estudiante.getGenero())).isExitoso();
+        if (!actualizado) {
+            System.err.println("Error al actualizar el estudiante: No se encontró un estudiante con el email proporcionado.");
+            return false;
+        }
+        estudiante.limpiarCambios();
+        return true;
+    }
+
+    private static Set<Campo> camposPersonalesModificados(Estudiante estudiante) {
+        Set<Campo> campos = EnumSet.noneOf(Campo.class);
+        for (Campo campo : AlmacenMemoria.CAMPOS_PERSONALES) {
+            if (estudiante.isModificado(campo)) {
+                campos.add(campo);
+            }
+        }
+        return campos;
+    }
+
+    /**
+     * Guarda los cambios del estudiante en un solo reemplazo atómico de la fila, si conserva la versión leída.
+     */
+    @Override
+    public ResultadoActualizacion actualizarConVersion(Estudiante estudiante) {
+        Set<Campo> campos = camposPersonalesModificados(estudiante);
+        boolean personales = !campos.isEmpty();
+        boolean proyecto = estudiante.isModificado(Campo.PROYECTO);
+        if (!personales && !proyecto) {
+            return ResultadoActualizacion.EXITO;
+        }
+        Integer idProyecto = estudiante.getProyectoId() == null ? null : Integer.valueOf(estudiante.getProyectoId());
+        if (proyecto && idProyecto != null) {
+            try {
+                almacen.verificarProyecto(idProyecto);
+            } catch (SQLException e) {
+                System.err.println("Error al actualizar el estudiante: " + e.getMessage());
+                return ResultadoActualizacion.ERROR;
+            }
+        }
+
+        ResultadoActualizacion resultado = almacen.actualizarEstudiante(estudiante.getEmail(), estudiante.getVersion(), f -> {
+            FilaUsuario nueva = !personales ? f : f.conDatosPersonales(campos, estudiante.getNombre(),
+                    estudiante.getTelefono(), estudiante.getDireccion(), estudiante.getGenero());
+            return proyecto ? nueva.conProyecto(idProyecto) : nueva;
+        });
+        if (resultado.isExitoso()) {
+            estudiante.setVersion(estudiante.getVersion() + 1);
+            estudiante.limpiarCambios();
+        } else {
+            System.err.println("Error al actualizar el estudiante: " + resultado);
+        }
+        return resultado;
+    }
+
+    @Override
+    public Estudiante getEstudiante(String email) {
+        FilaUsuario fila = almacen.buscarPorEmail(email);
+        if (fila == null || !fila.esEstudiante()) {
+            return null;
+        }
+        Estudiante estudiante = new Estudiante();
+        estudiante.setId(String.valueOf(fila.idUsuario()));
+        estudiante.setEmail(fila.email());
+        estudiante.setNombre(fila.nombre());
+        estudiante.setTelefono(fila.telefono());
+        estudiante.setDireccion(fila.direccion());
+        estudiante.setVersion(fila.version());
+        estudiante.setGenero(fila.genero());
+        estudiante.setMatricula(fila.matricula());
+        estudiante.setProyectoId(fila.idProyecto() == null ? null : String.valueOf(fila.idProyecto()));
+        estudiante.limpiarCambios();
+        return estudiante;
+    }
+
+    @Override
+    public Map<String, Estudiante> getEstudiantes(Collection<String> emails) {
+        Map<String, Estudiante> estudiantes = new HashMap<>();
+        for (String email : emails) {
+            Estudiante estudiante = getEstudiante(email);
+            if (estudiante != null) {
+                estudiantes.put(email, estudiante);
+            }
+        }
+        return estudiantes;
+    }
+
+    @Override
+    public List<Estudiante> getResumenEstudiantes() {
+        List<Estudiante> estudiantes = new ArrayList<>();
+        for (FilaUsuario fila : almacen.listarEstudiantes()) {
+            Estudiante estudiante = new Estudiante();
+            estudiante.setEmail(fila.email());
+            estudiante.setNombre(fila.nombre());
+            estudiante.setMatricula(fila.matricula());
+            estudiante.limpiarCambios();
+            estudiantes.add(estudiante);
+        }
+        return estudiantes;
+    }
+
+    @Override
+    public boolean asignarProyectoAEstudiante(String email, int idProyecto) {
+        try {
+            ResultadoActualizacion resultado = almacen.asignarProyecto(email, idProyecto);
+            if (resultado == ResultadoActualizacion.SIN_CUPO) {
+                throw new SQLException("El proyecto " + idProyecto + " no tiene lugares disponibles.");
+            }
+            if (!resultado.isExitoso()) {
+                throw new SQLException("No se encontró un estudiante con el email proporcionado.");
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error al asignar el proyecto: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Asigna cada proyecto por separado, fila por fila en el orden del mapa. El almacén no tiene transacciones
+     * de varias filas, así que cada asignación se confirma sola y otros hilos pueden ver la asignación a
+     * medias. Tampoco se reservan los lugares de todo el grupo antes de escribir: el lugar que libera un
+     * estudiante que cambia de proyecto queda disponible de inmediato para los siguientes del mapa, mientras
+     * que {@link DAOimp} lo libera al terminar. Por eso, con proyectos llenos, un estudiante que aquí obtiene
+     * lugar puede recibir {@link ResultadoAsignacion#SIN_CUPO} con {@link DAOimp}.
+     */
+    @Override
+    public Map<String, ResultadoAsignacion> asignarProyectos(Map<String, Integer> asignaciones) {
+        Map<String, ResultadoAsignacion> resultados = new LinkedHashMap<>(asignaciones.size() * 2);
+        for (Map.Entry<String, Integer> asignacion : asignaciones.entrySet()) {
+            ResultadoAsignacion resultado;
+            FilaUsuario fila = almacen.buscarPorEmail(asignacion.getKey());
+            if (fila == null || !fila.esEstudiante()) {
+                resultado = ResultadoAsignacion.NO_ENCONTRADO;
+            } else if (asignacion.getValue() == null) {
+                resultado = ResultadoAsignacion.PROYECTO_INEXISTENTE;
+            } else {
+                try {
+                    switch (almacen.asignarProyecto(asignacion.getKey(), asignacion.getValue())) {
+                        case EXITO:
+                            resultado = ResultadoAsignacion.ASIGNADO;
+                            break;
+                        case SIN_CUPO:
+                            resultado = ResultadoAsignacion.SIN_CUPO;
+                            break;
+                        default:
+                            resultado = ResultadoAsignacion.NO_ENCONTRADO;
+                    }
+                } catch (SQLException e) {
+                    resultado = ResultadoAsignacion.PROYECTO_INEXISTENTE;
+                }
+            }
+            resultados.put(asignacion.getKey(), resultado);
+        }
+        return resultados;
+    }
+
+}
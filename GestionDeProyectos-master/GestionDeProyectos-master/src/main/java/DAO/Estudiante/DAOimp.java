@@ -1,7 +1,12 @@
 package DAO.Estudiante;
 
+import Cache.CacheIdentidades;
+import DAO.ResultadoActualizacion;
 import DBConeccion.SQLConeccion;
+import DBConeccion.SentenciasSQL;
+import Modelos.Campo;
 import Modelos.Estudiante;
+import Seguridad.ServicioHashing;
 
 import static Seguridad.PasswordHasher.encodePassword;
 
@@ -9,6 +14,24 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Implementación de la interfaz {@link DAO}. Esta clase proporciona los métodos necesarios
@@ -17,6 +40,17 @@ import java.sql.SQLException;
  */
 public class DAOimp implements DAO {
 
+    // Campos que se pueden cambiar con la actualización de datos personales.
+    private static final Set<Campo> CAMPOS_PERSONALES =
+            EnumSet.of(Campo.NOMBRE, Campo.TELEFONO, Campo.DIRECCION, Campo.GENERO);
+
+    // Campos que se pueden cambiar con la actualización condicionada a la versión.
+    private static final Set<Campo> CAMPOS_VERSIONADOS =
+            EnumSet.of(Campo.NOMBRE, Campo.TELEFONO, Campo.DIRECCION, Campo.GENERO, Campo.PROYECTO);
+
+    // Filas por viaje al servidor al leer el resumen de todos los estudiantes.
+    private static final int TAMANO_FETCH_RESUMEN = Integer.getInteger("indice.fetch", 1000);
+
     /**
      * Registra un nuevo estudiante en el sistema.
      *
@@ -29,8 +63,8 @@ public class DAOimp implements DAO {
     public boolean postRegistrar(String email, String contrasena, String matricula) {
 
         String ContrasenaHasheada = encodePassword(contrasena);
-        String insertUsuarioBase = "INSERT INTO usuario_base (email, contrasena) VALUES (?, ?)";
-        String insertEstudiante = "INSERT INTO estudiante (id_usuario, matricula) VALUES (?, ?)";
+        String insertUsuarioBase = SentenciasSQL.INSERTAR_USUARIO_BASE;
+        String insertEstudiante = SentenciasSQL.INSERTAR_ESTUDIANTE;
 
         Connection conn = null;
         PreparedStatement stmtUsuarioBase = null;
@@ -60,6 +94,7 @@ public class DAOimp implements DAO {
             stmtEstudiante.executeUpdate();
 
             conn.commit();
+            CacheIdentidades.registrar(email, idUsuario);
             System.out.println("Estudiante registrado exitosamente.");
             return true;
 
@@ -78,6 +113,7 @@ public class DAOimp implements DAO {
             try {
                 if (stmtUsuarioBase != null) stmtUsuarioBase.close();
                 if (stmtEstudiante != null) stmtEstudiante.close();
+                if (conn != null) conn.close(); // Devuelve la conexión al pool.
             } catch (SQLException e) {
                 e.printStackTrace();
             }
@@ -85,7 +121,189 @@ public class DAOimp implements DAO {
     }
 
     /**
-     * Actualiza los datos personales de un estudiante existente.
+     * Registra varios estudiantes usando inserciones por lotes.
+     *
+     * Por cada bloque se envía un lote de inserciones a {@code usuario_base}, se leen todas las claves
+     * generadas de una vez y se envía el lote correspondiente a {@code estudiante}. Si el bloque falla
+     * (por ejemplo, por un correo duplicado) se revierte y se reintenta fila por fila para saber qué
+     * estudiantes fallaron sin perder los demás.
+     *
+     * Las contraseñas se encriptan en paralelo con {@link ServicioHashing}; el bloque siguiente se encripta
+     * mientras se inserta el actual. Si falla la encriptación de un bloque, sus estudiantes se informan como
+     * fallidos y se continúa con el bloque siguiente.
+     *
+     * @param estudiantes Los estudiantes a registrar, con correo, contraseña en texto plano y matrícula.
+     * @param tamanoLote  Número de estudiantes por transacción.
+     * @return Un resultado por cada estudiante, en el mismo orden que la lista de entrada.
+     */
+    @Override
+    public List<ResultadoRegistro> registrarEstudiantes(List<Estudiante> estudiantes, int tamanoLote) {
+        int tamano = Math.max(1, tamanoLote);
+        List<ResultadoRegistro> resultados = new ArrayList<>(estudiantes.size());
+        CompletableFuture<List<String>> hashesSiguientes = null;
+
+        try (Connection conn = SQLConeccion.obtenerConeccion()) {
+            conn.setAutoCommit(false);
+
+            hashesSiguientes = encriptarLote(estudiantes, 0, tamano);
+            for (int inicio = 0; inicio < estudiantes.size(); inicio += tamano) {
+                List<Estudiante> lote = estudiantes.subList(inicio, Math.min(inicio + tamano, estudiantes.size()));
+                List<String> hashes = null;
+                String errorHashes = null;
+                try {
+                    hashes = hashesSiguientes.join();
+                } catch (CompletionException e) {
+                    errorHashes = "No se pudieron encriptar las contraseñas: " + e.getCause().getMessage();
+                }
+                hashesSiguientes = encriptarLote(estudiantes, inicio + tamano, tamano);
+                if (hashes == null) {
+                    System.err.println("Error en el lote de registro: " + errorHashes);
+                    for (Estudiante estudiante : lote) {
+                        resultados.add(ResultadoRegistro.fallo(estudiante.getEmail(), errorHashes));
+                    }
+                    continue;
+                }
+
+                try {
+                    List<ResultadoRegistro> insertados = insertarLote(conn, lote, hashes);
+                    conn.commit();
+                    registrarIdentidades(insertados);
+                    resultados.addAll(insertados);
+                } catch (SQLException e) {
+                    conn.rollback();
+                    System.err.println("Error en el lote de registro, se reintenta fila por fila: " + e.getMessage());
+                    List<ResultadoRegistro> insertados = insertarFilaPorFila(conn, lote, hashes);
+                    registrarIdentidades(insertados);
+                    resultados.addAll(insertados);
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error al registrar los estudiantes: " + e.getMessage());
+            if (hashesSiguientes != null) {
+                // El bloque que se estaba encriptando ya no se insertará.
+                hashesSiguientes.cancel(false);
+            }
+            for (int i = resultados.size(); i < estudiantes.size(); i++) {
+                resultados.add(ResultadoRegistro.fallo(estudiantes.get(i).getEmail(), e.getMessage()));
+            }
+        }
+        return resultados;
+    }
+
+    /**
+     * Guarda en {@link CacheIdentidades} el identificador de los estudiantes registrados.
+     */
+    private static void registrarIdentidades(List<ResultadoRegistro> resultados) {
+        for (ResultadoRegistro resultado : resultados) {
+            if (resultado.isExitoso()) {
+                CacheIdentidades.registrar(resultado.getEmail(), resultado.getIdUsuario());
+            }
+        }
+    }
+
+    /**
+     * Envía a encriptar las contraseñas del bloque que empieza en {@code inicio}.
+     */
+    private CompletableFuture<List<String>> encriptarLote(List<Estudiante> estudiantes, int inicio, int tamano) {
+        List<String> contrasenas = new ArrayList<>(tamano);
+        for (int i = inicio; i < Math.min(inicio + tamano, estudiantes.size()); i++) {
+            contrasenas.add(estudiantes.get(i).getContrasena());
+        }
+        try {
+            return ServicioHashing.getInstancia().encodeLoteOrdenado(contrasenas);
+        } catch (RuntimeException e) {
+            // Por ejemplo, si el servicio de hashing ya se cerró; el error se informa con el bloque.
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Inserta un bloque completo con dos lotes JDBC. No confirma la transacción.
+     */
+    private List<ResultadoRegistro> insertarLote(Connection conn, List<Estudiante> lote,
+                                                 List<String> hashes) throws SQLException {
+        int[] ids = new int[lote.size()];
+
+        try (PreparedStatement stmtUsuarioBase = conn.prepareStatement(SentenciasSQL.INSERTAR_USUARIO_BASE,
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < lote.size(); i++) {
+                stmtUsuarioBase.setString(1, lote.get(i).getEmail());
+                stmtUsuarioBase.setString(2, hashes.get(i));
+                stmtUsuarioBase.addBatch();
+            }
+            stmtUsuarioBase.executeBatch();
+
+            // Las claves generadas llegan en el mismo orden en que se agregaron las filas al lote.
+            try (ResultSet rs = stmtUsuarioBase.getGeneratedKeys()) {
+                int i = 0;
+                while (rs.next() && i < ids.length) {
+                    ids[i++] = rs.getInt(1);
+                }
+                if (i != ids.length) {
+                    throw new SQLException("Se esperaban " + ids.length + " claves generadas y se obtuvieron " + i + ".");
+                }
+            }
+        }
+
+        try (PreparedStatement stmtEstudiante = conn.prepareStatement(SentenciasSQL.INSERTAR_ESTUDIANTE)) {
+            for (int i = 0; i < lote.size(); i++) {
+                stmtEstudiante.setInt(1, ids[i]);
+                stmtEstudiante.setString(2, lote.get(i).getMatricula());
+                stmtEstudiante.addBatch();
+            }
+            stmtEstudiante.executeBatch();
+        }
+
+        List<ResultadoRegistro> resultados = new ArrayList<>(lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            resultados.add(ResultadoRegistro.exito(lote.get(i).getEmail(), ids[i]));
+        }
+        return resultados;
+    }
+
+    /**
+     * Inserta cada estudiante del bloque en su propia transacción para aislar las filas con error.
+     */
+    private List<ResultadoRegistro> insertarFilaPorFila(Connection conn, List<Estudiante> lote,
+                                                        List<String> hashes) throws SQLException {
+        List<ResultadoRegistro> resultados = new ArrayList<>(lote.size());
+
+        for (int i = 0; i < lote.size(); i++) {
+            Estudiante estudiante = lote.get(i);
+            try (PreparedStatement stmtUsuarioBase = conn.prepareStatement(SentenciasSQL.INSERTAR_USUARIO_BASE,
+                         Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement stmtEstudiante = conn.prepareStatement(SentenciasSQL.INSERTAR_ESTUDIANTE)) {
+
+                stmtUsuarioBase.setString(1, estudiante.getEmail());
+                stmtUsuarioBase.setString(2, hashes.get(i));
+                stmtUsuarioBase.executeUpdate();
+
+                int idUsuario;
+                try (ResultSet rs = stmtUsuarioBase.getGeneratedKeys()) {
+                    if (!rs.next()) {
+                        throw new SQLException("No se obtuvo el ID generado.");
+                    }
+                    idUsuario = rs.getInt(1);
+                }
+
+                stmtEstudiante.setInt(1, idUsuario);
+                stmtEstudiante.setString(2, estudiante.getMatricula());
+                stmtEstudiante.executeUpdate();
+
+                conn.commit();
+                resultados.add(ResultadoRegistro.exito(estudiante.getEmail(), idUsuario));
+            } catch (SQLException e) {
+                conn.rollback();
+                resultados.add(ResultadoRegistro.fallo(estudiante.getEmail(), e.getMessage()));
+            }
+        }
+        return resultados;
+    }
+
+    /**
+     * Actualiza los datos personales de un estudiante existente. Se escriben las cuatro columnas; para
+     * escribir solo las que cambiaron use {@link #updateActualizarDatosPersonales(Estudiante)}.
      *
      * @param email      El correo electrónico actualizado del estudiante.
      * @param telefono   El número de teléfono actualizado del estudiante.
@@ -97,9 +315,164 @@ public class DAOimp implements DAO {
     @Override
     public boolean updateActualizarDatosPersonales(String email, String telefono, String nombre,
                                                    String direccion, String genero) {
+        Estudiante datos = new Estudiante();
+        datos.setTelefono(telefono);
+        datos.setNombre(nombre);
+        datos.setDireccion(direccion);
+        datos.setGenero(genero);
+        return actualizarCampos(email, null, datos, CAMPOS_PERSONALES, null).isExitoso();
+    }
+
+    /**
+     * Resuelve los {@code id_usuario} con consultas {@code IN} y envía las actualizaciones de
+     * {@code usuario_base} y de {@code estudiante} como dos lotes de sentencias, en orden de
+     * {@code id_usuario} para que dos grupos simultáneos bloqueen las filas en el mismo orden.
+     */
+    @Override
+    public List<Boolean> actualizarDatosPersonales(List<Estudiante> estudiantes) {
+        List<Boolean> resultados = new ArrayList<>(Collections.nCopies(estudiantes.size(), false));
+        if (estudiantes.isEmpty()) {
+            return resultados;
+        }
+
+        Connection conn = null;
+        try {
+            conn = SQLConeccion.obtenerConeccion();
+            conn.setAutoCommit(false);
+
+            List<String> emails = new ArrayList<>(estudiantes.size());
+            for (Estudiante estudiante : estudiantes) {
+                emails.add(estudiante.getEmail());
+            }
+            Map<String, Integer> ids = buscarIdsEstudiantes(conn, emails);
+            // Posiciones de los estudiantes existentes, ordenadas por id_usuario.
+            List<Integer> orden = new ArrayList<>(ids.size());
+            for (int i = 0; i < estudiantes.size(); i++) {
+                if (ids.containsKey(estudiantes.get(i).getEmail())) {
+                    orden.add(i);
+                }
+            }
+            orden.sort(Comparator.comparing(i -> ids.get(estudiantes.get(i).getEmail())));
+
+            try (PreparedStatement stmtUsuarioBase = conn.prepareStatement(
+                         SentenciasSQL.actualizarUsuarioBase(true, true, true, false));
+                 PreparedStatement stmtEstudiante = conn.prepareStatement(SentenciasSQL.actualizarEstudiante(true, false))) {
+                for (int i : orden) {
+                    Estudiante estudiante = estudiantes.get(i);
+                    int idUsuario = ids.get(estudiante.getEmail());
+                    stmtUsuarioBase.setString(1, estudiante.getNombre());
+                    stmtUsuarioBase.setString(2, estudiante.getTelefono());
+                    stmtUsuarioBase.setString(3, estudiante.getDireccion());
+                    stmtUsuarioBase.setInt(4, idUsuario);
+                    stmtUsuarioBase.addBatch();
+                    stmtEstudiante.setString(1, estudiante.getGenero());
+                    stmtEstudiante.setInt(2, idUsuario);
+                    stmtEstudiante.addBatch();
+                }
+                int[] filasUsuarioBase = stmtUsuarioBase.executeBatch();
+                int[] filasEstudiante = stmtEstudiante.executeBatch();
+                for (int j = 0; j < orden.size(); j++) {
+                    // SUCCESS_NO_INFO (-2) cuenta como actualizado: el controlador no informa las filas.
+                    resultados.set(orden.get(j), filasUsuarioBase[j] != 0 && filasEstudiante[j] != 0);
+                }
+            }
+            conn.commit();
+
+            for (Map.Entry<String, Integer> id : ids.entrySet()) {
+                CacheIdentidades.registrar(id.getKey(), id.getValue());
+            }
+            System.out.println("Grupo de " + orden.size() + " de " + estudiantes.size()
+                    + " estudiantes actualizado.");
+
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    rollbackEx.printStackTrace();
+                }
+            }
+            Collections.fill(resultados, false);
+            System.err.println("Error al actualizar el grupo de estudiantes: " + e.getMessage());
+
+        } finally {
+            try {
+                if (conn != null) conn.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+        return resultados;
+    }
+
+    /**
+     * Actualiza solo los datos personales marcados como modificados en el estudiante. La tabla
+     * {@code estudiante} se actualiza únicamente si cambió el género.
+     *
+     * @param estudiante El estudiante con los cambios a guardar.
+     * @return true si los datos se actualizaron correctamente o no había cambios, false si hubo algún error.
+     */
+    @Override
+    public boolean updateActualizarDatosPersonales(Estudiante estudiante) {
+        Set<Campo> campos = camposModificados(estudiante, CAMPOS_PERSONALES);
+        if (campos.isEmpty()) {
+            System.out.println("El estudiante no tiene cambios que guardar.");
+            return true;
+        }
+        boolean actualizado = actualizarCampos(estudiante.getEmail(), estudiante.getId(), estudiante, campos, null)
+                .isExitoso();
+        if (actualizado) {
+            estudiante.limpiarCambios();
+        }
+        return actualizado;
+    }
 
-        String updateUsuarioBase = "UPDATE usuario_base SET nombre = ?, telefono = ?, direccion = ? WHERE email = ?";
-        String updateEstudiante = "UPDATE estudiante SET genero = ? WHERE id_usuario = (SELECT id_usuario FROM usuario_base WHERE email = ?)";
+    /**
+     * Guarda los datos personales y el proyecto modificados en el estudiante, condicionando la escritura a
+     * que la fila conserve la versión leída.
+     *
+     * @param estudiante El estudiante leído con {@link #getEstudiante(String)} y modificado después.
+     * @return El resultado de la actualización; con {@code EXITO} la versión del estudiante aumenta en uno.
+     */
+    @Override
+    public ResultadoActualizacion actualizarConVersion(Estudiante estudiante) {
+        Set<Campo> campos = camposModificados(estudiante, CAMPOS_VERSIONADOS);
+        if (campos.isEmpty()) {
+            System.out.println("El estudiante no tiene cambios que guardar.");
+            return ResultadoActualizacion.EXITO;
+        }
+        ResultadoActualizacion resultado = actualizarCampos(estudiante.getEmail(), estudiante.getId(), estudiante,
+                campos, estudiante.getVersion());
+        if (resultado.isExitoso()) {
+            estudiante.setVersion(estudiante.getVersion() + 1);
+            estudiante.limpiarCambios();
+        }
+        return resultado;
+    }
+
+    private static Set<Campo> camposModificados(Estudiante estudiante, Set<Campo> permitidos) {
+        Set<Campo> campos = EnumSet.noneOf(Campo.class);
+        campos.addAll(estudiante.getCamposModificados());
+        campos.retainAll(permitidos);
+        return campos;
+    }
+
+    /**
+     * Escribe las columnas indicadas de {@code usuario_base} y, si el género o el proyecto están entre ellas,
+     * de {@code estudiante}. La fila de {@code usuario_base} siempre se actualiza porque guarda la versión
+     * del estudiante. Cuando se tocan las dos tablas se hace en una sola transacción; si solo se toca una,
+     * la sentencia se confirma sola. Si cambia el proyecto, en la misma transacción se reserva un lugar en
+     * el nuevo y se libera el del anterior (ver {@link #moverLugar}).
+     *
+     * @param idConocido       El {@code id_usuario} del estudiante si ya se conoce, o null/vacío para
+     *                         resolverlo con {@link CacheIdentidades} o por correo.
+     * @param datos            El estudiante del que se toman los valores a escribir.
+     * @param versionEsperada  La versión que debe tener la fila, o null para actualizar sin condición.
+     */
+    private ResultadoActualizacion actualizarCampos(String email, String idConocido, Estudiante datos,
+                                                    Set<Campo> campos, Integer versionEsperada) {
+        boolean actualizaGenero = campos.contains(Campo.GENERO);
+        boolean actualizaProyecto = campos.contains(Campo.PROYECTO);
 
         Connection conn = null;
         PreparedStatement stmtUsuarioBase = null;
@@ -107,45 +480,76 @@ public class DAOimp implements DAO {
 
         try {
             conn = SQLConeccion.obtenerConeccion();
-            conn.setAutoCommit(false); // Desactiva auto-commit para manejo seguro de transacciones.
+            // Solo se necesita una transacción explícita cuando se actualizan las dos tablas.
+            conn.setAutoCommit(!(actualizaGenero || actualizaProyecto));
 
-            // Actualizar datos en usuario_base.
-            stmtUsuarioBase = conn.prepareStatement(updateUsuarioBase);
-            stmtUsuarioBase.setString(1, nombre);
-            stmtUsuarioBase.setString(2, telefono);
-            stmtUsuarioBase.setString(3, direccion);
-            stmtUsuarioBase.setString(4, email);
-            int usuarioBaseRows = stmtUsuarioBase.executeUpdate();
+            stmtUsuarioBase = conn.prepareStatement(SentenciasSQL.actualizarUsuarioBase(campos.contains(Campo.NOMBRE),
+                    campos.contains(Campo.TELEFONO), campos.contains(Campo.DIRECCION), versionEsperada != null));
+            int parametro = 1;
+            if (campos.contains(Campo.NOMBRE)) stmtUsuarioBase.setString(parametro++, datos.getNombre());
+            if (campos.contains(Campo.TELEFONO)) stmtUsuarioBase.setString(parametro++, datos.getTelefono());
+            if (campos.contains(Campo.DIRECCION)) stmtUsuarioBase.setString(parametro++, datos.getDireccion());
+            if (versionEsperada != null) stmtUsuarioBase.setInt(parametro + 1, versionEsperada);
 
-            if (usuarioBaseRows == 0) {
-                throw new SQLException("No se encontró un usuario con el email proporcionado.");
+            int idUsuario = ejecutarPorId(conn, stmtUsuarioBase, parametro, email, idConocido);
+            if (idUsuario == 0) {
+                // Con versión, la fila puede existir con otra versión: eso es un conflicto, no una ausencia.
+                ResultadoActualizacion resultado = versionEsperada != null && existeEstudiante(conn, email)
+                        ? ResultadoActualizacion.CONFLICTO : ResultadoActualizacion.NO_ENCONTRADO;
+                System.err.println(resultado == ResultadoActualizacion.CONFLICTO
+                        ? "Conflicto al actualizar el estudiante: otro usuario lo modificó."
+                        : "Error al actualizar el estudiante: No se encontró un estudiante con el email proporcionado.");
+                if (!conn.getAutoCommit()) {
+                    conn.rollback();
+                }
+                return resultado;
             }
 
-            // Actualizar datos en estudiante.
-            stmtEstudiante = conn.prepareStatement(updateEstudiante);
-            stmtEstudiante.setString(1, genero);
-            stmtEstudiante.setString(2, email);
-            int estudianteRows = stmtEstudiante.executeUpdate();
+            if (actualizaProyecto) {
+                Integer idProyecto = datos.getProyectoId() == null ? null : Integer.valueOf(datos.getProyectoId());
+                if (!moverLugar(conn, idUsuario, idProyecto)) {
+                    System.err.println("Error al actualizar el estudiante: el proyecto " + idProyecto
+                            + " no tiene lugares disponibles.");
+                    conn.rollback();
+                    return ResultadoActualizacion.SIN_CUPO;
+                }
+            }
 
-            if (estudianteRows == 0) {
-                throw new SQLException("No se encontró un estudiante asociado al usuario con el email proporcionado.");
+            if (actualizaGenero || actualizaProyecto) {
+                stmtEstudiante = conn.prepareStatement(SentenciasSQL.actualizarEstudiante(actualizaGenero, actualizaProyecto));
+                parametro = 1;
+                if (actualizaGenero) stmtEstudiante.setString(parametro++, datos.getGenero());
+                if (actualizaProyecto) {
+                    if (datos.getProyectoId() == null) {
+                        stmtEstudiante.setNull(parametro++, Types.INTEGER);
+                    } else {
+                        stmtEstudiante.setInt(parametro++, Integer.parseInt(datos.getProyectoId()));
+                    }
+                }
+                stmtEstudiante.setInt(parametro, idUsuario);
+                if (stmtEstudiante.executeUpdate() == 0) {
+                    throw new SQLException("No se encontró un estudiante asociado al usuario con el email proporcionado.");
+                }
             }
 
-            // Confirma la transacción.
-            conn.commit();
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
             System.out.println("Estudiante actualizado exitosamente.");
-            return true;
+            return ResultadoActualizacion.EXITO;
 
         } catch (SQLException e) {
             if (conn != null) {
                 try {
-                    conn.rollback(); // Reversión en caso de error.
+                    if (!conn.getAutoCommit()) {
+                        conn.rollback(); // Reversión en caso de error.
+                    }
                 } catch (SQLException rollbackEx) {
                     rollbackEx.printStackTrace();
                 }
             }
             System.err.println("Error al actualizar el estudiante: " + e.getMessage());
-            return false;
+            return ResultadoActualizacion.ERROR;
 
         } finally {
             try {
@@ -158,19 +562,242 @@ public class DAOimp implements DAO {
         }
     }
 
+    /**
+     * Reserva un lugar en el proyecto nuevo del estudiante y libera el del proyecto que tenía. Se llama
+     * después de actualizar {@code usuario_base}, cuando la fila del estudiante ya está bloqueada. Los dos
+     * proyectos se actualizan en orden de {@code id_proyecto}, para que dos cambios en sentidos opuestos no
+     * se bloqueen mutuamente. No confirma la transacción.
+     *
+     * @param idProyecto El proyecto nuevo, o null si el estudiante se queda sin proyecto.
+     * @return false si el proyecto nuevo no tiene lugar; en ese caso hay que revertir la transacción.
+     * @throws SQLException Si el proyecto nuevo no existe.
+     */
+    private static boolean moverLugar(Connection conn, int idUsuario, Integer idProyecto) throws SQLException {
+        Integer anterior = null;
+        try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.SELECCIONAR_PROYECTO_ASIGNADO)) {
+            stmt.setInt(1, idUsuario);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    int id = rs.getInt(1);
+                    anterior = rs.wasNull() ? null : id;
+                }
+            }
+        }
+        if (Objects.equals(anterior, idProyecto)) {
+            return true;
+        }
+
+        boolean liberarPrimero = anterior != null && (idProyecto == null || anterior < idProyecto);
+        if (liberarPrimero) {
+            liberarLugares(conn, anterior, 1);
+        }
+        if (idProyecto != null && reservarLugares(conn, idProyecto, 1) == 0) {
+            return false;
+        }
+        if (anterior != null && !liberarPrimero) {
+            liberarLugares(conn, anterior, 1);
+        }
+        return true;
+    }
+
+    /**
+     * Reserva hasta {@code cantidad} lugares de un proyecto con actualizaciones condicionadas. Si no caben
+     * todos, se consulta cuántos quedan y se reservan esos; se repite si otro usuario los ocupa mientras tanto.
+     *
+     * @return El número de lugares reservados, de 0 a {@code cantidad}.
+     * @throws SQLException Si el proyecto no existe.
+     */
+    private static int reservarLugares(Connection conn, int idProyecto, int cantidad) throws SQLException {
+        int pedidos = cantidad;
+        while (pedidos > 0) {
+            try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.RESERVAR_LUGARES)) {
+                stmt.setInt(1, pedidos);
+                stmt.setInt(2, idProyecto);
+                stmt.setInt(3, pedidos);
+                if (stmt.executeUpdate() > 0) {
+                    return pedidos;
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.LUGARES_DISPONIBLES)) {
+                stmt.setInt(1, idProyecto);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new SQLException("No existe el proyecto " + idProyecto + ".");
+                    }
+                    int disponibles = rs.getInt(1);
+                    // Un cupo null no limita; la reserva solo pudo fallar por una carrera, así que se reintenta.
+                    pedidos = rs.wasNull() ? pedidos : Math.min(cantidad, Math.max(disponibles, 0));
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Libera lugares de un proyecto. Si el contador ya es menor, se deja como está y se reporta, porque la
+     * columna {@code ocupados} se desincronizó (por ejemplo, si no se inicializó al migrar).
+     */
+    private static void liberarLugares(Connection conn, int idProyecto, int cantidad) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.LIBERAR_LUGARES)) {
+            stmt.setInt(1, cantidad);
+            stmt.setInt(2, idProyecto);
+            stmt.setInt(3, cantidad);
+            if (stmt.executeUpdate() == 0) {
+                System.err.println("Advertencia: el proyecto " + idProyecto + " tenía menos de " + cantidad
+                        + " lugares ocupados registrados.");
+            }
+        }
+    }
+
+    private static boolean existeEstudiante(Connection conn, String email) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.EXISTE_ESTUDIANTE)) {
+            stmt.setString(1, email);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private static boolean existeEstudiante(Connection conn, int idUsuario, String email) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.EXISTE_ESTUDIANTE_ID)) {
+            stmt.setInt(1, idUsuario);
+            stmt.setString(2, email);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Ejecuta una actualización por llave primaria. El {@code id_usuario} se toma del valor conocido, de la
+     * caché o, si no está, se busca por correo. Si con un id ya conocido no se actualiza ninguna fila, se
+     * comprueba si el estudiante con ese id y correo sigue existiendo: si existe, la versión no coincidió y
+     * no se reintenta; si no existe, el id se descarta de la caché, se vuelve a buscar por correo y se
+     * reintenta una vez.
+     *
+     * @param parametroId La posición del parámetro {@code id_usuario} en la sentencia.
+     * @return El {@code id_usuario} de la fila actualizada, o 0 si no se actualizó ninguna.
+     */
+    private static int ejecutarPorId(Connection conn, PreparedStatement stmt, int parametroId, String email,
+                                     String idConocido) throws SQLException {
+        Integer idPrevio = idConocido != null && !idConocido.isEmpty() ? Integer.valueOf(idConocido)
+                : CacheIdentidades.obtener(email);
+        int idUsuario = idPrevio != null ? idPrevio : buscarIdEstudiante(conn, email);
+        stmt.setInt(parametroId, idUsuario);
+        if (stmt.executeUpdate() > 0) {
+            return idUsuario;
+        }
+
+        if (idPrevio != null && !existeEstudiante(conn, idPrevio, email)) {
+            // El identificador conocido ya no es de este estudiante; se descarta y se vuelve a buscar.
+            CacheIdentidades.invalidar(email);
+            idUsuario = buscarIdEstudiante(conn, email);
+            if (idUsuario != 0 && idUsuario != idPrevio) {
+                stmt.setInt(parametroId, idUsuario);
+                if (stmt.executeUpdate() > 0) {
+                    return idUsuario;
+                }
+            }
+        }
+        return 0;
+    }
+
     /**
      * Obtiene la información de un estudiante a partir de su correo electrónico.
      *
+     * Los datos de {@code usuario_base}, {@code estudiante} y el proyecto asignado se leen con una sola
+     * consulta y se construyen con {@link MapeadorEstudiante}.
+     *
      * @param email El correo electrónico del estudiante.
      * @return Un objeto {@link Estudiante} con los datos del estudiante, o null si no se encuentra.
      */
     @Override
     public Estudiante getEstudiante(String email) {
-        return null; // Implementación pendiente.
+        try (Connection conn = SQLConeccion.obtenerConeccion();
+             PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.SELECCIONAR_ESTUDIANTE)) {
+            stmt.setString(1, email);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    Estudiante estudiante = MapeadorEstudiante.INSTANCIA.mapear(rs);
+                    CacheIdentidades.registrar(email, Integer.parseInt(estudiante.getId()));
+                    return estudiante;
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error al obtener el estudiante: " + e.getMessage());
+        }
+        return null;
     }
 
     /**
-     * Asigna un proyecto a un estudiante en la base de datos.
+     * Obtiene varios estudiantes con consultas {@code IN} de hasta {@link SentenciasSQL#MAXIMO_LISTA_IN}
+     * correos, en lugar de una consulta por estudiante.
+     *
+     * @param emails Los correos de los estudiantes a buscar.
+     * @return Un mapa de correo a estudiante con los encontrados, o con los que se alcanzaron a leer si
+     *         ocurrió un error.
+     */
+    @Override
+    public Map<String, Estudiante> getEstudiantes(Collection<String> emails) {
+        List<String> unicos = new ArrayList<>(new LinkedHashSet<>(emails));
+        Map<String, Estudiante> estudiantes = new HashMap<>(unicos.size() * 2);
+        if (unicos.isEmpty()) {
+            return estudiantes;
+        }
+
+        try (Connection conn = SQLConeccion.obtenerConeccion()) {
+            for (int inicio = 0; inicio < unicos.size(); inicio += SentenciasSQL.MAXIMO_LISTA_IN) {
+                List<String> bloque = unicos.subList(inicio, Math.min(inicio + SentenciasSQL.MAXIMO_LISTA_IN, unicos.size()));
+                int parametros = SentenciasSQL.tamanoListaIn(bloque.size());
+
+                try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.seleccionarEstudiantes(bloque.size()))) {
+                    for (int i = 0; i < parametros; i++) {
+                        // Los parámetros sobrantes repiten el último correo para reutilizar la misma sentencia.
+                        stmt.setString(i + 1, bloque.get(Math.min(i, bloque.size() - 1)));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            Estudiante estudiante = MapeadorEstudiante.INSTANCIA.mapear(rs);
+                            estudiantes.put(estudiante.getEmail(), estudiante);
+                            CacheIdentidades.registrar(estudiante.getEmail(), Integer.parseInt(estudiante.getId()));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error al obtener los estudiantes: " + e.getMessage());
+        }
+        return estudiantes;
+    }
+
+    /**
+     * Lee el resumen de todos los estudiantes con una sola consulta, en bloques de
+     * {@code indice.fetch} filas (1000).
+     */
+    @Override
+    public List<Estudiante> getResumenEstudiantes() {
+        List<Estudiante> estudiantes = new ArrayList<>();
+        try (Connection conn = SQLConeccion.obtenerConeccion();
+             PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.LISTAR_RESUMEN_ESTUDIANTES)) {
+            stmt.setFetchSize(TAMANO_FETCH_RESUMEN);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Estudiante estudiante = new Estudiante();
+                    estudiante.setEmail(rs.getString(1));
+                    estudiante.setNombre(rs.getString(2));
+                    estudiante.setMatricula(rs.getString(3));
+                    estudiante.limpiarCambios();
+                    estudiantes.add(estudiante);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error al obtener el resumen de estudiantes: " + e.getMessage());
+        }
+        return estudiantes;
+    }
+
+    /**
+     * Asigna un proyecto a un estudiante en la base de datos, sin condicionar a la versión.
      *
      * @param email      El correo electrónico del estudiante al que se asignará el proyecto.
      * @param idProyecto El identificador único del proyecto que será asignado.
@@ -178,34 +805,252 @@ public class DAOimp implements DAO {
      */
     @Override
     public boolean asignarProyectoAEstudiante(String email, int idProyecto) {
-        String updateProyectoEstudiante = "UPDATE estudiante SET id_proyecto = ? WHERE id_usuario = (SELECT id_usuario FROM usuario_base WHERE email = ?)";
+        Estudiante datos = new Estudiante();
+        datos.setProyectoId(String.valueOf(idProyecto));
+        return actualizarCampos(email, null, datos, EnumSet.of(Campo.PROYECTO), null).isExitoso();
+    }
 
-        Connection conn = null;
-        PreparedStatement stmt = null;
+    /**
+     * Asigna los proyectos con sentencias por bloques de hasta {@link SentenciasSQL#MAXIMO_LISTA_IN}
+     * estudiantes, todas en una sola transacción: primero se resuelven los {@code id_usuario} de los correos
+     * y los proyectos existentes con consultas {@code IN}, se bloquean los estudiantes para leer su proyecto
+     * actual y se reservan los lugares de cada proyecto de una vez; luego cada bloque aumenta la versión de
+     * sus estudiantes y les asigna su proyecto con un {@code UPDATE ... CASE}. Los estudiantes se actualizan
+     * en orden de {@code id_usuario} para que dos asignaciones masivas simultáneas bloqueen las filas en el
+     * mismo orden.
+     *
+     * Si un proyecto no tiene lugar para todos, lo obtienen los primeros estudiantes en el orden del mapa y
+     * el resto se reporta como {@link ResultadoAsignacion#SIN_CUPO}. Los lugares que liberan los
+     * estudiantes que cambian de proyecto quedan disponibles al terminar la asignación.
+     */
+    @Override
+    public Map<String, ResultadoAsignacion> asignarProyectos(Map<String, Integer> asignaciones) {
+        Map<String, ResultadoAsignacion> resultados = new LinkedHashMap<>(asignaciones.size() * 2);
+        if (asignaciones.isEmpty()) {
+            return resultados;
+        }
 
+        Connection conn = null;
         try {
             conn = SQLConeccion.obtenerConeccion();
-            stmt = conn.prepareStatement(updateProyectoEstudiante);
-            stmt.setInt(1, idProyecto);
-            stmt.setString(2, email);
-            int rowsAffected = stmt.executeUpdate();
+            conn.setAutoCommit(false);
 
-            if (rowsAffected == 0) {
-                throw new SQLException("No se encontró un estudiante con el email proporcionado.");
+            Map<String, Integer> ids = buscarIdsEstudiantes(conn, asignaciones.keySet());
+            Set<Integer> proyectos = buscarProyectosExistentes(conn, asignaciones.values());
+
+            // id_usuario -> id_proyecto de las asignaciones válidas, ordenadas por id_usuario.
+            TreeMap<Integer, Integer> porAsignar = new TreeMap<>();
+            Map<Integer, String> emailsPorId = new HashMap<>(ids.size() * 2);
+            for (Map.Entry<String, Integer> asignacion : asignaciones.entrySet()) {
+                Integer idUsuario = ids.get(asignacion.getKey());
+                if (idUsuario == null) {
+                    resultados.put(asignacion.getKey(), ResultadoAsignacion.NO_ENCONTRADO);
+                } else if (!proyectos.contains(asignacion.getValue())) {
+                    resultados.put(asignacion.getKey(), ResultadoAsignacion.PROYECTO_INEXISTENTE);
+                } else {
+                    porAsignar.put(idUsuario, asignacion.getValue());
+                    emailsPorId.put(idUsuario, asignacion.getKey());
+                    resultados.put(asignacion.getKey(), ResultadoAsignacion.ASIGNADO);
+                }
             }
 
-            System.out.println("Proyecto asignado exitosamente.");
-            return true;
+            for (int idUsuario : reservarLugaresMasivo(conn, asignaciones, ids, porAsignar)) {
+                porAsignar.remove(idUsuario);
+                resultados.put(emailsPorId.get(idUsuario), ResultadoAsignacion.SIN_CUPO);
+            }
+
+            List<Map.Entry<Integer, Integer>> filas = new ArrayList<>(porAsignar.entrySet());
+            for (int inicio = 0; inicio < filas.size(); inicio += SentenciasSQL.MAXIMO_LISTA_IN) {
+                asignarBloque(conn, filas.subList(inicio, Math.min(inicio + SentenciasSQL.MAXIMO_LISTA_IN, filas.size())));
+            }
+            conn.commit();
+
+            for (Map.Entry<String, Integer> id : ids.entrySet()) {
+                CacheIdentidades.registrar(id.getKey(), id.getValue());
+            }
+            System.out.println("Asignación masiva terminada: " + filas.size() + " de " + asignaciones.size()
+                    + " proyectos asignados.");
+
         } catch (SQLException e) {
-            System.err.println("Error al asignar el proyecto: " + e.getMessage());
-            return false;
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    rollbackEx.printStackTrace();
+                }
+            }
+            System.err.println("Error en la asignación masiva de proyectos: " + e.getMessage());
+            for (String email : asignaciones.keySet()) {
+                resultados.merge(email, ResultadoAsignacion.ERROR,
+                        (actual, error) -> actual == ResultadoAsignacion.ASIGNADO ? error : actual);
+            }
         } finally {
             try {
-                if (stmt != null) stmt.close();
                 if (conn != null) conn.close();
             } catch (SQLException e) {
                 e.printStackTrace();
             }
         }
+        return resultados;
+    }
+
+    /**
+     * Bloquea a los estudiantes por asignar, reserva los lugares que necesita cada proyecto y libera los de
+     * los proyectos que dejan. Los proyectos se reservan en orden de {@code id_proyecto}.
+     *
+     * @param porAsignar {@code id_usuario -> id_proyecto} de las asignaciones válidas.
+     * @return Los {@code id_usuario} que no alcanzaron lugar en su proyecto.
+     */
+    private static Set<Integer> reservarLugaresMasivo(Connection conn, Map<String, Integer> asignaciones,
+                                                      Map<String, Integer> ids, TreeMap<Integer, Integer> porAsignar)
+            throws SQLException {
+        Map<Integer, Integer> anteriores = new HashMap<>(porAsignar.size() * 2);
+        List<Integer> idsUsuario = new ArrayList<>(porAsignar.keySet());
+        for (int inicio = 0; inicio < idsUsuario.size(); inicio += SentenciasSQL.MAXIMO_LISTA_IN) {
+            List<Integer> bloque = idsUsuario.subList(inicio, Math.min(inicio + SentenciasSQL.MAXIMO_LISTA_IN, idsUsuario.size()));
+            int parametros = SentenciasSQL.tamanoListaIn(bloque.size());
+            try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.bloquearEstudiantes(bloque.size()))) {
+                for (int i = 0; i < parametros; i++) {
+                    stmt.setInt(i + 1, bloque.get(Math.min(i, bloque.size() - 1)));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        int idUsuario = rs.getInt(1);
+                        int idProyecto = rs.getInt(2);
+                        anteriores.put(idUsuario, rs.wasNull() ? null : idProyecto);
+                    }
+                }
+            }
+        }
+
+        // Estudiantes que cambian de proyecto, agrupados por proyecto nuevo en el orden del mapa de entrada.
+        TreeMap<Integer, List<Integer>> entran = new TreeMap<>();
+        for (Map.Entry<String, Integer> asignacion : asignaciones.entrySet()) {
+            Integer idUsuario = ids.get(asignacion.getKey());
+            if (idUsuario != null && porAsignar.containsKey(idUsuario)
+                    && !asignacion.getValue().equals(anteriores.get(idUsuario))) {
+                entran.computeIfAbsent(asignacion.getValue(), p -> new ArrayList<>()).add(idUsuario);
+            }
+        }
+
+        Set<Integer> sinLugar = new HashSet<>();
+        TreeMap<Integer, Integer> salen = new TreeMap<>();
+        for (Map.Entry<Integer, List<Integer>> proyecto : entran.entrySet()) {
+            List<Integer> estudiantes = proyecto.getValue();
+            int reservados = reservarLugares(conn, proyecto.getKey(), estudiantes.size());
+            for (int i = 0; i < estudiantes.size(); i++) {
+                Integer anterior = anteriores.get(estudiantes.get(i));
+                if (i >= reservados) {
+                    sinLugar.add(estudiantes.get(i));
+                } else if (anterior != null) {
+                    salen.merge(anterior, 1, Integer::sum);
+                }
+            }
+        }
+        for (Map.Entry<Integer, Integer> proyecto : salen.entrySet()) {
+            liberarLugares(conn, proyecto.getKey(), proyecto.getValue());
+        }
+        return sinLugar;
+    }
+
+    /**
+     * Aumenta la versión de un bloque de estudiantes y les asigna su proyecto. No confirma la transacción.
+     *
+     * @param filas Pares {@code id_usuario, id_proyecto}, sin repetir estudiantes.
+     * @throws SQLException Si algún estudiante del bloque ya no existe.
+     */
+    private static void asignarBloque(Connection conn, List<Map.Entry<Integer, Integer>> filas) throws SQLException {
+        int parametros = SentenciasSQL.tamanoListaIn(filas.size());
+
+        try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.aumentarVersionUsuarios(filas.size()))) {
+            for (int i = 0; i < parametros; i++) {
+                // Los parámetros sobrantes repiten la última fila para reutilizar la misma sentencia.
+                stmt.setInt(i + 1, filas.get(Math.min(i, filas.size() - 1)).getKey());
+            }
+            if (stmt.executeUpdate() != filas.size()) {
+                throw new SQLException("Algunos estudiantes del bloque ya no existen.");
+            }
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.asignarProyectos(filas.size()))) {
+            for (int i = 0; i < parametros; i++) {
+                Map.Entry<Integer, Integer> fila = filas.get(Math.min(i, filas.size() - 1));
+                stmt.setInt(2 * i + 1, fila.getKey());
+                stmt.setInt(2 * i + 2, fila.getValue());
+                stmt.setInt(2 * parametros + i + 1, fila.getKey());
+            }
+            if (stmt.executeUpdate() != filas.size()) {
+                throw new SQLException("Algunos estudiantes del bloque ya no existen.");
+            }
+        }
+    }
+
+    /**
+     * Resuelve el {@code id_usuario} de los correos que pertenecen a un estudiante, con consultas {@code IN}.
+     *
+     * @return Un mapa de correo a {@code id_usuario} con los estudiantes encontrados.
+     */
+    private static Map<String, Integer> buscarIdsEstudiantes(Connection conn, Collection<String> emails) throws SQLException {
+        List<String> lista = new ArrayList<>(emails);
+        Map<String, Integer> ids = new HashMap<>(lista.size() * 2);
+        for (int inicio = 0; inicio < lista.size(); inicio += SentenciasSQL.MAXIMO_LISTA_IN) {
+            List<String> bloque = lista.subList(inicio, Math.min(inicio + SentenciasSQL.MAXIMO_LISTA_IN, lista.size()));
+            int parametros = SentenciasSQL.tamanoListaIn(bloque.size());
+            try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.seleccionarIdsEstudiantes(bloque.size()))) {
+                for (int i = 0; i < parametros; i++) {
+                    stmt.setString(i + 1, bloque.get(Math.min(i, bloque.size() - 1)));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        ids.put(rs.getString(1), rs.getInt(2));
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * @return Los identificadores de proyecto indicados que existen en la base de datos.
+     */
+    private static Set<Integer> buscarProyectosExistentes(Connection conn, Collection<Integer> idsProyecto) throws SQLException {
+        Set<Integer> unicos = new HashSet<>(idsProyecto);
+        unicos.remove(null);
+        List<Integer> lista = new ArrayList<>(unicos);
+        Set<Integer> existentes = new HashSet<>(lista.size() * 2);
+        for (int inicio = 0; inicio < lista.size(); inicio += SentenciasSQL.MAXIMO_LISTA_IN) {
+            List<Integer> bloque = lista.subList(inicio, Math.min(inicio + SentenciasSQL.MAXIMO_LISTA_IN, lista.size()));
+            int parametros = SentenciasSQL.tamanoListaIn(bloque.size());
+            try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.seleccionarProyectosExistentes(bloque.size()))) {
+                for (int i = 0; i < parametros; i++) {
+                    stmt.setInt(i + 1, bloque.get(Math.min(i, bloque.size() - 1)));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        existentes.add(rs.getInt(1));
+                    }
+                }
+            }
+        }
+        return existentes;
+    }
+
+    /**
+     * Busca el {@code id_usuario} del estudiante con un correo y lo guarda en {@link CacheIdentidades}.
+     *
+     * @return El identificador, o 0 si no existe un estudiante con ese correo.
+     */
+    private static int buscarIdEstudiante(Connection conn, String email) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.SELECCIONAR_ID_ESTUDIANTE)) {
+            stmt.setString(1, email);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    int idUsuario = rs.getInt(1);
+                    CacheIdentidades.registrar(email, idUsuario);
+                    return idUsuario;
+                }
+            }
+        }
+        return 0;
     }
 }
@@ -0,0 +1,39 @@
+package DAO.Estudiante;
+
+import DAO.MapeadorFilas;
+import Modelos.Estudiante;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Construye un {@link Estudiante} a partir de las columnas de {@code SentenciasSQL.SELECCIONAR_ESTUDIANTE}:
+ * {@code id_usuario}, {@code email}, {@code nombre}, {@code telefono}, {@code direccion}, {@code version},
+ * {@code matricula}, {@code genero} e {@code id_proyecto}. La contraseña no se consulta.
+ *
+ * El estudiante se entrega sin cambios registrados, como base para una actualización parcial.
+ */
+public final class MapeadorEstudiante implements MapeadorFilas<Estudiante> {
+
+    public static final MapeadorEstudiante INSTANCIA = new MapeadorEstudiante();
+
+    private MapeadorEstudiante() {
+    }
+
+    @Override
+    public Estudiante mapear(ResultSet rs) throws SQLException {
+        Estudiante estudiante = new Estudiante();
+        estudiante.setId(String.valueOf(rs.getInt("id_usuario")));
+        estudiante.setEmail(rs.getString("email"));
+        estudiante.setNombre(rs.getString("nombre"));
+        estudiante.setTelefono(rs.getString("telefono"));
+        estudiante.setDireccion(rs.getString("direccion"));
+        estudiante.setVersion(rs.getInt("version"));
+        estudiante.setMatricula(rs.getString("matricula"));
+        estudiante.setGenero(rs.getString("genero"));
+        int idProyecto = rs.getInt("id_proyecto");
+        estudiante.setProyectoId(rs.wasNull() ? null : String.valueOf(idProyecto));
+        estudiante.limpiarCambios();
+        return estudiante;
+    }
+}
@@ -0,0 +1,39 @@
+package DAO.Estudiante;
+
+/**
+ * Resultado de la asignación de un proyecto a un estudiante dentro de una asignación masiva.
+ */
+public enum ResultadoAsignacion {
+
+    /**
+     * El proyecto quedó asignado al estudiante.
+     */
+    ASIGNADO,
+
+    /**
+     * No existe un estudiante con el correo indicado.
+     */
+    NO_ENCONTRADO,
+
+    /**
+     * No existe el proyecto indicado.
+     */
+    PROYECTO_INEXISTENTE,
+
+    /**
+     * El proyecto ya no tiene lugares disponibles para este estudiante.
+     */
+    SIN_CUPO,
+
+    /**
+     * La asignación falló por otro motivo, por ejemplo un error de conexión; la transacción se revirtió.
+     */
+    ERROR;
+
+    /**
+     * @return true si el proyecto quedó asignado.
+     */
+    public boolean isExitoso() {
+        return this == ASIGNADO;
+    }
+}
@@ -0,0 +1,64 @@
+package DAO.Estudiante;
+
+/**
+ * Resultado del registro de un estudiante dentro de una operación de registro masivo.
+ *
+ * Cada instancia corresponde a una fila de la lista de entrada, en el mismo orden.
+ */
+public class ResultadoRegistro {
+
+    private final String email;
+    private final boolean exitoso;
+    private final int idUsuario;
+    private final String mensaje;
+
+    private ResultadoRegistro(String email, boolean exitoso, int idUsuario, String mensaje) {
+        this.email = email;
+        this.exitoso = exitoso;
+        this.idUsuario = idUsuario;
+        this.mensaje = mensaje;
+    }
+
+    /**
+     * Crea el resultado de una fila registrada correctamente.
+     *
+     * @param email     El correo del estudiante registrado.
+     * @param idUsuario El identificador generado en {@code usuario_base}.
+     * @return El resultado exitoso.
+     */
+    public static ResultadoRegistro exito(String email, int idUsuario) {
+        return new ResultadoRegistro(email, true, idUsuario, "Registrado");
+    }
+
+    /**
+     * Crea el resultado de una fila que no pudo registrarse.
+     *
+     * @param email   El correo del estudiante.
+     * @param mensaje La causa del error.
+     * @return El resultado fallido.
+     */
+    public static ResultadoRegistro fallo(String email, String mensaje) {
+        return new ResultadoRegistro(email, false, 0, mensaje);
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isExitoso() {
+        return exitoso;
+    }
+
+    public int getIdUsuario() {
+        return idUsuario;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    @Override
+    public String toString() {
+        return email + ": " + (exitoso ? "OK (id " + idUsuario + ")" : "ERROR - " + mensaje);
+    }
+}
@@ -9,10 +9,12 @@ import jakarta.validation.ConstraintViolationException;
  * Los métodos de esta clase permiten asignar valores a los campos de un objeto {@link Estudiante} y aseguran
  * que los datos cumplan con las reglas de validación definidas en el modelo. Si los datos no son válidos, se lanza
  * una {@link jakarta.validation.ConstraintViolationException}.
+ *
+ * La clase no guarda estado: cada llamada trabaja sobre su propio objeto {@link Estudiante}, por lo que una
+ * misma instancia puede usarse desde varios hilos.
  */
 
 public class Utiles {
-    Estudiante estudiante = new Estudiante();
     /**
      * Asigna valores a las propiedades necesarias para registrar un estudiante.
      * Este método asigna el correo electrónico, la contraseña y la matrícula de un estudiante, 
@@ -22,14 +24,17 @@ public class Utiles {
      * @param email      El correo electrónico del estudiante. No debe estar vacío y debe cumplir con el formato de email.
      * @param contrasena La contraseña del estudiante. Debe cumplir con las restricciones definidas en el modelo.
      * @param matricula  El número de matrícula del estudiante. Debe cumplir con las restricciones definidas en el modelo.
+     * @return El estudiante con los valores asignados y validados.
      * @throws ConstraintViolationException Si alguna de las restricciones de validación en el objeto {@link Estudiante} no se cumple.
      */
-    public void asignarRegistroEstudiante(String email, String contrasena,
-                                          String matricula) throws ConstraintViolationException {
+    public Estudiante asignarRegistroEstudiante(String email, String contrasena,
+                                                String matricula) throws ConstraintViolationException {
+        Estudiante estudiante = new Estudiante();
         estudiante.setContrasena(contrasena);
         estudiante.setEmail(email);
         estudiante.setMatricula(matricula);
         estudiante.validate(); // Puede lanzar ConstraintViolationException
+        return estudiante;
     }
 
     /**
@@ -41,14 +46,17 @@ public class Utiles {
      * @param nombre     El nombre actualizado del estudiante. No debe estar vacío.
      * @param direccion  La dirección actualizada del estudiante. No debe estar vacía.
      * @param genero     El género actualizado del estudiante. No debe estar vacío.
+     * @return El estudiante con los valores asignados y validados.
      * @throws ConstraintViolationException Si alguna de las restricciones de validación en el objeto {@link Estudiante} no se cumple.
      */
-    public void asignarActualizarEstudiante(String telefono, String nombre,
-                                            String direccion, String genero) throws ConstraintViolationException {
+    public Estudiante asignarActualizarEstudiante(String telefono, String nombre,
+                                                  String direccion, String genero) throws ConstraintViolationException {
+        Estudiante estudiante = new Estudiante();
         estudiante.setTelefono(telefono);
         estudiante.setNombre(nombre);
         estudiante.setDireccion(direccion);
         estudiante.setGenero(genero);
         estudiante.validate(); // Puede lanzar ConstraintViolationException
+        return estudiante;
     }
 }
\ No newline at end of file
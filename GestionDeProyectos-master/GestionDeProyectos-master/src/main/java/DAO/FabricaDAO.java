@@ -0,0 +1,86 @@
+package DAO;
+
+import DAO.Memoria.AlmacenMemoria;
+import DBConeccion.SQLConeccion;
+import Metricas.RegistroMetricas;
+import Seguridad.PasswordHasher;
+
+import java.sql.SQLException;
+
+/**
+ * Crea los DAO que usan los servicios, según el almacenamiento elegido al arrancar.
+ *
+ * Con {@code -Dalmacen=memoria} los DAO trabajan sobre {@link AlmacenMemoria} y la aplicación funciona sin
+ * servidor MySQL; con cualquier otro valor (o sin la propiedad) se usan los DAO sobre JDBC. En ambos casos
+ * los DAO se entregan instrumentados con {@link RegistroMetricas}.
+ *
+ * En modo memoria se puede crear un coordinador inicial para entrar a la aplicación con
+ * {@code almacen.coordinador.email} y {@code almacen.coordinador.contrasena}.
+ */
+public final class FabricaDAO {
+
+    private static final boolean MEMORIA = "memoria".equalsIgnoreCase(System.getProperty("almacen", "mysql"));
+
+    static {
+        if (MEMORIA) {
+            sembrarCoordinador();
+        }
+    }
+
+    private FabricaDAO() {
+    }
+
+    /**
+     * @return true si la aplicación usa el almacenamiento en memoria.
+     */
+    public static boolean esMemoria() {
+        return MEMORIA;
+    }
+
+    /**
+     * @return El DAO de estudiantes.
+     */
+    public static DAO.Estudiante.DAO estudiantes() {
+        DAO.Estudiante.DAO dao = MEMORIA ? new DAO.Estudiante.DAOMemoria() : new DAO.Estudiante.DAOimp();
+        return RegistroMetricas.instrumentar(DAO.Estudiante.DAO.class, dao, "dao.estudiante");
+    }
+
+    /**
+     * @return El DAO de proyectos.
+     */
+    public static DAO.Proyecto.DAO proyectos() {
+        DAO.Proyecto.DAO dao = MEMORIA ? new DAO.Proyecto.DAOMemoria() : new DAO.Proyecto.DAOimp();
+        return RegistroMetricas.instrumentar(DAO.Proyecto.DAO.class, dao, "dao.proyecto");
+    }
+
+    /**
+     * @return El DAO de usuarios.
+     */
+    public static DAO.Usuario.DAO usuarios() {
+        DAO.Usuario.DAO dao = MEMORIA ? new DAO.Usuario.DAOMemoria() : new DAO.Usuario.DAOimp();
+        return RegistroMetricas.instrumentar(DAO.Usuario.DAO.class, dao, "dao.usuario");
+    }
+
+    /**
+     * @return La acción que los servicios ejecutan antes de cada operación para asegurar la conexión;
+     *         en modo memoria no hace nada.
+     */
+    public static Runnable prepararConexion() {
+        return MEMORIA ? () -> { } : SQLConeccion::tryConneccion;
+    }
+
+    private static void sembrarCoordinador() {
+        String email = System.getProperty("almacen.coordinador.email");
+        String contrasena = System.getProperty("almacen.coordinador.contrasena");
+        if (email == null || contrasena == null) {
+            return;
+        }
+        try {
+            AlmacenMemoria.getInstancia().insertarCoordinador(email, PasswordHasher.encodePassword(contrasena),
+                    System.getProperty("almacen.coordinador.personal", "P0001"));
+            System.out.println("Coordinador inicial creado en memoria: " + email);
+        } catch (SQLException e) {
+            System.err.println("No se pudo crear el coordinador inicial: " + e.getMessage());
+        }
+    }
+}
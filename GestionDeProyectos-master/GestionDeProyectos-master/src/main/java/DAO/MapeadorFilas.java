@@ -0,0 +1,26 @@
+package DAO;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Convierte la fila actual de un {@link ResultSet} en un objeto del modelo.
+ *
+ * Los DAO comparten un mapeador por tipo, de modo que todas las consultas que devuelven las mismas
+ * columnas construyen el objeto de la misma forma.
+ *
+ * @param <T> Tipo del objeto que se construye.
+ */
+@FunctionalInterface
+public interface MapeadorFilas<T> {
+
+    /**
+     * Construye un objeto a partir de la fila en la que está posicionado el {@link ResultSet}.
+     * No debe avanzar el cursor.
+     *
+     * @param rs El resultado posicionado en la fila a convertir.
+     * @return El objeto construido.
+     * @throws SQLException Si ocurre un error al leer las columnas.
+     */
+    T mapear(ResultSet rs) throws SQLException;
+}
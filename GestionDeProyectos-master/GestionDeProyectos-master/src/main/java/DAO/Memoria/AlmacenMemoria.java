@@ -0,0 +1,464 @@
+package DAO.Memoria;
+
+import DAO.ResultadoActualizacion;
+import Modelos.Campo;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Motor de almacenamiento en memoria con las mismas tablas y restricciones que la base de datos MySQL.
+ *
+ * Las filas de {@code usuario_base}, {@code estudiante} y {@code coordinador} se guardan juntas en una
+ * sola {@link FilaUsuario} inmutable por usuario, de modo que una actualización de varias tablas es un solo
+ * reemplazo atómico de la fila. Los índices únicos sobre correo y matrícula son mapas concurrentes que se
+ * reservan con {@code putIfAbsent} antes de publicar la fila, igual que una restricción UNIQUE.
+ *
+ * Cada fila lleva la misma columna {@code version} que la base de datos; toda escritura la aumenta.
+ *
+ * Los proyectos se guardan en un mapa ordenado por {@code id_proyecto} para poder paginar por clave. Su cupo
+ * y sus lugares ocupados se guardan aparte en contadores atómicos ({@link Lugares}), de modo que asignar un
+ * estudiante no reemplaza la fila del proyecto ni compite con quien edita su nombre.
+ *
+ * Las violaciones de restricciones se reportan con {@link SQLIntegrityConstraintViolationException} para
+ * que los DAO en memoria manejen los errores igual que los DAO sobre JDBC.
+ */
+public class AlmacenMemoria {
+
+    private static final AlmacenMemoria INSTANCIA = new AlmacenMemoria();
+
+    /**
+     * Los datos personales de un estudiante, que se actualizan juntos.
+     */
+    public static final Set<Campo> CAMPOS_PERSONALES =
+            Set.copyOf(EnumSet.of(Campo.NOMBRE, Campo.TELEFONO, Campo.DIRECCION, Campo.GENERO));
+
+    /**
+     * Datos de un usuario con sus columnas de estudiante y coordinador. Las columnas que no aplican son null.
+     */
+    public record FilaUsuario(int idUsuario, String email, String contrasena, String nombre, String telefono,
+                              String direccion, String matricula, String genero, Integer idProyecto,
+                              String noPersonal, int version) {
+
+        /**
+         * @param campos Los datos personales que se escriben; los demás conservan su valor.
+         * @return Una copia con los campos indicados; un valor null deja el campo en null, igual que la
+         *         columna NULL de la base de datos.
+         */
+        public FilaUsuario conDatosPersonales(Set<Campo> campos, String nombre, String telefono, String direccion,
+                                              String genero) {
+            return new FilaUsuario(idUsuario, email, contrasena,
+                    campos.contains(Campo.NOMBRE) ? nombre : this.nombre,
+                    campos.contains(Campo.TELEFONO) ? telefono : this.telefono,
+                    campos.contains(Campo.DIRECCION) ? direccion : this.direccion, matricula,
+                    campos.contains(Campo.GENERO) ? genero : this.genero, idProyecto, noPersonal, version);
+        }
+
+        /**
+         * @return Una copia con el proyecto indicado (null para dejar al estudiante sin proyecto).
+         */
+        public FilaUsuario conProyecto(Integer idProyecto) {
+            return new FilaUsuario(idUsuario, email, contrasena, nombre, telefono, direccion, matricula, genero,
+                    idProyecto, noPersonal, version);
+        }
+
+        private FilaUsuario conVersion(int version) {
+            return new FilaUsuario(idUsuario, email, contrasena, nombre, telefono, direccion, matricula, genero,
+                    idProyecto, noPersonal, version);
+        }
+
+        public boolean esEstudiante() {
+            return matricula != null;
+        }
+
+        public boolean esCoordinador() {
+            return noPersonal != null;
+        }
+    }
+
+    /**
+     * Fila de la tabla {@code proyecto}.
+     */
+    public record FilaProyecto(int idProyecto, String nombre, String descripcion, int version) {
+    }
+
+    /**
+     * Cupo y lugares ocupados de un proyecto en un solo {@link AtomicLong}: los 32 bits altos guardan el cupo
+     * ({@link Integer#MAX_VALUE} si no tiene límite) y los bajos los lugares ocupados. Reservar un lugar es un
+     * {@code compareAndSet} que falla si el proyecto está lleno, así que muchos hilos pueden reservar a la
+     * vez sin bloqueos y sin sobrepasar el cupo, aunque el cupo cambie al mismo tiempo.
+     */
+    private static final class Lugares {
+        private static final int SIN_LIMITE = Integer.MAX_VALUE;
+
+        private final AtomicLong estado;
+
+        Lugares(Integer cupo) {
+            estado = new AtomicLong(empaquetar(cupo == null ? SIN_LIMITE : cupo, 0));
+        }
+
+        boolean reservar() {
+            while (true) {
+                long actual = estado.get();
+                if (ocupados(actual) >= cupo(actual)) {
+                    return false;
+                }
+                if (estado.compareAndSet(actual, actual + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void liberar() {
+            while (true) {
+                long actual = estado.get();
+                if (ocupados(actual) == 0 || estado.compareAndSet(actual, actual - 1)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return false si ya hay más lugares ocupados que el cupo nuevo.
+         */
+        boolean definirCupo(Integer cupo) {
+            int nuevo = cupo == null ? SIN_LIMITE : cupo;
+            while (true) {
+                long actual = estado.get();
+                if (ocupados(actual) > nuevo) {
+                    return false;
+                }
+                if (estado.compareAndSet(actual, empaquetar(nuevo, ocupados(actual)))) {
+                    return true;
+                }
+            }
+        }
+
+        Integer cupo() {
+            int cupo = cupo(estado.get());
+            return cupo == SIN_LIMITE ? null : cupo;
+        }
+
+        int ocupados() {
+            return ocupados(estado.get());
+        }
+
+        private static long empaquetar(int cupo, int ocupados) {
+            return ((long) cupo << 32) | ocupados;
+        }
+
+        private static int cupo(long estado) {
+            return (int) (estado >>> 32);
+        }
+
+        private static int ocupados(long estado) {
+            return (int) estado;
+        }
+    }
+
+    private final AtomicInteger siguienteUsuario = new AtomicInteger(1);
+    private final AtomicInteger siguienteProyecto = new AtomicInteger(1);
+
+    private final Map<Integer, FilaUsuario> usuarios = new ConcurrentHashMap<>();
+    private final Map<String, Integer> porEmail = new ConcurrentHashMap<>();
+    private final Map<String, Integer> porMatricula = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Integer, FilaProyecto> proyectos = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Lugares> lugares = new ConcurrentHashMap<>();
+
+    /**
+     * @return El almacén compartido por los DAO en memoria de la aplicación.
+     */
+    public static AlmacenMemoria getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Inserta un estudiante en {@code usuario_base} y {@code estudiante} como una sola transacción.
+     *
+     * @return El {@code id_usuario} generado.
+     * @throws SQLException Si el correo o la matrícula ya existen.
+     */
+    public int insertarEstudiante(String email, String contrasena, String matricula) throws SQLException {
+        return insertar(email, contrasena, matricula, null);
+    }
+
+    /**
+     * Inserta un coordinador en {@code usuario_base} y {@code coordinador} como una sola transacción.
+     *
+     * @return El {@code id_usuario} generado.
+     * @throws SQLException Si el correo ya existe.
+     */
+    public int insertarCoordinador(String email, String contrasena, String noPersonal) throws SQLException {
+        return insertar(email, contrasena, null, noPersonal);
+    }
+
+    private int insertar(String email, String contrasena, String matricula, String noPersonal) throws SQLException {
+        if (email == null || contrasena == null) {
+            throw new SQLIntegrityConstraintViolationException("El correo y la contraseña no pueden ser null.");
+        }
+        int id = siguienteUsuario.getAndIncrement();
+        if (porEmail.putIfAbsent(email, id) != null) {
+            throw new SQLIntegrityConstraintViolationException("Duplicate entry '" + email + "' for key 'email'");
+        }
+        if (matricula != null && porMatricula.putIfAbsent(matricula, id) != null) {
+            porEmail.remove(email, id);
+            throw new SQLIntegrityConstraintViolationException("Duplicate entry '" + matricula + "' for key 'matricula'");
+        }
+        usuarios.put(id, new FilaUsuario(id, email, contrasena, null, null, null, matricula, null, null, noPersonal, 0));
+        return id;
+    }
+
+    /**
+     * Busca un usuario por correo.
+     *
+     * @return La fila del usuario, o null si no existe.
+     */
+    public FilaUsuario buscarPorEmail(String email) {
+        Integer id = email == null ? null : porEmail.get(email);
+        return id == null ? null : usuarios.get(id);
+    }
+
+    /**
+     * Busca un usuario por su identificador.
+     *
+     * @return La fila del usuario, o null si no existe.
+     */
+    public FilaUsuario buscarPorId(int idUsuario) {
+        return usuarios.get(idUsuario);
+    }
+
+    /**
+     * Busca un estudiante por matrícula.
+     *
+     * @return La fila del estudiante, o null si no existe.
+     */
+    public FilaUsuario buscarPorMatricula(String matricula) {
+        Integer id = matricula == null ? null : porMatricula.get(matricula);
+        return id == null ? null : usuarios.get(id);
+    }
+
+    /**
+     * @return Las filas de todos los estudiantes, en ningún orden en particular.
+     */
+    public List<FilaUsuario> listarEstudiantes() {
+        List<FilaUsuario> estudiantes = new ArrayList<>();
+        for (FilaUsuario fila : usuarios.values()) {
+            if (fila.esEstudiante()) {
+                estudiantes.add(fila);
+            }
+        }
+        return estudiantes;
+    }
+
+    /**
+     * Actualiza los datos personales y el género de un estudiante de forma atómica. Se escriben los cuatro
+     * campos; un valor null deja el campo en null.
+     *
+     * @return true si el estudiante existe y se actualizó, false si no hay un estudiante con ese correo.
+     */
+    public boolean actualizarDatosPersonales(String email, String nombre, String telefono, String direccion,
+                                             String genero) {
+        return actualizarEstudiante(email, null,
+                f -> f.conDatosPersonales(CAMPOS_PERSONALES, nombre, telefono, direccion, genero)).isExitoso();
+    }
+
+    /**
+     * Asigna un proyecto a un estudiante, si el proyecto tiene lugar.
+     *
+     * @return {@code EXITO}, {@code NO_ENCONTRADO} si no hay un estudiante con ese correo o {@code SIN_CUPO}
+     *         si el proyecto está lleno.
+     * @throws SQLException Si el proyecto no existe (restricción de llave foránea).
+     */
+    public ResultadoActualizacion asignarProyecto(String email, int idProyecto) throws SQLException {
+        verificarProyecto(idProyecto);
+        return actualizarEstudiante(email, null, f -> f.conProyecto(idProyecto));
+    }
+
+    /**
+     * Verifica que exista un proyecto, como lo haría la llave foránea de {@code estudiante.id_proyecto}.
+     *
+     * @throws SQLException Si el proyecto no existe.
+     */
+    public void verificarProyecto(int idProyecto) throws SQLException {
+        if (!proyectos.containsKey(idProyecto)) {
+            throw new SQLIntegrityConstraintViolationException(
+                    "Cannot add or update a child row: no existe el proyecto " + idProyecto);
+        }
+    }
+
+    /**
+     * Aplica un cambio a la fila de un estudiante de forma atómica y aumenta su versión.
+     *
+     * Si el cambio mueve al estudiante de proyecto, se reserva un lugar en el proyecto nuevo y se libera el
+     * del anterior dentro de la misma actualización de la fila; si el proyecto nuevo está lleno, la fila no
+     * cambia.
+     *
+     * @param email           El correo del estudiante.
+     * @param versionEsperada La versión que debe tener la fila, o null para actualizar sin condición.
+     * @param cambio          Construye la fila nueva a partir de la actual.
+     * @return {@code EXITO}, {@code CONFLICTO} si la versión no coincide, {@code SIN_CUPO} si el proyecto
+     *         nuevo está lleno o {@code NO_ENCONTRADO} si no hay un estudiante con ese correo.
+     */
+    public ResultadoActualizacion actualizarEstudiante(String email, Integer versionEsperada,
+                                                       UnaryOperator<FilaUsuario> cambio) {
+        Integer id = email == null ? null : porEmail.get(email);
+        if (id == null) {
+            return ResultadoActualizacion.NO_ENCONTRADO;
+        }
+        ResultadoActualizacion[] resultado = {ResultadoActualizacion.NO_ENCONTRADO};
+        usuarios.computeIfPresent(id, (clave, f) -> {
+            if (!f.esEstudiante()) {
+                return f;
+            }
+            if (versionEsperada != null && f.version() != versionEsperada) {
+                resultado[0] = ResultadoActualizacion.CONFLICTO;
+                return f;
+            }
+            FilaUsuario nueva = cambio.apply(f);
+            if (!Objects.equals(nueva.idProyecto(), f.idProyecto())) {
+                if (nueva.idProyecto() != null && !reservarLugar(nueva.idProyecto())) {
+                    resultado[0] = ResultadoActualizacion.SIN_CUPO;
+                    return f;
+                }
+                if (f.idProyecto() != null) {
+                    lugares.get(f.idProyecto()).liberar();
+                }
+            }
+            resultado[0] = ResultadoActualizacion.EXITO;
+            return nueva.conVersion(f.version() + 1);
+        });
+        return resultado[0];
+    }
+
+    private boolean reservarLugar(int idProyecto) {
+        Lugares lugaresProyecto = lugares.get(idProyecto);
+        return lugaresProyecto != null && lugaresProyecto.reservar();
+    }
+
+    /**
+     * Inserta un proyecto sin límite de estudiantes.
+     *
+     * @return El {@code id_proyecto} generado.
+     */
+    public int insertarProyecto(String nombre, String descripcion) {
+        return insertarProyecto(nombre, descripcion, null);
+    }
+
+    /**
+     * Inserta un proyecto.
+     *
+     * @param cupo El número máximo de estudiantes, o null si no tiene límite.
+     * @return El {@code id_proyecto} generado.
+     */
+    public int insertarProyecto(String nombre, String descripcion, Integer cupo) {
+        int id = siguienteProyecto.getAndIncrement();
+        lugares.put(id, new Lugares(cupo));
+        proyectos.put(id, new FilaProyecto(id, nombre, descripcion, 0));
+        return id;
+    }
+
+    /**
+     * Cambia el cupo de un proyecto.
+     *
+     * @param cupo El número máximo de estudiantes, o null para quitar el límite.
+     * @return {@code EXITO}, {@code NO_ENCONTRADO} si el proyecto no existe o {@code SIN_CUPO} si ya tiene
+     *         más estudiantes asignados que el cupo nuevo.
+     */
+    public ResultadoActualizacion definirCupo(int idProyecto, Integer cupo) {
+        Lugares lugaresProyecto = lugares.get(idProyecto);
+        if (lugaresProyecto == null) {
+            return ResultadoActualizacion.NO_ENCONTRADO;
+        }
+        return lugaresProyecto.definirCupo(cupo) ? ResultadoActualizacion.EXITO : ResultadoActualizacion.SIN_CUPO;
+    }
+
+    /**
+     * @return El cupo del proyecto, o null si no tiene límite o no existe.
+     */
+    public Integer cupo(int idProyecto) {
+        Lugares lugaresProyecto = lugares.get(idProyecto);
+        return lugaresProyecto == null ? null : lugaresProyecto.cupo();
+    }
+
+    /**
+     * @return El número de estudiantes asignados al proyecto.
+     */
+    public int ocupados(int idProyecto) {
+        Lugares lugaresProyecto = lugares.get(idProyecto);
+        return lugaresProyecto == null ? 0 : lugaresProyecto.ocupados();
+    }
+
+    /**
+     * @return El proyecto con ese identificador, o null si no existe.
+     */
+    public FilaProyecto buscarProyecto(int idProyecto) {
+        return proyectos.get(idProyecto);
+    }
+
+    /**
+     * Cambia el nombre y la descripción de un proyecto si conserva la versión esperada, y aumenta su versión.
+     *
+     * @return {@code EXITO}, {@code CONFLICTO} si la versión no coincide o {@code NO_ENCONTRADO} si el
+     *         proyecto no existe.
+     */
+    public ResultadoActualizacion actualizarProyecto(int idProyecto, String nombre, String descripcion,
+                                                     int versionEsperada) {
+        ResultadoActualizacion[] resultado = {ResultadoActualizacion.NO_ENCONTRADO};
+        proyectos.computeIfPresent(idProyecto, (clave, p) -> {
+            if (p.version() != versionEsperada) {
+                resultado[0] = ResultadoActualizacion.CONFLICTO;
+                return p;
+            }
+            resultado[0] = ResultadoActualizacion.EXITO;
+            return new FilaProyecto(idProyecto, nombre, descripcion, p.version() + 1);
+        });
+        return resultado[0];
+    }
+
+    /**
+     * Recorre los proyectos en orden de identificador a partir del siguiente a {@code despuesDeId}.
+     *
+     * @param despuesDeId Identificador a partir del cual se empieza (exclusivo).
+     * @param filtro      Condición que deben cumplir los proyectos.
+     * @param limite      Número máximo de proyectos a devolver.
+     * @return Los proyectos que cumplen el filtro, en orden ascendente de identificador.
+     */
+    public List<FilaProyecto> proyectosDespuesDe(int despuesDeId, Predicate<FilaProyecto> filtro, int limite) {
+        List<FilaProyecto> pagina = new ArrayList<>(Math.min(Math.max(limite, 0), 256));
+        for (FilaProyecto fila : proyectos.tailMap(despuesDeId, false).values()) {
+            if (pagina.size() >= limite) {
+                break;
+            }
+            if (filtro.test(fila)) {
+                pagina.add(fila);
+            }
+        }
+        return pagina;
+    }
+
+    /**
+     * Elimina todos los datos y reinicia los contadores de identificadores.
+     */
+    public void limpiar() {
+        usuarios.clear();
+        porEmail.clear();
+        porMatricula.clear();
+        proyectos.clear();
+        lugares.clear();
+        siguienteUsuario.set(1);
+        siguienteProyecto.set(1);
+    }
+}
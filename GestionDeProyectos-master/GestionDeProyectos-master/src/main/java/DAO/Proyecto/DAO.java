@@ -1,7 +1,10 @@
 package DAO.Proyecto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+import DAO.ResultadoActualizacion;
 import Modelos.Proyecto;
 
 /**
@@ -12,6 +15,12 @@ import Modelos.Proyecto;
  */
 public interface DAO {
 
+    /**
+     * Tamaño de página predeterminado del listado de proyectos, igual para todas las implementaciones.
+     * Configurable con {@code proyectos.pagina}.
+     */
+    int TAMANO_PAGINA = Integer.getInteger("proyectos.pagina", 50);
+
     /**
      * Registra un nuevo proyecto en la base de datos.
      *
@@ -28,6 +37,20 @@ public interface DAO {
      */
     List<Proyecto> getVisualizarProyectos(Proyecto proyecto);
 
+    /**
+     * Obtiene una página de proyectos ordenados por identificador.
+     *
+     * La paginación es por clave: cada página empieza después del último identificador de la anterior,
+     * por lo que el costo de una página no crece con el número de páginas ya recorridas.
+     *
+     * @param filtro       Proyecto de ejemplo; su nombre y descripción, si no están vacíos, deben estar
+     *                     contenidos en los del proyecto. Puede ser null para no filtrar.
+     * @param despuesDeId  Identificador del último proyecto de la página anterior, o 0 para la primera página.
+     * @param tamanoPagina Número máximo de proyectos de la página.
+     * @return Los proyectos de la página, en orden ascendente de identificador.
+     */
+    List<Proyecto> getVisualizarProyectos(Proyecto filtro, int despuesDeId, int tamanoPagina);
+
     /**
      * Obtiene información sobre un proyecto asignado a un estudiante específico.
      *
@@ -36,6 +59,45 @@ public interface DAO {
      */
     Proyecto getVisualizarProyectoEstudiante(String email);
 
+    /**
+     * Obtiene el proyecto asignado a varios estudiantes con pocas consultas, con los mismos datos que
+     * {@link #getVisualizarProyectoEstudiante(String)}.
+     *
+     * @param emails Los correos de los estudiantes.
+     * @return El proyecto de cada correo que tiene uno asignado; los demás correos no aparecen.
+     * @throws IllegalStateException Si la consulta falla; nunca se devuelve un resultado parcial.
+     */
+    Map<String, Proyecto> getProyectosEstudiantes(Collection<String> emails);
+
+    /**
+     * Obtiene un proyecto por su identificador, con la versión de la fila.
+     *
+     * @param idProyecto El identificador del proyecto.
+     * @return El proyecto, o null si no existe.
+     */
+    Proyecto getProyecto(int idProyecto);
+
+    /**
+     * Cambia el nombre y la descripción de un proyecto solo si la fila conserva la versión con la que se
+     * leyó ({@link Proyecto#getVersion()}). Con {@link ResultadoActualizacion#EXITO} la versión del objeto
+     * aumenta en uno.
+     *
+     * @param proyecto El proyecto leído con {@link #getProyecto(int)} o del listado, con los datos nuevos.
+     * @return El resultado de la actualización.
+     */
+    ResultadoActualizacion updateProyecto(Proyecto proyecto);
+
+    /**
+     * Cambia el número máximo de estudiantes de un proyecto. El cupo no puede quedar por debajo de los
+     * estudiantes ya asignados.
+     *
+     * @param idProyecto El identificador del proyecto.
+     * @param cupo       El cupo nuevo, o null para quitar el límite.
+     * @return {@code EXITO}, {@code NO_ENCONTRADO} si el proyecto no existe o {@code SIN_CUPO} si ya tiene
+     *         más estudiantes asignados que el cupo nuevo.
+     */
+    ResultadoActualizacion definirCupo(int idProyecto, Integer cupo);
+
     /**
      * Registra un nuevo proyecto en la base de datos utilizando los datos proporcionados.
      *
@@ -0,0 +1,159 @@
+package DAO.Proyecto;
+
+import DAO.Memoria.AlmacenMemoria;
+import DAO.Memoria.AlmacenMemoria.FilaProyecto;
+import DAO.Memoria.AlmacenMemoria.FilaUsuario;
+import DAO.ResultadoActualizacion;
+import Modelos.Proyecto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Implementación de la interfaz {@link DAO} sobre {@link AlmacenMemoria}, sin base de datos.
+ *
+ * El listado usa la misma paginación por clave que {@link DAOimp}, y el filtro por nombre y descripción
+ * no distingue mayúsculas, como LIKE con la intercalación predeterminada de MySQL. Las operaciones exitosas
+ * no imprimen mensajes, igual que en el DAO de estudiantes en memoria.
+ */
+public class DAOMemoria implements DAO {
+
+    private final AlmacenMemoria almacen;
+
+    /**
+     * Crea el DAO sobre el almacén compartido de la aplicación.
+     */
+    public DAOMemoria() {
+        this(AlmacenMemoria.getInstancia());
+    }
+
+    /**
+     * @param almacen El almacén en memoria a utilizar.
+     */
+    public DAOMemoria(AlmacenMemoria almacen) {
+        this.almacen = almacen;
+    }
+
+    @Override
+    public boolean postRegistrar(Proyecto proyecto) {
+        return postRegistrar(proyecto.getNombre(), proyecto.getDescripcion());
+    }
+
+    @Override
+    public List<Proyecto> getVisualizarProyectos(Proyecto proyecto) {
+        return getVisualizarProyectos(proyecto, 0, TAMANO_PAGINA);
+    }
+
+    @Override
+    public List<Proyecto> getVisualizarProyectos(Proyecto filtro, int despuesDeId, int tamanoPagina) {
+        Predicate<FilaProyecto> condicion = fila -> true;
+        if (filtro != null) {
+            condicion = contiene(filtro.getNombre(), FilaProyecto::nombre)
+                    .and(contiene(filtro.getDescripcion(), FilaProyecto::descripcion));
+        }
+
+        List<Proyecto> proyectos = new ArrayList<>();
+        for (FilaProyecto fila : almacen.proyectosDespuesDe(despuesDeId, condicion, tamanoPagina)) {
+            Proyecto proyecto = new Proyecto();
+            proyecto.setProyectoId(String.valueOf(fila.idProyecto()));
+            proyecto.setNombre(fila.nombre());
+            proyecto.setDescripcion(fila.descripcion());
+            proyecto.setVersion(fila.version());
+            proyecto.setCupo(almacen.cupo(fila.idProyecto()));
+            proyecto.setOcupados(almacen.ocupados(fila.idProyecto()));
+            proyectos.add(proyecto);
+        }
+        return proyectos;
+    }
+
+    /**
+     * Condición equivalente a {@code columna LIKE '%texto%'}; un texto vacío no filtra.
+     */
+    private static Predicate<FilaProyecto> contiene(String texto, Function<FilaProyecto, String> columna) {
+        if (texto == null || texto.isBlank()) {
+            return fila -> true;
+        }
+        String buscado = texto.trim().toLowerCase(Locale.ROOT);
+        return fila -> {
+            String valor = columna.apply(fila);
+            return valor != null && valor.toLowerCase(Locale.ROOT).contains(buscado);
+        };
+    }
+
+    @Override
+    public Proyecto getVisualizarProyectoEstudiante(String email) {
+        FilaUsuario estudiante = almacen.buscarPorEmail(email);
+        if (estudiante == null || !estudiante.esEstudiante() || estudiante.idProyecto() == null) {
+            return null;
+        }
+        FilaProyecto fila = almacen.buscarProyecto(estudiante.idProyecto());
+        if (fila == null) {
+            return null;
+        }
+        Proyecto proyecto = new Proyecto();
+        proyecto.setNombre(fila.nombre());
+        proyecto.setDescripcion(fila.descripcion());
+        return proyecto;
+    }
+
+    @Override
+    public Map<String, Proyecto> getProyectosEstudiantes(Collection<String> emails) {
+        Map<String, Proyecto> proyectos = new HashMap<>(emails.size() * 2);
+        for (String email : emails) {
+            Proyecto proyecto = getVisualizarProyectoEstudiante(email);
+            if (proyecto != null) {
+                proyectos.put(email, proyecto);
+            }
+        }
+        return proyectos;
+    }
+
+    @Override
+    public Proyecto getProyecto(int idProyecto) {
+        FilaProyecto fila = almacen.buscarProyecto(idProyecto);
+        if (fila == null) {
+            return null;
+        }
+        Proyecto proyecto = new Proyecto();
+        proyecto.setProyectoId(String.valueOf(fila.idProyecto()));
+        proyecto.setNombre(fila.nombre());
+        proyecto.setDescripcion(fila.descripcion());
+        proyecto.setVersion(fila.version());
+        proyecto.setCupo(almacen.cupo(idProyecto));
+        proyecto.setOcupados(almacen.ocupados(idProyecto));
+        return proyecto;
+    }
+
+    @Override
+    public ResultadoActualizacion updateProyecto(Proyecto proyecto) {
+        ResultadoActualizacion resultado = almacen.actualizarProyecto(Integer.parseInt(proyecto.getProyectoId()),
+                proyecto.getNombre(), proyecto.getDescripcion(), proyecto.getVersion());
+        if (resultado.isExitoso()) {
+            proyecto.setVersion(proyecto.getVersion() + 1);
+        } else {
+            System.err.println("Error al actualizar el proyecto: " + resultado);
+        }
+        return resultado;
+    }
+
+    @Override
+    public ResultadoActualizacion definirCupo(int idProyecto, Integer cupo) {
+        ResultadoActualizacion resultado = almacen.definirCupo(idProyecto, cupo);
+        if (!resultado.isExitoso()) {
+            System.err.println("Error al cambiar el cupo del proyecto: " + resultado);
+        }
+        return resultado;
+    }
+
+    @Override
+    public boolean postRegistrar(String nombre, String descripcion) {
+        almacen.insertarProyecto(nombre, descripcion);
+        return true;
+    }
+}
@@ -1,6 +1,8 @@
 package DAO.Proyecto;
 
+import DAO.ResultadoActualizacion;
 import DBConeccion.SQLConeccion;
+import DBConeccion.SentenciasSQL;
 import Modelos.Proyecto;
 
 import java.sql.Connection;
@@ -8,7 +10,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementación de la interfaz {@link DAO} para manejar operaciones relacionadas con proyectos
@@ -29,15 +35,67 @@ public class DAOimp implements DAO {
     }
 
     /**
-     * Obtiene una lista de proyectos disponibles en la base de datos.
-     * Este método devuelve una lista vacía porque aún no está implementado.
+     * Obtiene la primera página de proyectos disponibles en la base de datos, con el tamaño de
+     * página predeterminado.
      *
      * @param proyecto Filtro o criterio opcional para buscar proyectos. Puede ser null.
-     * @return Una lista vacía de objetos {@link Proyecto}.
+     * @return La primera página de proyectos que cumplen el filtro.
      */
     @Override
     public List<Proyecto> getVisualizarProyectos(Proyecto proyecto) {
-        return new ArrayList<>();
+        return getVisualizarProyectos(proyecto, 0, TAMANO_PAGINA);
+    }
+
+    /**
+     * Obtiene una página de proyectos ordenados por identificador, usando paginación por clave
+     * sobre {@code id_proyecto} en lugar de OFFSET.
+     *
+     * @param filtro       Proyecto de ejemplo para filtrar por nombre y descripción. Puede ser null.
+     * @param despuesDeId  Identificador del último proyecto de la página anterior, o 0 para la primera página.
+     * @param tamanoPagina Número máximo de proyectos de la página.
+     * @return Los proyectos de la página, o una lista vacía si ocurrió un error.
+     */
+    @Override
+    public List<Proyecto> getVisualizarProyectos(Proyecto filtro, int despuesDeId, int tamanoPagina) {
+        String nombre = filtro == null ? null : filtro.getNombre();
+        String descripcion = filtro == null ? null : filtro.getDescripcion();
+        boolean porNombre = nombre != null && !nombre.isBlank();
+        boolean porDescripcion = descripcion != null && !descripcion.isBlank();
+
+        List<Proyecto> proyectos = new ArrayList<>();
+
+        try (Connection conn = SQLConeccion.obtenerConeccion();
+             PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.listarProyectos(porNombre, porDescripcion))) {
+            int indice = 1;
+            stmt.setInt(indice++, despuesDeId);
+            if (porNombre) {
+                stmt.setString(indice++, patronContiene(nombre));
+            }
+            if (porDescripcion) {
+                stmt.setString(indice++, patronContiene(descripcion));
+            }
+            stmt.setInt(indice, tamanoPagina);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    proyectos.add(MapeadorProyecto.INSTANCIA.mapear(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error al listar los proyectos: " + e.getMessage());
+        }
+        return proyectos;
+    }
+
+    /**
+     * Construye un patrón LIKE que busca el texto en cualquier posición, escapando los comodines.
+     */
+    private static String patronContiene(String texto) {
+        String escapado = texto.trim()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escapado + "%";
     }
 
     /**
@@ -49,23 +107,19 @@ public class DAOimp implements DAO {
      */
     @Override
     public Proyecto getVisualizarProyectoEstudiante(String email) {
-        String selectProyecto = "SELECT p.nombre, p.descripcion " +
-                                "FROM proyecto p " +
-                                "JOIN estudiante e ON e.id_proyecto = p.id_proyecto " +
-                                "JOIN usuario_base u ON u.id_usuario = e.id_usuario " +
-                                "WHERE u.email = ?";
+        String selectProyecto = SentenciasSQL.SELECCIONAR_PROYECTO_ESTUDIANTE;
         
         Proyecto proyecto = null;
     
         try (Connection conn = SQLConeccion.obtenerConeccion();
              PreparedStatement stmt = conn.prepareStatement(selectProyecto)) {
             stmt.setString(1, email);
-            ResultSet rs = stmt.executeQuery();
-    
-            if (rs.next()) {
-                proyecto = new Proyecto();
-                proyecto.setNombre(rs.getString("nombre"));
-                proyecto.setDescripcion(rs.getString("descripcion"));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    proyecto = new Proyecto();
+                    proyecto.setNombre(rs.getString("nombre"));
+                    proyecto.setDescripcion(rs.getString("descripcion"));
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error al visualizar el proyecto del estudiante: " + e.getMessage());
@@ -73,6 +127,135 @@ public class DAOimp implements DAO {
         return proyecto;
     }
 
+    /**
+     * Consulta los proyectos en bloques de hasta {@link SentenciasSQL#MAXIMO_LISTA_IN} correos por sentencia.
+     * Si falla una consulta no se devuelve un mapa parcial, porque los correos que faltaran se tomarían por
+     * estudiantes sin proyecto.
+     */
+    @Override
+    public Map<String, Proyecto> getProyectosEstudiantes(Collection<String> emails) {
+        List<String> unicos = new ArrayList<>(new LinkedHashSet<>(emails));
+        Map<String, Proyecto> proyectos = new HashMap<>(unicos.size() * 2);
+        if (unicos.isEmpty()) {
+            return proyectos;
+        }
+
+        try (Connection conn = SQLConeccion.obtenerConeccion()) {
+            for (int inicio = 0; inicio < unicos.size(); inicio += SentenciasSQL.MAXIMO_LISTA_IN) {
+                List<String> bloque = unicos.subList(inicio, Math.min(inicio + SentenciasSQL.MAXIMO_LISTA_IN, unicos.size()));
+                int parametros = SentenciasSQL.tamanoListaIn(bloque.size());
+
+                try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.seleccionarProyectosEstudiantes(bloque.size()))) {
+                    for (int i = 0; i < parametros; i++) {
+                        stmt.setString(i + 1, bloque.get(Math.min(i, bloque.size() - 1)));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            Proyecto proyecto = new Proyecto();
+                            proyecto.setNombre(rs.getString("nombre"));
+                            proyecto.setDescripcion(rs.getString("descripcion"));
+                            proyectos.put(rs.getString("email"), proyecto);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error al visualizar los proyectos de los estudiantes: " + e.getMessage());
+            throw new IllegalStateException("No se pudieron consultar los proyectos de los estudiantes.", e);
+        }
+        return proyectos;
+    }
+
+    @Override
+    public Proyecto getProyecto(int idProyecto) {
+        try (Connection conn = SQLConeccion.obtenerConeccion();
+             PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.SELECCIONAR_PROYECTO)) {
+            stmt.setInt(1, idProyecto);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return MapeadorProyecto.INSTANCIA.mapear(rs);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error al obtener el proyecto: " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Actualiza el proyecto con una sola sentencia condicionada a la versión. Si no se actualiza ninguna
+     * fila, se consulta si el proyecto existe para distinguir un conflicto de un proyecto inexistente.
+     */
+    @Override
+    public ResultadoActualizacion updateProyecto(Proyecto proyecto) {
+        int idProyecto = Integer.parseInt(proyecto.getProyectoId());
+        try (Connection conn = SQLConeccion.obtenerConeccion()) {
+            try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.ACTUALIZAR_PROYECTO)) {
+                stmt.setString(1, proyecto.getNombre());
+                stmt.setString(2, proyecto.getDescripcion());
+                stmt.setInt(3, idProyecto);
+                stmt.setInt(4, proyecto.getVersion());
+                if (stmt.executeUpdate() > 0) {
+                    proyecto.setVersion(proyecto.getVersion() + 1);
+                    System.out.println("Proyecto actualizado exitosamente.");
+                    return ResultadoActualizacion.EXITO;
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.EXISTE_PROYECTO)) {
+                stmt.setInt(1, idProyecto);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        System.err.println("Conflicto al actualizar el proyecto: otro usuario lo modificó.");
+                        return ResultadoActualizacion.CONFLICTO;
+                    }
+                }
+            }
+            System.err.println("Error al actualizar el proyecto: no existe el proyecto " + idProyecto);
+            return ResultadoActualizacion.NO_ENCONTRADO;
+        } catch (SQLException e) {
+            System.err.println("Error al actualizar el proyecto: " + e.getMessage());
+            return ResultadoActualizacion.ERROR;
+        }
+    }
+
+    /**
+     * Cambia el cupo con una sola sentencia que solo se aplica si los lugares ocupados caben en el cupo
+     * nuevo. Si no se actualiza ninguna fila, se consulta si el proyecto existe para distinguir los casos.
+     */
+    @Override
+    public ResultadoActualizacion definirCupo(int idProyecto, Integer cupo) {
+        try (Connection conn = SQLConeccion.obtenerConeccion()) {
+            try (PreparedStatement stmt = conn.prepareStatement(cupo == null ? SentenciasSQL.QUITAR_CUPO
+                    : SentenciasSQL.DEFINIR_CUPO)) {
+                if (cupo == null) {
+                    stmt.setInt(1, idProyecto);
+                } else {
+                    stmt.setInt(1, cupo);
+                    stmt.setInt(2, idProyecto);
+                    stmt.setInt(3, cupo);
+                }
+                if (stmt.executeUpdate() > 0) {
+                    System.out.println("Cupo del proyecto actualizado exitosamente.");
+                    return ResultadoActualizacion.EXITO;
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.EXISTE_PROYECTO)) {
+                stmt.setInt(1, idProyecto);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        System.err.println("Error al cambiar el cupo: el proyecto ya tiene más estudiantes asignados.");
+                        return ResultadoActualizacion.SIN_CUPO;
+                    }
+                }
+            }
+            System.err.println("Error al cambiar el cupo: no existe el proyecto " + idProyecto);
+            return ResultadoActualizacion.NO_ENCONTRADO;
+        } catch (SQLException e) {
+            System.err.println("Error al cambiar el cupo del proyecto: " + e.getMessage());
+            return ResultadoActualizacion.ERROR;
+        }
+    }
+
     /**
      * Registra un nuevo proyecto en la base de datos utilizando los datos proporcionados.
      * Este método lanza una excepción porque aún no está implementado.
@@ -0,0 +1,33 @@
+package DAO.Proyecto;
+
+import DAO.MapeadorFilas;
+import Modelos.Proyecto;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Construye un {@link Proyecto} a partir de las columnas {@code id_proyecto}, {@code nombre},
+ * {@code descripcion}, {@code version}, {@code cupo} y {@code ocupados}, las que devuelven {@code SentenciasSQL.SELECCIONAR_PROYECTO} y el
+ * listado paginado.
+ */
+public final class MapeadorProyecto implements MapeadorFilas<Proyecto> {
+
+    public static final MapeadorProyecto INSTANCIA = new MapeadorProyecto();
+
+    private MapeadorProyecto() {
+    }
+
+    @Override
+    public Proyecto mapear(ResultSet rs) throws SQLException {
+        Proyecto proyecto = new Proyecto();
+        proyecto.setProyectoId(String.valueOf(rs.getInt("id_proyecto")));
+        proyecto.setNombre(rs.getString("nombre"));
+        proyecto.setDescripcion(rs.getString("descripcion"));
+        proyecto.setVersion(rs.getInt("version"));
+        int cupo = rs.getInt("cupo");
+        proyecto.setCupo(rs.wasNull() ? null : cupo);
+        proyecto.setOcupados(rs.getInt("ocupados"));
+        return proyecto;
+    }
+}
@@ -6,9 +6,11 @@ import jakarta.validation.ConstraintViolationException;
 /**
  * Clase de utilidad que proporciona métodos para asignar valores a las propiedades
  * de un objeto {@link Proyecto} y validar estos datos utilizando restricciones de validación.
+ *
+ * La clase no guarda estado: cada llamada crea su propio {@link Proyecto}, por lo que puede usarse
+ * desde varios hilos.
  */
 public class Utiles {
-    Proyecto proyecto = new Proyecto();
     /**
      * Asigna valores al nombre y descripción de un proyecto y realiza la validación de las propiedades del objeto.
      *
@@ -19,12 +21,15 @@ public class Utiles {
      * @param descripcion La descripción del proyecto a asignar.
      * @throws ConstraintViolationException Si alguna de las propiedades del proyecto no cumple con las
      *                                      restricciones de validación definidas en el modelo.
+     * @return El proyecto con los valores asignados y validados.
      */
-    public void AsignarRegistro(String nombre, String descripcion) throws ConstraintViolationException {
+    public Proyecto AsignarRegistro(String nombre, String descripcion) throws ConstraintViolationException {
+        Proyecto proyecto = new Proyecto();
         try {
             proyecto.setNombre(nombre);
             proyecto.setDescripcion(descripcion);
-            proyecto.validate(); 
+            proyecto.validate();
+            return proyecto;
         } catch (ConstraintViolationException e) {
             System.err.println("Error de validación: " + e.getMessage());
             throw e;
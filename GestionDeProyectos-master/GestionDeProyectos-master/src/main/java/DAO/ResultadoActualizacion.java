@@ -0,0 +1,44 @@
+package DAO;
+
+/**
+ * Resultado de una actualización con control de concurrencia optimista.
+ *
+ * Las filas versionadas guardan un número de versión que aumenta con cada escritura. Una actualización
+ * condicionada solo se aplica si la versión de la fila sigue siendo la que leyó quien actualiza; si otro
+ * usuario la modificó mientras tanto, el resultado es {@link #CONFLICTO} y no se escribe nada.
+ */
+public enum ResultadoActualizacion {
+
+    /**
+     * La fila se actualizó y su versión aumentó en uno.
+     */
+    EXITO,
+
+    /**
+     * La fila existe, pero su versión ya no es la esperada; hay que volver a leerla y decidir de nuevo.
+     */
+    CONFLICTO,
+
+    /**
+     * No existe la fila a actualizar.
+     */
+    NO_ENCONTRADO,
+
+    /**
+     * El proyecto a asignar no tiene lugares disponibles, o su cupo no puede ser menor que los lugares
+     * ya ocupados.
+     */
+    SIN_CUPO,
+
+    /**
+     * La actualización falló por otro motivo, por ejemplo un error de conexión o una llave foránea.
+     */
+    ERROR;
+
+    /**
+     * @return true si la actualización se aplicó.
+     */
+    public boolean isExitoso() {
+        return this == EXITO;
+    }
+}
@@ -0,0 +1,35 @@
+package DAO.Usuario;
+
+/**
+ * Datos necesarios para autenticar a un usuario: su identificador, la contraseña encriptada
+ * almacenada y el rol que tiene en el sistema.
+ */
+public class Credenciales {
+
+    private final int idUsuario;
+    private final String contrasenaEncriptada;
+    private final String rol;
+
+    /**
+     * @param idUsuario            El identificador del usuario en {@code usuario_base}.
+     * @param contrasenaEncriptada La contraseña encriptada almacenada.
+     * @param rol                  "estudiante", "coordinador" o null si el usuario no tiene rol.
+     */
+    public Credenciales(int idUsuario, String contrasenaEncriptada, String rol) {
+        this.idUsuario = idUsuario;
+        this.contrasenaEncriptada = contrasenaEncriptada;
+        this.rol = rol;
+    }
+
+    public int getIdUsuario() {
+        return idUsuario;
+    }
+
+    public String getContrasenaEncriptada() {
+        return contrasenaEncriptada;
+    }
+
+    public String getRol() {
+        return rol;
+    }
+}
@@ -0,0 +1,16 @@
+package DAO.Usuario;
+
+/**
+ * Interfaz que define el acceso a los datos comunes de todos los usuarios, necesarios para
+ * el inicio de sesión.
+ */
+public interface DAO {
+
+    /**
+     * Obtiene las credenciales y el rol de un usuario a partir de su correo electrónico.
+     *
+     * @param email El correo electrónico del usuario.
+     * @return Las {@link Credenciales} del usuario, o null si no existe o si ocurrió un error.
+     */
+    Credenciales getCredenciales(String email);
+}
@@ -0,0 +1,36 @@
+package DAO.Usuario;
+
+import DAO.Memoria.AlmacenMemoria;
+import DAO.Memoria.AlmacenMemoria.FilaUsuario;
+
+/**
+ * Implementación de la interfaz {@link DAO} sobre {@link AlmacenMemoria}, sin base de datos.
+ */
+public class DAOMemoria implements DAO {
+
+    private final AlmacenMemoria almacen;
+
+    /**
+     * Crea el DAO sobre el almacén compartido de la aplicación.
+     */
+    public DAOMemoria() {
+        this(AlmacenMemoria.getInstancia());
+    }
+
+    /**
+     * @param almacen El almacén en memoria a utilizar.
+     */
+    public DAOMemoria(AlmacenMemoria almacen) {
+        this.almacen = almacen;
+    }
+
+    @Override
+    public Credenciales getCredenciales(String email) {
+        FilaUsuario fila = almacen.buscarPorEmail(email);
+        if (fila == null) {
+            return null;
+        }
+        String rol = fila.esEstudiante() ? "estudiante" : fila.esCoordinador() ? "coordinador" : null;
+        return new Credenciales(fila.idUsuario(), fila.contrasena(), rol);
+    }
+}
@@ -0,0 +1,48 @@
+package DAO.Usuario;
+
+import Cache.CacheIdentidades;
+import DBConeccion.SQLConeccion;
+import DBConeccion.SentenciasSQL;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Implementación de la interfaz {@link DAO} sobre la base de datos SQL.
+ */
+public class DAOimp implements DAO {
+
+    /**
+     * Obtiene las credenciales y el rol de un usuario en una sola consulta.
+     *
+     * El rol se resuelve uniendo {@code usuario_base} con {@code estudiante} y {@code coordinador},
+     * por lo que el inicio de sesión requiere un único viaje a la base de datos.
+     *
+     * @param email El correo electrónico del usuario.
+     * @return Las {@link Credenciales} del usuario, o null si no existe o si ocurrió un error.
+     */
+    @Override
+    public Credenciales getCredenciales(String email) {
+        try (Connection conn = SQLConeccion.obtenerConeccion();
+             PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.SELECCIONAR_CREDENCIALES)) {
+            stmt.setString(1, email);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    int idUsuario = rs.getInt("id_usuario");
+                    String rol = rs.getString("rol");
+                    // Las actualizaciones posteriores del estudiante se harán por llave primaria.
+                    if ("estudiante".equals(rol)) {
+                        CacheIdentidades.registrar(email, idUsuario);
+                    }
+                    return new Credenciales(idUsuario, rs.getString("contrasena"), rol);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error al obtener las credenciales del usuario: " + e.getMessage());
+        }
+        return null;
+    }
+}
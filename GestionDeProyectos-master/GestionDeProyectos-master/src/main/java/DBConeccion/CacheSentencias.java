@@ -0,0 +1,260 @@
+package DBConeccion;
+
+import Metricas.RegistroMetricas;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché de sentencias preparadas asociada a una conexión física del pool.
+ *
+ * Cuando un DAO cierra una sentencia obtenida de una conexión del pool, la sentencia no se cierra sino que
+ * se limpia y se guarda aquí; la siguiente vez que se prepare el mismo SQL en esa conexión se reutiliza sin
+ * volver a analizarlo. Una sentencia en uso se retira de la caché, así que nunca se entrega dos veces a la vez.
+ *
+ * Los aciertos y fallos se acumulan de forma global y por sentencia para medir el ahorro en las rutas
+ * más frecuentes (inicio de sesión y actualizaciones). Se publican en {@link RegistroMetricas} como la caché
+ * {@code db.sentencias}, con el detalle por sentencia en JMX.
+ */
+public class CacheSentencias {
+
+    private static final LongAdder ACIERTOS = new LongAdder();
+    private static final LongAdder FALLOS = new LongAdder();
+    private static final Map<String, LongAdder[]> POR_SENTENCIA = new ConcurrentHashMap<>();
+
+    static {
+        RegistroMetricas.registrarCache("db.sentencias", CacheSentencias::getAciertos, CacheSentencias::getFallos,
+                CacheSentencias::detallePorSentencia);
+    }
+
+    private final int capacidad;
+    private final LinkedHashMap<Clave, PreparedStatement> libres;
+
+    /**
+     * @param capacidad Número máximo de sentencias libres que se guardan; 0 desactiva la caché.
+     */
+    public CacheSentencias(int capacidad) {
+        this.capacidad = capacidad;
+        this.libres = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Prepara una sentencia reutilizando una guardada si existe.
+     *
+     * @param conexion    Conexión física sobre la que se prepara la sentencia.
+     * @param sql         Texto SQL de la sentencia.
+     * @param clavesAuto  Valor de {@link Statement#RETURN_GENERATED_KEYS} o -1 si no se especificó.
+     * @return Un proxy de la sentencia cuyo {@code close()} la devuelve a esta caché.
+     * @throws SQLException Si el driver no puede preparar la sentencia.
+     */
+    PreparedStatement preparar(Connection conexion, String sql, int clavesAuto) throws SQLException {
+        Clave clave = new Clave(sql, clavesAuto);
+        PreparedStatement sentencia;
+        synchronized (libres) {
+            sentencia = libres.remove(clave);
+        }
+        if (sentencia != null && !sentencia.isClosed()) {
+            registrar(sql, true);
+        } else {
+            registrar(sql, false);
+            sentencia = clavesAuto == -1
+                    ? conexion.prepareStatement(sql)
+                    : conexion.prepareStatement(sql, clavesAuto);
+        }
+        return envolver(clave, sentencia);
+    }
+
+    /**
+     * Cierra todas las sentencias guardadas. Se invoca al descartar la conexión física.
+     */
+    void cerrarTodas() {
+        List<PreparedStatement> sentencias;
+        synchronized (libres) {
+            sentencias = new ArrayList<>(libres.values());
+            libres.clear();
+        }
+        for (PreparedStatement sentencia : sentencias) {
+            cerrarSilenciosamente(sentencia);
+        }
+    }
+
+    private void devolver(Clave clave, PreparedStatement sentencia) {
+        if (capacidad <= 0) {
+            cerrarSilenciosamente(sentencia);
+            return;
+        }
+        try {
+            sentencia.clearParameters();
+            sentencia.clearBatch();
+        } catch (SQLException e) {
+            cerrarSilenciosamente(sentencia);
+            return;
+        }
+
+        PreparedStatement desalojada = null;
+        PreparedStatement reemplazada;
+        synchronized (libres) {
+            reemplazada = libres.put(clave, sentencia);
+            if (libres.size() > capacidad) {
+                Map.Entry<Clave, PreparedStatement> masAntigua = libres.entrySet().iterator().next();
+                desalojada = masAntigua.getValue();
+                libres.remove(masAntigua.getKey());
+            }
+        }
+        if (reemplazada != null && reemplazada != sentencia) cerrarSilenciosamente(reemplazada);
+        if (desalojada != null) cerrarSilenciosamente(desalojada);
+    }
+
+    private PreparedStatement envolver(Clave clave, PreparedStatement sentencia) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                new SentenciaPrestada(clave, sentencia));
+    }
+
+    private static void cerrarSilenciosamente(PreparedStatement sentencia) {
+        try {
+            sentencia.close();
+        } catch (SQLException e) {
+            System.err.println("Error al cerrar una sentencia en caché: " + e.getMessage());
+        }
+    }
+
+    private static void registrar(String sql, boolean acierto) {
+        (acierto ? ACIERTOS : FALLOS).increment();
+        POR_SENTENCIA.computeIfAbsent(sql, k -> new LongAdder[]{new LongAdder(), new LongAdder()})
+                [acierto ? 0 : 1].increment();
+    }
+
+    /**
+     * @return Número total de sentencias reutilizadas desde la caché.
+     */
+    public static long getAciertos() {
+        return ACIERTOS.sum();
+    }
+
+    /**
+     * @return Número total de sentencias que tuvieron que prepararse en el driver.
+     */
+    public static long getFallos() {
+        return FALLOS.sum();
+    }
+
+    /**
+     * @return Proporción de aciertos entre 0 y 1, o 0 si aún no se ha preparado ninguna sentencia.
+     */
+    public static double getTasaAciertos() {
+        long aciertos = getAciertos();
+        long total = aciertos + getFallos();
+        return total == 0 ? 0.0 : (double) aciertos / total;
+    }
+
+    /**
+     * Devuelve los aciertos y fallos de cada sentencia, ordenados por texto SQL.
+     *
+     * @return Un mapa de SQL a un arreglo {aciertos, fallos}.
+     */
+    public static Map<String, long[]> estadisticasPorSentencia() {
+        Map<String, long[]> resultado = new TreeMap<>();
+        POR_SENTENCIA.forEach((sql, contadores) ->
+                resultado.put(sql, new long[]{contadores[0].sum(), contadores[1].sum()}));
+        return resultado;
+    }
+
+    private static List<String> detallePorSentencia() {
+        List<String> detalle = new ArrayList<>();
+        estadisticasPorSentencia().forEach((sql, contadores) ->
+                detalle.add("aciertos=" + contadores[0] + " fallos=" + contadores[1] + " " + sql));
+        return detalle;
+    }
+
+    /**
+     * Reinicia todos los contadores de aciertos y fallos.
+     */
+    public static void reiniciarEstadisticas() {
+        ACIERTOS.reset();
+        FALLOS.reset();
+        POR_SENTENCIA.clear();
+    }
+
+    /**
+     * Identifica una sentencia por su SQL y por si solicita las claves generadas.
+     */
+    private static final class Clave {
+        final String sql;
+        final int clavesAuto;
+
+        Clave(String sql, int clavesAuto) {
+            this.sql = sql;
+            this.clavesAuto = clavesAuto;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Clave)) return false;
+            Clave otra = (Clave) o;
+            return clavesAuto == otra.clavesAuto && sql.equals(otra.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, clavesAuto);
+        }
+    }
+
+    /**
+     * Manejador del proxy de sentencia: {@code close()} la devuelve a la caché una sola vez.
+     */
+    private final class SentenciaPrestada implements InvocationHandler {
+        private final Clave clave;
+        private PreparedStatement sentencia;
+
+        SentenciaPrestada(Clave clave, PreparedStatement sentencia) {
+            this.clave = clave;
+            this.sentencia = sentencia;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (sentencia != null) {
+                        PreparedStatement devuelta = sentencia;
+                        sentencia = null;
+                        devolver(clave, devuelta);
+                    }
+                    return null;
+                case "isClosed":
+                    return sentencia == null || sentencia.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    if (sentencia == null) {
+                        throw new SQLException("La sentencia ya fue cerrada.");
+                    }
+                    try {
+                        return method.invoke(sentencia, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package DBConeccion;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool acotado de conexiones JDBC.
+ *
+ * Mantiene entre {@code minimo} y {@code maximo} conexiones físicas abiertas. Las conexiones se prestan
+ * envueltas en un proxy cuyo método {@code close()} las devuelve al pool en lugar de cerrarlas, de modo que
+ * los DAO pueden seguir usando try-with-resources sin provocar reconexiones. Antes de entregar una conexión
+ * inactiva se valida con {@link Connection#isValid(int)}, y un hilo en segundo plano cierra las conexiones
+ * que superan el tiempo máximo de inactividad mientras el pool esté por encima del mínimo.
+ *
+ * Cada conexión física conserva una {@link CacheSentencias}: las sentencias que los DAO preparan y cierran
+ * quedan listas para la siguiente vez que se preparen sobre la misma conexión.
+ */
+public class PoolConecciones {
+
+    private final String url;
+    private final Properties propiedades;
+    private final int minimo;
+    private final int maximo;
+    private final long esperaMaximaMs;
+    private final long inactividadMaximaMs;
+    private final int capacidadSentencias;
+
+    /** Conexiones físicas libres; la más reciente al frente para favorecer las conexiones "calientes". */
+    private final LinkedBlockingDeque<ConexionFisica> libres = new LinkedBlockingDeque<>();
+
+    /** Permisos disponibles para prestar conexiones; limita el total a {@code maximo}. */
+    private final Semaphore permisos;
+
+    private final AtomicInteger abiertas = new AtomicInteger();
+    private final ScheduledExecutorService desalojador;
+    private volatile boolean cerrado;
+
+    /**
+     * Crea el pool y abre las {@code minimo} conexiones iniciales.
+     *
+     * @param url                 URL JDBC de la base de datos.
+     * @param propiedades         Propiedades de conexión (usuario, contraseña y opciones del driver).
+     * @param minimo              Número de conexiones que se mantienen abiertas aunque estén inactivas.
+     * @param maximo              Número máximo de conexiones simultáneas.
+     * @param esperaMaximaMs      Tiempo máximo de espera al pedir una conexión cuando el pool está agotado.
+     * @param inactividadMaximaMs Tiempo tras el cual una conexión inactiva puede ser cerrada.
+     * @param capacidadSentencias Sentencias preparadas que se guardan por conexión; 0 desactiva la caché.
+     * @throws SQLException Si no se pueden abrir las conexiones iniciales.
+     */
+    public PoolConecciones(String url, Properties propiedades, int minimo, int maximo,
+                           long esperaMaximaMs, long inactividadMaximaMs,
+                           int capacidadSentencias) throws SQLException {
+        if (minimo < 0 || maximo < 1 || minimo > maximo) {
+            throw new IllegalArgumentException("Tamaño de pool inválido: minimo=" + minimo + ", maximo=" + maximo);
+        }
+        this.url = url;
+        this.propiedades = propiedades;
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.esperaMaximaMs = esperaMaximaMs;
+        this.inactividadMaximaMs = inactividadMaximaMs;
+        this.capacidadSentencias = capacidadSentencias;
+        this.permisos = new Semaphore(maximo, true);
+
+        for (int i = 0; i < minimo; i++) {
+            libres.offerFirst(abrir());
+        }
+
+        desalojador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "pool-conecciones-desalojo");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        long periodo = Math.max(1000, inactividadMaximaMs / 2);
+        desalojador.scheduleWithFixedDelay(this::desalojarInactivas, periodo, periodo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Presta una conexión del pool. La conexión debe cerrarse para devolverla.
+     *
+     * @return Una conexión válida envuelta en el proxy del pool.
+     * @throws SQLException Si el pool está cerrado, si se agota el tiempo de espera o si no se puede abrir
+     *                      una conexión nueva.
+     */
+    public Connection obtener() throws SQLException {
+        if (cerrado) {
+            throw new SQLException("El pool de conexiones está cerrado.");
+        }
+        try {
+            if (!permisos.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Tiempo de espera agotado al obtener una conexión del pool ("
+                        + esperaMaximaMs + " ms, máximo " + maximo + ").");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrumpido mientras se esperaba una conexión del pool.", e);
+        }
+
+        try {
+            ConexionFisica fisica;
+            while ((fisica = libres.pollFirst()) != null) {
+                if (esValida(fisica)) {
+                    return envolver(fisica);
+                }
+                descartar(fisica);
+            }
+            return envolver(abrir());
+        } catch (SQLException | RuntimeException e) {
+            permisos.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Cierra todas las conexiones libres y rechaza nuevos préstamos. Las conexiones prestadas se
+     * cierran al devolverse.
+     */
+    public void cerrar() {
+        cerrado = true;
+        desalojador.shutdownNow();
+        ConexionFisica fisica;
+        while ((fisica = libres.pollFirst()) != null) {
+            descartar(fisica);
+        }
+    }
+
+    /**
+     * @return Número de conexiones físicas abiertas (prestadas o libres).
+     */
+    public int getAbiertas() {
+        return abiertas.get();
+    }
+
+    /**
+     * @return Número de conexiones físicas libres en el pool.
+     */
+    public int getLibres() {
+        return libres.size();
+    }
+
+    /**
+     * @return Número de conexiones prestadas en este momento.
+     */
+    public int getPrestadas() {
+        return maximo - permisos.availablePermits();
+    }
+
+    private ConexionFisica abrir() throws SQLException {
+        Connection conexion = DriverManager.getConnection(url, propiedades);
+        abiertas.incrementAndGet();
+        return new ConexionFisica(conexion, new CacheSentencias(capacidadSentencias));
+    }
+
+    private boolean esValida(ConexionFisica fisica) {
+        try {
+            return fisica.conexion.isValid(2);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void descartar(ConexionFisica fisica) {
+        abiertas.decrementAndGet();
+        fisica.sentencias.cerrarTodas();
+        try {
+            fisica.conexion.close();
+        } catch (SQLException e) {
+            System.err.println("Error al cerrar una conexión del pool: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Devuelve una conexión física al pool, restaurando el estado que pudo dejar el DAO que la usó.
+     */
+    private void devolver(ConexionFisica fisica) {
+        try {
+            Connection conexion = fisica.conexion;
+            if (cerrado || conexion.isClosed()) {
+                descartar(fisica);
+                return;
+            }
+            if (!conexion.getAutoCommit()) {
+                // Una transacción abandonada no debe filtrarse al siguiente usuario de la conexión.
+                conexion.rollback();
+                conexion.setAutoCommit(true);
+            }
+            fisica.ultimoUso = System.currentTimeMillis();
+            libres.offerFirst(fisica);
+        } catch (SQLException e) {
+            descartar(fisica);
+        } finally {
+            permisos.release();
+        }
+    }
+
+    /**
+     * Cierra las conexiones libres que llevan más de {@code inactividadMaximaMs} sin usarse, sin bajar
+     * del mínimo configurado. Las menos recientes están al final de la cola.
+     */
+    private void desalojarInactivas() {
+        long limite = System.currentTimeMillis() - inactividadMaximaMs;
+        Iterator<ConexionFisica> it = libres.descendingIterator();
+        while (it.hasNext() && abiertas.get() > minimo) {
+            ConexionFisica fisica = it.next();
+            if (fisica.ultimoUso < limite && libres.removeLastOccurrence(fisica)) {
+                descartar(fisica);
+            }
+        }
+    }
+
+    private Connection envolver(ConexionFisica fisica) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConexionPrestada(fisica));
+    }
+
+    /**
+     * Conexión física junto con su caché de sentencias y el instante de su último uso.
+     */
+    private static final class ConexionFisica {
+        final Connection conexion;
+        final CacheSentencias sentencias;
+        volatile long ultimoUso = System.currentTimeMillis();
+
+        ConexionFisica(Connection conexion, CacheSentencias sentencias) {
+            this.conexion = conexion;
+            this.sentencias = sentencias;
+        }
+    }
+
+    /**
+     * Manejador del proxy entregado a los DAO. Delega todo en la conexión física salvo {@code close()},
+     * que la devuelve al pool una sola vez, {@code isClosed()}, que refleja el estado del préstamo, y
+     * {@code prepareStatement(sql)} / {@code prepareStatement(sql, int)}, que pasan por la caché de sentencias.
+     */
+    private final class ConexionPrestada implements InvocationHandler {
+        private ConexionFisica fisica;
+
+        ConexionPrestada(ConexionFisica fisica) {
+            this.fisica = fisica;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (fisica != null) {
+                        ConexionFisica devuelta = fisica;
+                        fisica = null;
+                        devolver(devuelta);
+                    }
+                    return null;
+                case "isClosed":
+                    return fisica == null || fisica.conexion.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "ConexionPrestada[" + (fisica == null ? "devuelta" : fisica.conexion) + "]";
+                default:
+                    if (fisica == null) {
+                        throw new SQLException("La conexión ya fue devuelta al pool.");
+                    }
+                    if (method.getName().equals("prepareStatement")) {
+                        if (args.length == 1) {
+                            return fisica.sentencias.preparar(fisica.conexion, (String) args[0], -1);
+                        }
+                        if (args.length == 2 && args[1] instanceof Integer) {
+                            return fisica.sentencias.preparar(fisica.conexion, (String) args[0], (Integer) args[1]);
+                        }
+                    }
+                    try {
+                        return method.invoke(fisica.conexion, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
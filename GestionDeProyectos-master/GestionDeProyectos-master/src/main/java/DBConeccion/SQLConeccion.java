@@ -1,64 +1,103 @@
 package DBConeccion;
 
 import javax.swing.*;
+import java.awt.GraphicsEnvironment;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Properties;
 
 /**
  * Clase de utilidad para gestionar la conexión con la base de datos.
  *
- * Esta clase proporciona métodos para inicializar, obtener y cerrar la conexión a la base de datos,
- * así como un método para probar la conectividad.
+ * Esta clase proporciona métodos para inicializar el pool de conexiones, obtener conexiones prestadas
+ * y cerrar el pool, así como un método para probar la conectividad.
+ *
+ * Las conexiones obtenidas con {@link #obtenerConeccion()} pertenecen al pool: cerrarlas las devuelve
+ * para que otro hilo las reutilice, por lo que cada DAO debe cerrar la conexión que pidió.
+ *
+ * La configuración puede sobrescribirse con propiedades del sistema ({@code db.url}, {@code db.usuario},
+ * {@code db.contrasena}, {@code db.pool.minimo}, {@code db.pool.maximo}, {@code db.pool.espera},
+ * {@code db.pool.inactividad}, {@code db.sentencias.cache} y {@code db.servidor.prepares}).
+ *
+ * Con {@code db.servidor.prepares=true} se activan las sentencias preparadas del lado del servidor de MySQL
+ * y su caché en el driver, además de la caché de sentencias propia del pool.
  */
 public class SQLConeccion {
-    private static Connection connection;
+    private static volatile PoolConecciones pool;
 
     /**
-     * Inicializa la conexión con la base de datos si aún no está establecida o si se encuentra cerrada.
+     * Inicializa el pool de conexiones con la base de datos si aún no está creado.
      *
      * Este método utiliza las credenciales predeterminadas para conectarse a una base de datos MySQL.
      *
-     * @throws SQLException Sí ocurre un error al establecer la conexión con la base de datos.
+     * @throws SQLException Sí ocurre un error al abrir las conexiones iniciales del pool.
      */
     public static void inicializarConnecion() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            String user = "root";
-            String password = "123456";
-            String url = "jdbc:mysql://localhost:3306/GestionDeProyectos";
+        if (pool == null) {
+            synchronized (SQLConeccion.class) {
+                if (pool == null) {
+                    String url = System.getProperty("db.url", "jdbc:mysql://localhost:3306/GestionDeProyectos");
+                    Properties propiedades = new Properties();
+                    propiedades.setProperty("user", System.getProperty("db.usuario", "root"));
+                    propiedades.setProperty("password", System.getProperty("db.contrasena", "123456"));
+                    if (url.startsWith("jdbc:mysql:")) {
+                        // Permite que el driver envíe los lotes de inserción como una sola sentencia multi-fila.
+                        propiedades.setProperty("rewriteBatchedStatements", "true");
+                        if (Boolean.getBoolean("db.servidor.prepares")) {
+                            propiedades.setProperty("useServerPrepStmts", "true");
+                            propiedades.setProperty("cachePrepStmts", "true");
+                            propiedades.setProperty("prepStmtCacheSize", "250");
+                        }
+                    }
 
-            connection = DriverManager.getConnection(url, user, password);
-            System.out.println("Database connection established.");
+                    pool = new PoolConecciones(url, propiedades,
+                            Integer.getInteger("db.pool.minimo", 2),
+                            Integer.getInteger("db.pool.maximo", 10),
+                            Long.getLong("db.pool.espera", 5000L),
+                            Long.getLong("db.pool.inactividad", 300000L),
+                            Integer.getInteger("db.sentencias.cache", 32));
+                    System.err.println("Database connection pool established.");
+                }
+            }
         }
     }
 
     /**
-     * Obtiene la conexión actual a la base de datos.
+     * Obtiene una conexión del pool.
      *
-     * Este método verifica si la conexión está inicializada y activa antes de devolverla.
+     * La conexión se valida antes de entregarse. Al cerrarla se devuelve al pool.
      *
-     * @return La conexión activa a la base de datos.
-     * @throws SQLException Si la conexión no está inicializada o si se encuentra cerrada.
+     * @return Una conexión activa a la base de datos.
+     * @throws SQLException Si el pool no está inicializado o si no hay conexiones disponibles a tiempo.
      */
     public static Connection obtenerConeccion() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            throw new SQLException("Connection is not initialized. Call initializeConnection() first.");
+        PoolConecciones actual = pool;
+        if (actual == null) {
+            throw new SQLException("Connection pool is not initialized. Call inicializarConnecion() first.");
         }
-        return connection;
+        return actual.obtener();
+    }
+
+    /**
+     * Obtiene el pool de conexiones actual, o null si no se ha inicializado.
+     *
+     * @return El pool de conexiones.
+     */
+    public static PoolConecciones obtenerPool() {
+        return pool;
     }
 
     /**
-     * Cierra la conexión actual con la base de datos, si está activa.
+     * Cierra el pool de conexiones, si está activo.
      *
-     * Este método garantiza que los recursos asociados a la conexión sean liberados.
+     * Este método garantiza que los recursos asociados a las conexiones sean liberados.
      */
     public static void CerrarConneciones() {
-        if (connection != null) {
-            try {
-                connection.close();
-                System.out.println("Database connection closed.");
-            } catch (SQLException e) {
-                System.err.println("Failed to close the connection: " + e.getMessage());
+        synchronized (SQLConeccion.class) {
+            if (pool != null) {
+                pool.cerrar();
+                pool = null;
+                System.err.println("Database connection pool closed.");
             }
         }
     }
@@ -66,13 +105,17 @@ public class SQLConeccion {
     /**
      * Prueba la conexión con la base de datos utilizando las configuraciones predeterminadas.
      *
-     * Este método intenta establecer una conexión con la base de datos y muestra un mensaje en caso de fallo.
+     * Este método intenta inicializar el pool y muestra un mensaje en caso de fallo (solo en consola si
+     * no hay entorno gráfico). Si el pool ya existe no abre conexiones nuevas.
      */
     public static void tryConneccion() {
         try {
             SQLConeccion.inicializarConnecion();
         } catch (Exception e) {
             System.err.println("Failed to connect to the database: " + e.getMessage());
+            if (GraphicsEnvironment.isHeadless()) {
+                return; // Sin pantalla (pruebas de carga, línea de comandos) solo se informa por consola.
+            }
             JOptionPane.showMessageDialog(null,
                     "Error connecting to the database. Please check your configuration.",
                     "Database Connection Error",
@@ -0,0 +1,351 @@
+package DBConeccion;
+
+import Modelos.Campo;
+
+import java.util.Collections;
+
+/**
+ * Registro central de las sentencias SQL que utiliza la aplicación.
+ *
+ * Tener el texto de cada sentencia en un solo lugar garantiza que todos los DAO preparen exactamente
+ * la misma cadena, condición necesaria para que {@link CacheSentencias} y la caché del servidor
+ * reconozcan la sentencia y eviten volver a analizarla.
+ */
+public final class SentenciasSQL {
+
+    private SentenciasSQL() {
+    }
+
+    // Estudiantes
+
+    public static final String INSERTAR_USUARIO_BASE =
+            "INSERT INTO usuario_base (email, contrasena) VALUES (?, ?)";
+
+    public static final String INSERTAR_ESTUDIANTE =
+            "INSERT INTO estudiante (id_usuario, matricula) VALUES (?, ?)";
+
+    public static final String SELECCIONAR_ID_ESTUDIANTE =
+            "SELECT u.id_usuario FROM usuario_base u JOIN estudiante e ON e.id_usuario = u.id_usuario WHERE u.email = ?";
+
+    private static final String SELECCIONAR_ESTUDIANTE_BASE =
+            "SELECT u.id_usuario, u.email, u.nombre, u.telefono, u.direccion, u.version, " +
+            "e.matricula, e.genero, e.id_proyecto " +
+            "FROM usuario_base u " +
+            "JOIN estudiante e ON e.id_usuario = u.id_usuario ";
+
+    public static final String SELECCIONAR_ESTUDIANTE =
+            SELECCIONAR_ESTUDIANTE_BASE + "WHERE u.email = ?";
+
+    /**
+     * Tamaños de lista IN para los que se precalcula la consulta de varios estudiantes. Una lista más corta
+     * se completa repitiendo su último valor hasta el tamaño siguiente, de modo que solo existen estas
+     * variantes en la caché de sentencias.
+     */
+    private static final int[] TAMANOS_LISTA_IN = {1, 4, 16, 64, 256};
+
+    /**
+     * Número máximo de correos por consulta de varios estudiantes.
+     */
+    public static final int MAXIMO_LISTA_IN = TAMANOS_LISTA_IN[TAMANOS_LISTA_IN.length - 1];
+
+    private static final String[] SELECCIONAR_ESTUDIANTES = new String[TAMANOS_LISTA_IN.length];
+
+    static {
+        for (int i = 0; i < TAMANOS_LISTA_IN.length; i++) {
+            SELECCIONAR_ESTUDIANTES[i] = SELECCIONAR_ESTUDIANTE_BASE + "WHERE u.email IN ("
+                    + String.join(", ", Collections.nCopies(TAMANOS_LISTA_IN[i], "?")) + ")";
+        }
+    }
+
+    /**
+     * Devuelve el tamaño de lista IN que se usará para consultar {@code cantidad} correos.
+     *
+     * @param cantidad Número de correos, entre 1 y {@link #MAXIMO_LISTA_IN}.
+     * @return El número de parámetros de la consulta; los sobrantes se llenan repitiendo un correo.
+     */
+    public static int tamanoListaIn(int cantidad) {
+        return TAMANOS_LISTA_IN[indiceListaIn(cantidad)];
+    }
+
+    /**
+     * Devuelve la consulta de varios estudiantes por correo con {@link #tamanoListaIn(int)} parámetros.
+     *
+     * @param cantidad Número de correos, entre 1 y {@link #MAXIMO_LISTA_IN}.
+     * @return El SQL con las mismas columnas que {@link #SELECCIONAR_ESTUDIANTE}.
+     */
+    public static String seleccionarEstudiantes(int cantidad) {
+        return SELECCIONAR_ESTUDIANTES[indiceListaIn(cantidad)];
+    }
+
+    private static int indiceListaIn(int cantidad) {
+        for (int i = 0; i < TAMANOS_LISTA_IN.length; i++) {
+            if (cantidad <= TAMANOS_LISTA_IN[i]) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Se admiten como máximo " + MAXIMO_LISTA_IN + " valores por sentencia.");
+    }
+
+    // Asignación masiva de proyectos. Usan los mismos tamaños de lista que la consulta de varios estudiantes;
+    // los valores sobrantes repiten el último.
+
+    private static final String[] SELECCIONAR_IDS_ESTUDIANTES = new String[TAMANOS_LISTA_IN.length];
+    private static final String[] SELECCIONAR_PROYECTOS_EXISTENTES = new String[TAMANOS_LISTA_IN.length];
+    private static final String[] AUMENTAR_VERSION_USUARIOS = new String[TAMANOS_LISTA_IN.length];
+    private static final String[] ASIGNAR_PROYECTOS = new String[TAMANOS_LISTA_IN.length];
+    private static final String[] BLOQUEAR_ESTUDIANTES = new String[TAMANOS_LISTA_IN.length];
+    private static final String[] SELECCIONAR_PROYECTOS_ESTUDIANTES = new String[TAMANOS_LISTA_IN.length];
+
+    static {
+        for (int i = 0; i < TAMANOS_LISTA_IN.length; i++) {
+            String lista = "(" + String.join(", ", Collections.nCopies(TAMANOS_LISTA_IN[i], "?")) + ")";
+            SELECCIONAR_IDS_ESTUDIANTES[i] = "SELECT u.email, u.id_usuario FROM usuario_base u " +
+                    "JOIN estudiante e ON e.id_usuario = u.id_usuario WHERE u.email IN " + lista;
+            SELECCIONAR_PROYECTOS_EXISTENTES[i] = "SELECT id_proyecto FROM proyecto WHERE id_proyecto IN " + lista;
+            AUMENTAR_VERSION_USUARIOS[i] = "UPDATE usuario_base SET version = version + 1 WHERE id_usuario IN " + lista;
+            ASIGNAR_PROYECTOS[i] = "UPDATE estudiante SET id_proyecto = CASE id_usuario "
+                    + String.join(" ", Collections.nCopies(TAMANOS_LISTA_IN[i], "WHEN ? THEN ?"))
+                    + " END WHERE id_usuario IN " + lista;
+            // Bloquea usuario_base antes que estudiante, en el mismo orden que las actualizaciones individuales.
+            BLOQUEAR_ESTUDIANTES[i] = "SELECT u.id_usuario, e.id_proyecto FROM usuario_base u "
+                    + "JOIN estudiante e ON e.id_usuario = u.id_usuario WHERE u.id_usuario IN " + lista
+                    + " ORDER BY u.id_usuario FOR UPDATE";
+            SELECCIONAR_PROYECTOS_ESTUDIANTES[i] = "SELECT u.email, p.nombre, p.descripcion FROM proyecto p "
+                    + "JOIN estudiante e ON e.id_proyecto = p.id_proyecto "
+                    + "JOIN usuario_base u ON u.id_usuario = e.id_usuario WHERE u.email IN " + lista;
+        }
+    }
+
+    /**
+     * @param cantidad Número de correos, entre 1 y {@link #MAXIMO_LISTA_IN}.
+     * @return La consulta de {@code email} e {@code id_usuario} de los estudiantes con esos correos, con
+     *         {@link #tamanoListaIn(int)} parámetros.
+     */
+    public static String seleccionarIdsEstudiantes(int cantidad) {
+        return SELECCIONAR_IDS_ESTUDIANTES[indiceListaIn(cantidad)];
+    }
+
+    /**
+     * @param cantidad Número de proyectos, entre 1 y {@link #MAXIMO_LISTA_IN}.
+     * @return La consulta de los {@code id_proyecto} que existen entre los indicados, con
+     *         {@link #tamanoListaIn(int)} parámetros.
+     */
+    public static String seleccionarProyectosExistentes(int cantidad) {
+        return SELECCIONAR_PROYECTOS_EXISTENTES[indiceListaIn(cantidad)];
+    }
+
+    /**
+     * @param cantidad Número de estudiantes, entre 1 y {@link #MAXIMO_LISTA_IN}.
+     * @return La sentencia que aumenta la versión de esos usuarios, con {@link #tamanoListaIn(int)} parámetros.
+     */
+    public static String aumentarVersionUsuarios(int cantidad) {
+        return AUMENTAR_VERSION_USUARIOS[indiceListaIn(cantidad)];
+    }
+
+    /**
+     * @param cantidad Número de estudiantes, entre 1 y {@link #MAXIMO_LISTA_IN}.
+     * @return La consulta que bloquea las filas de {@code usuario_base} y {@code estudiante} indicadas y
+     *         devuelve el proyecto actual de cada estudiante, con {@link #tamanoListaIn(int)} parámetros.
+     */
+    public static String bloquearEstudiantes(int cantidad) {
+        return BLOQUEAR_ESTUDIANTES[indiceListaIn(cantidad)];
+    }
+
+    /**
+     * @param cantidad Número de correos, entre 1 y {@link #MAXIMO_LISTA_IN}.
+     * @return La consulta del correo y del nombre y la descripción del proyecto de los estudiantes con esos
+     *         correos que tienen proyecto, con {@link #tamanoListaIn(int)} parámetros.
+     */
+    public static String seleccionarProyectosEstudiantes(int cantidad) {
+        return SELECCIONAR_PROYECTOS_ESTUDIANTES[indiceListaIn(cantidad)];
+    }
+
+    /**
+     * Devuelve la sentencia que asigna a cada estudiante su propio proyecto con una sola actualización.
+     *
+     * @param cantidad Número de estudiantes, entre 1 y {@link #MAXIMO_LISTA_IN}.
+     * @return El SQL con los parámetros: {@link #tamanoListaIn(int)} pares {@code id_usuario, id_proyecto}
+     *         seguidos de los mismos {@code id_usuario}.
+     */
+    public static String asignarProyectos(int cantidad) {
+        return ASIGNAR_PROYECTOS[indiceListaIn(cantidad)];
+    }
+
+    // Las actualizaciones van por llave primaria; el correo se resuelve antes con CacheIdentidades o con
+    // SELECCIONAR_ID_ESTUDIANTE, que solo devuelven identificadores de estudiantes.
+    //
+    // La fila de usuario_base guarda la versión de todo el estudiante: cada actualización la aumenta, aunque
+    // solo cambie la tabla estudiante, para que las actualizaciones condicionadas detecten cualquier escritura.
+
+    private static final String[] ACTUALIZAR_USUARIO_BASE = new String[16];
+
+    static {
+        Campo[] columnas = {Campo.NOMBRE, Campo.TELEFONO, Campo.DIRECCION};
+        for (int variante = 0; variante < ACTUALIZAR_USUARIO_BASE.length; variante++) {
+            StringBuilder sql = new StringBuilder("UPDATE usuario_base SET ");
+            for (int i = 0; i < columnas.length; i++) {
+                if ((variante & (1 << i)) != 0) {
+                    sql.append(columnas[i].getColumna()).append(" = ?, ");
+                }
+            }
+            sql.append("version = version + 1 WHERE id_usuario = ?");
+            if ((variante & 8) != 0) {
+                sql.append(" AND version = ?");
+            }
+            ACTUALIZAR_USUARIO_BASE[variante] = sql.toString();
+        }
+    }
+
+    /**
+     * Devuelve la sentencia que actualiza las columnas indicadas de {@code usuario_base} y aumenta la versión
+     * del estudiante. Las dieciséis variantes se construyen una vez, así que se reutilizan desde la caché de
+     * sentencias.
+     *
+     * @param nombre      Si se actualiza el nombre.
+     * @param telefono    Si se actualiza el teléfono.
+     * @param direccion   Si se actualiza la dirección.
+     * @param conVersion  Si la actualización se condiciona a la versión leída.
+     * @return El SQL con los parámetros: las columnas activas en ese orden, el {@code id_usuario} y, si se
+     *         condiciona, la versión esperada.
+     */
+    public static String actualizarUsuarioBase(boolean nombre, boolean telefono, boolean direccion,
+                                               boolean conVersion) {
+        return ACTUALIZAR_USUARIO_BASE[(nombre ? 1 : 0) + (telefono ? 2 : 0) + (direccion ? 4 : 0)
+                + (conVersion ? 8 : 0)];
+    }
+
+    private static final String[] ACTUALIZAR_ESTUDIANTE = new String[4];
+
+    static {
+        Campo[] columnas = {Campo.GENERO, Campo.PROYECTO};
+        for (int variante = 1; variante < ACTUALIZAR_ESTUDIANTE.length; variante++) {
+            StringBuilder sql = new StringBuilder("UPDATE estudiante SET ");
+            String separador = "";
+            for (int i = 0; i < columnas.length; i++) {
+                if ((variante & (1 << i)) != 0) {
+                    sql.append(separador).append(columnas[i].getColumna()).append(" = ?");
+                    separador = ", ";
+                }
+            }
+            ACTUALIZAR_ESTUDIANTE[variante] = sql.append(" WHERE id_usuario = ?").toString();
+        }
+    }
+
+    /**
+     * Devuelve la sentencia que actualiza las columnas indicadas de la tabla {@code estudiante}.
+     *
+     * @param genero   Si se actualiza el género.
+     * @param proyecto Si se actualiza el proyecto asignado.
+     * @return El SQL con los parámetros: las columnas activas en ese orden y el {@code id_usuario}.
+     * @throws IllegalArgumentException Si no se indica ninguna columna.
+     */
+    public static String actualizarEstudiante(boolean genero, boolean proyecto) {
+        int variante = (genero ? 1 : 0) + (proyecto ? 2 : 0);
+        if (variante == 0) {
+            throw new IllegalArgumentException("Se debe actualizar al menos una columna.");
+        }
+        return ACTUALIZAR_ESTUDIANTE[variante];
+    }
+
+    // Bloquea la fila del estudiante para leer el proyecto que tiene antes de cambiarlo.
+    public static final String SELECCIONAR_PROYECTO_ASIGNADO =
+            "SELECT id_proyecto FROM estudiante WHERE id_usuario = ? FOR UPDATE";
+
+    public static final String EXISTE_ESTUDIANTE =
+            "SELECT 1 FROM usuario_base u JOIN estudiante e ON e.id_usuario = u.id_usuario WHERE u.email = ?";
+
+    public static final String EXISTE_ESTUDIANTE_ID =
+            "SELECT 1 FROM usuario_base u JOIN estudiante e ON e.id_usuario = u.id_usuario " +
+            "WHERE u.id_usuario = ? AND u.email = ?";
+
+    public static final String LISTAR_RESUMEN_ESTUDIANTES =
+            "SELECT u.email, u.nombre, e.matricula " +
+            "FROM usuario_base u " +
+            "JOIN estudiante e ON e.id_usuario = u.id_usuario";
+
+    // Proyectos
+
+    public static final String SELECCIONAR_PROYECTO_ESTUDIANTE =
+            "SELECT p.nombre, p.descripcion " +
+            "FROM proyecto p " +
+            "JOIN estudiante e ON e.id_proyecto = p.id_proyecto " +
+            "JOIN usuario_base u ON u.id_usuario = e.id_usuario " +
+            "WHERE u.email = ?";
+
+    public static final String SELECCIONAR_PROYECTO =
+            "SELECT id_proyecto, nombre, descripcion, version, cupo, ocupados FROM proyecto WHERE id_proyecto = ?";
+
+    public static final String ACTUALIZAR_PROYECTO =
+            "UPDATE proyecto SET nombre = ?, descripcion = ?, version = version + 1 " +
+            "WHERE id_proyecto = ? AND version = ?";
+
+    public static final String EXISTE_PROYECTO =
+            "SELECT 1 FROM proyecto WHERE id_proyecto = ?";
+
+    // Cupo de los proyectos. Los lugares se reservan con una actualización condicionada del contador
+    // ocupados, sin bloquear la tabla: si el proyecto no tiene lugares suficientes no se actualiza ninguna
+    // fila. El cupo null significa que el proyecto no tiene límite. Estas sentencias no cambian la versión
+    // del proyecto, que solo protege su nombre y descripción.
+
+    public static final String RESERVAR_LUGARES =
+            "UPDATE proyecto SET ocupados = ocupados + ? " +
+            "WHERE id_proyecto = ? AND (cupo IS NULL OR ocupados + ? <= cupo)";
+
+    public static final String LIBERAR_LUGARES =
+            "UPDATE proyecto SET ocupados = ocupados - ? WHERE id_proyecto = ? AND ocupados >= ?";
+
+    public static final String LUGARES_DISPONIBLES =
+            "SELECT cupo - ocupados FROM proyecto WHERE id_proyecto = ?";
+
+    public static final String DEFINIR_CUPO =
+            "UPDATE proyecto SET cupo = ? WHERE id_proyecto = ? AND ocupados <= ?";
+
+    public static final String QUITAR_CUPO =
+            "UPDATE proyecto SET cupo = NULL WHERE id_proyecto = ?";
+
+    private static final String LISTAR_PROYECTOS_BASE =
+            "SELECT id_proyecto, nombre, descripcion, version, cupo, ocupados FROM proyecto WHERE id_proyecto > ?";
+
+    private static final String LISTAR_PROYECTOS_ORDEN = " ORDER BY id_proyecto LIMIT ?";
+
+    private static final String[] LISTAR_PROYECTOS = {
+            LISTAR_PROYECTOS_BASE + LISTAR_PROYECTOS_ORDEN,
+            LISTAR_PROYECTOS_BASE + " AND nombre LIKE ?" + LISTAR_PROYECTOS_ORDEN,
+            LISTAR_PROYECTOS_BASE + " AND descripcion LIKE ?" + LISTAR_PROYECTOS_ORDEN,
+            LISTAR_PROYECTOS_BASE + " AND nombre LIKE ? AND descripcion LIKE ?" + LISTAR_PROYECTOS_ORDEN
+    };
+
+    /**
+     * Devuelve la sentencia de listado de proyectos paginada por {@code id_proyecto} para la
+     * combinación de filtros indicada. Las cuatro variantes son constantes, así que se reutilizan
+     * desde la caché de sentencias.
+     *
+     * @param porNombre      Si se filtra por nombre.
+     * @param porDescripcion Si se filtra por descripción.
+     * @return El SQL con los parámetros: último id visto, filtros activos en ese orden y tamaño de página.
+     */
+    public static String listarProyectos(boolean porNombre, boolean porDescripcion) {
+        return LISTAR_PROYECTOS[(porNombre ? 1 : 0) + (porDescripcion ? 2 : 0)];
+    }
+
+    // Exportación
+
+    public static final String EXPORTAR_ESTUDIANTES =
+            "SELECT u.id_usuario, u.email, e.matricula, u.nombre, u.telefono, u.direccion, e.genero, " +
+            "e.id_proyecto, p.nombre AS proyecto " +
+            "FROM usuario_base u " +
+            "JOIN estudiante e ON e.id_usuario = u.id_usuario " +
+            "LEFT JOIN proyecto p ON p.id_proyecto = e.id_proyecto " +
+            "ORDER BY u.id_usuario";
+
+    // Autenticación
+
+    public static final String SELECCIONAR_CREDENCIALES =
+            "SELECT u.id_usuario, u.contrasena, " +
+            "CASE WHEN e.id_usuario IS NOT NULL THEN 'estudiante' " +
+            "WHEN c.id_usuario IS NOT NULL THEN 'coordinador' END AS rol " +
+            "FROM usuario_base u " +
+            "LEFT JOIN estudiante e ON e.id_usuario = u.id_usuario " +
+            "LEFT JOIN coordinador c ON c.id_usuario = u.id_usuario " +
+            "WHERE u.email = ?";
+}
@@ -0,0 +1,226 @@
+package Emparejamiento;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Calcula una asignación estable de estudiantes a proyectos a partir de las preferencias de los estudiantes
+ * y de los lugares de cada proyecto.
+ *
+ * Se usa aceptación diferida con propuestas de los estudiantes (Gale-Shapley): en cada ronda, todo estudiante
+ * libre propone al siguiente proyecto de su lista, y cada proyecto se queda con los mejores estudiantes entre
+ * los que ya tenía y los que le proponen, hasta llenar sus lugares; los rechazados vuelven a proponer en la
+ * ronda siguiente. El resultado es la asignación estable que más favorece a los estudiantes: ningún
+ * estudiante prefiere un proyecto que tenga un lugar libre o a otro estudiante con menor prioridad, y no
+ * depende del orden en que se procesen las propuestas. Por eso, dentro de una ronda cada proyecto se procesa
+ * en paralelo.
+ *
+ * La prioridad de los estudiantes es el orden del mapa de preferencias: el primero tiene la prioridad más
+ * alta. Quien llama decide ese orden (por promedio, por fecha de solicitud o por sorteo).
+ */
+public final class MotorEmparejamiento {
+
+    // Con menos propuestas en una ronda, procesar los proyectos en paralelo cuesta más de lo que ahorra.
+    private static final int MINIMO_PARALELO = 2048;
+
+    private MotorEmparejamiento() {
+    }
+
+    /**
+     * Calcula la asignación.
+     *
+     * @param preferencias Los proyectos que quiere cada estudiante, del preferido al menos preferido, en
+     *                     orden de prioridad de los estudiantes. Los proyectos que no están en {@code lugares}
+     *                     o que se repiten se ignoran, pero la posición de los demás se conserva para las
+     *                     estadísticas.
+     * @param lugares      Los lugares disponibles de cada proyecto; {@link Integer#MAX_VALUE} si no tiene límite.
+     * @return La asignación y sus estadísticas.
+     */
+    public static ResultadoEmparejamiento emparejar(Map<String, List<Integer>> preferencias,
+                                                    Map<Integer, Integer> lugares) {
+        long inicio = System.nanoTime();
+        int estudiantes = preferencias.size();
+
+        int[] idsProyecto = new int[lugares.size()];
+        int[] capacidad = new int[lugares.size()];
+        Map<Integer, Integer> indiceProyecto = new HashMap<>(lugares.size() * 2);
+        for (Map.Entry<Integer, Integer> proyecto : lugares.entrySet()) {
+            int p = indiceProyecto.size();
+            indiceProyecto.put(proyecto.getKey(), p);
+            idsProyecto[p] = proyecto.getKey();
+            capacidad[p] = Math.max(0, Math.min(proyecto.getValue(), estudiantes));
+        }
+
+        String[] emails = new String[estudiantes];
+        // Proyectos de cada estudiante y la posición que tenían en su lista original.
+        int[][] opciones = new int[estudiantes][];
+        int[][] posiciones = new int[estudiantes][];
+        int maximoOpciones = 0;
+        int s = 0;
+        for (Map.Entry<String, List<Integer>> estudiante : preferencias.entrySet()) {
+            emails[s] = estudiante.getKey();
+            List<Integer> lista = estudiante.getValue();
+            maximoOpciones = Math.max(maximoOpciones, lista.size());
+            int[] proyectos = new int[lista.size()];
+            int[] posicion = new int[lista.size()];
+            int validas = 0;
+            for (int i = 0; i < lista.size(); i++) {
+                Integer p = indiceProyecto.get(lista.get(i));
+                if (p != null && capacidad[p] > 0 && !contiene(proyectos, validas, p)) {
+                    proyectos[validas] = p;
+                    posicion[validas++] = i;
+                }
+            }
+            opciones[s] = Arrays.copyOf(proyectos, validas);
+            posiciones[s] = Arrays.copyOf(posicion, validas);
+            s++;
+        }
+
+        Aceptados[] aceptados = new Aceptados[capacidad.length];
+        int[] siguiente = new int[estudiantes];
+        int[] libres = IntStream.range(0, estudiantes).filter(e -> opciones[e].length > 0).toArray();
+        int[] propuestas = new int[estudiantes];
+        int[] inicioBloque = new int[capacidad.length + 1];
+        int[] rechazados = new int[capacidad.length];
+        int rondas = 0;
+
+        while (libres.length > 0) {
+            rondas++;
+            // Agrupa las propuestas por proyecto con un conteo, para que cada proyecto tenga su bloque contiguo.
+            Arrays.fill(inicioBloque, 0);
+            for (int e : libres) {
+                inicioBloque[opciones[e][siguiente[e]] + 1]++;
+            }
+            for (int p = 0; p < capacidad.length; p++) {
+                inicioBloque[p + 1] += inicioBloque[p];
+            }
+            int[] llenado = Arrays.copyOf(inicioBloque, capacidad.length);
+            for (int e : libres) {
+                propuestas[llenado[opciones[e][siguiente[e]++]]++] = e;
+            }
+
+            IntStream proyectos = IntStream.range(0, capacidad.length)
+                    .filter(p -> inicioBloque[p + 1] > inicioBloque[p]);
+            if (libres.length >= MINIMO_PARALELO) {
+                proyectos = proyectos.parallel();
+            }
+            // Cada propuesta produce a lo sumo un rechazo, así que los rechazados caben en el bloque del proyecto.
+            proyectos.forEach(p -> {
+                if (aceptados[p] == null) {
+                    aceptados[p] = new Aceptados(capacidad[p]);
+                }
+                int escritos = inicioBloque[p];
+                for (int i = inicioBloque[p]; i < inicioBloque[p + 1]; i++) {
+                    int rechazado = aceptados[p].proponer(propuestas[i]);
+                    if (rechazado >= 0) {
+                        propuestas[escritos++] = rechazado;
+                    }
+                }
+                rechazados[p] = escritos - inicioBloque[p];
+            });
+
+            int total = 0;
+            for (int p = 0; p < capacidad.length; p++) {
+                for (int i = inicioBloque[p]; i < inicioBloque[p] + rechazados[p]; i++) {
+                    if (siguiente[propuestas[i]] < opciones[propuestas[i]].length) {
+                        libres[total++] = propuestas[i];
+                    }
+                }
+                rechazados[p] = 0;
+            }
+            libres = Arrays.copyOf(libres, total);
+        }
+
+        int[] proyectoDe = new int[estudiantes];
+        Arrays.fill(proyectoDe, -1);
+        for (int p = 0; p < aceptados.length; p++) {
+            if (aceptados[p] != null) {
+                for (int i = 0; i < aceptados[p].tamano; i++) {
+                    proyectoDe[aceptados[p].estudiantes[i]] = p;
+                }
+            }
+        }
+
+        Map<String, Integer> asignaciones = new LinkedHashMap<>(estudiantes * 2);
+        List<String> sinAsignar = new ArrayList<>();
+        int[] porOpcion = new int[maximoOpciones];
+        for (int e = 0; e < estudiantes; e++) {
+            if (proyectoDe[e] < 0) {
+                sinAsignar.add(emails[e]);
+            } else {
+                asignaciones.put(emails[e], idsProyecto[proyectoDe[e]]);
+                porOpcion[posiciones[e][siguiente[e] - 1]]++;
+            }
+        }
+        return new ResultadoEmparejamiento(asignaciones, sinAsignar, porOpcion, rondas, System.nanoTime() - inicio);
+    }
+
+    private static boolean contiene(int[] valores, int tamano, int valor) {
+        for (int i = 0; i < tamano; i++) {
+            if (valores[i] == valor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Estudiantes aceptados provisionalmente por un proyecto, en un montículo de máximos: como la prioridad
+     * es el índice del estudiante, en la raíz queda el de menor prioridad, que es el que se rechaza primero.
+     */
+    private static final class Aceptados {
+
+        private final int capacidad;
+        private int[] estudiantes;
+        private int tamano;
+
+        Aceptados(int capacidad) {
+            this.capacidad = capacidad;
+            this.estudiantes = new int[Math.min(capacidad, 16)];
+        }
+
+        /**
+         * @return El estudiante rechazado, que puede ser el que propone, o -1 si hubo lugar.
+         */
+        int proponer(int estudiante) {
+            if (tamano < capacidad) {
+                if (tamano == estudiantes.length) {
+                    estudiantes = Arrays.copyOf(estudiantes, Math.min(capacidad, tamano * 2));
+                }
+                int i = tamano++;
+                while (i > 0 && estudiantes[(i - 1) / 2] < estudiante) {
+                    estudiantes[i] = estudiantes[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                estudiantes[i] = estudiante;
+                return -1;
+            }
+            if (estudiante > estudiantes[0]) {
+                return estudiante;
+            }
+            int rechazado = estudiantes[0];
+            int i = 0;
+            while (true) {
+                int hijo = 2 * i + 1;
+                if (hijo >= tamano) {
+                    break;
+                }
+                if (hijo + 1 < tamano && estudiantes[hijo + 1] > estudiantes[hijo]) {
+                    hijo++;
+                }
+                if (estudiantes[hijo] < estudiante) {
+                    break;
+                }
+                estudiantes[i] = estudiantes[hijo];
+                i = hijo;
+            }
+            estudiantes[i] = estudiante;
+            return rechazado;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package Emparejamiento;
+
+import DAO.Estudiante.ResultadoAsignacion;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de asignar proyectos por preferencias: la asignación calculada, lo que pasó al guardarla y los
+ * estudiantes que no participaron.
+ *
+ * @param emparejamiento La asignación calculada y sus estadísticas.
+ * @param confirmacion   El resultado de guardar cada asignación. Un estudiante calculado puede quedar
+ *                       {@code SIN_CUPO} si otro coordinador ocupó el lugar mientras tanto.
+ * @param omitidos       Los correos que no existen o que ya tenían un proyecto asignado.
+ */
+public record ReporteEmparejamiento(ResultadoEmparejamiento emparejamiento,
+                                    Map<String, ResultadoAsignacion> confirmacion,
+                                    List<String> omitidos) {
+
+    /**
+     * @return El número de asignaciones que se guardaron.
+     */
+    public int getConfirmados() {
+        int confirmados = 0;
+        for (ResultadoAsignacion resultado : confirmacion.values()) {
+            if (resultado.isExitoso()) {
+                confirmados++;
+            }
+        }
+        return confirmados;
+    }
+
+    /**
+     * @return Las estadísticas de la asignación, las asignaciones guardadas y los estudiantes omitidos.
+     */
+    public String resumen() {
+        return emparejamiento.resumen() + "\nGuardados: " + getConfirmados() + " de "
+                + confirmacion.size() + "\nOmitidos (inexistentes o ya asignados): " + omitidos.size();
+    }
+}
@@ -0,0 +1,106 @@
+package Emparejamiento;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Asignación calculada por {@link MotorEmparejamiento} y estadísticas de qué tan satisfechos quedan los
+ * estudiantes: cuántos obtuvieron su primera opción, su segunda, etc.
+ */
+public class ResultadoEmparejamiento {
+
+    private final Map<String, Integer> asignaciones;
+    private final List<String> sinAsignar;
+    private final int[] porOpcion;
+    private final int rondas;
+    private final long duracionNanos;
+
+    ResultadoEmparejamiento(Map<String, Integer> asignaciones, List<String> sinAsignar, int[] porOpcion,
+                            int rondas, long duracionNanos) {
+        this.asignaciones = Collections.unmodifiableMap(asignaciones);
+        this.sinAsignar = Collections.unmodifiableList(sinAsignar);
+        this.porOpcion = porOpcion;
+        this.rondas = rondas;
+        this.duracionNanos = duracionNanos;
+    }
+
+    /**
+     * @return El proyecto asignado a cada correo, en el orden de prioridad de los estudiantes.
+     */
+    public Map<String, Integer> getAsignaciones() {
+        return asignaciones;
+    }
+
+    /**
+     * @return Los correos de los estudiantes que no cupieron en ninguno de sus proyectos.
+     */
+    public List<String> getSinAsignar() {
+        return sinAsignar;
+    }
+
+    /**
+     * @param opcion La posición en la lista de preferencias, empezando en 1.
+     * @return El número de estudiantes asignados al proyecto que pusieron en esa posición.
+     */
+    public int getAsignadosEnOpcion(int opcion) {
+        return opcion >= 1 && opcion <= porOpcion.length ? porOpcion[opcion - 1] : 0;
+    }
+
+    /**
+     * @return La posición promedio, empezando en 1, del proyecto asignado en la lista de cada estudiante
+     *         asignado, o 0 si no se asignó a nadie.
+     */
+    public double getOpcionPromedio() {
+        long suma = 0;
+        for (int i = 0; i < porOpcion.length; i++) {
+            suma += (long) porOpcion[i] * (i + 1);
+        }
+        return asignaciones.isEmpty() ? 0 : (double) suma / asignaciones.size();
+    }
+
+    /**
+     * @return El número de rondas de propuestas que hicieron falta.
+     */
+    public int getRondas() {
+        return rondas;
+    }
+
+    /**
+     * @return El tiempo de cálculo en milisegundos.
+     */
+    public long getDuracionMs() {
+        return duracionNanos / 1_000_000;
+    }
+
+    /**
+     * @return Un resumen legible de las estadísticas, con una línea por cada una de las primeras opciones.
+     */
+    public String resumen() {
+        int total = asignaciones.size() + sinAsignar.size();
+        StringBuilder sb = new StringBuilder();
+        sb.append(asignaciones.size()).append(" de ").append(total).append(" estudiantes asignados");
+        if (!asignaciones.isEmpty()) {
+            sb.append(String.format(" (opción promedio %.2f)", getOpcionPromedio()));
+        }
+        sb.append('\n');
+        int lineas = Math.min(porOpcion.length, 5);
+        for (int i = 0; i < lineas; i++) {
+            sb.append(String.format("Opción %d: %d (%.1f%%)%n", i + 1, porOpcion[i],
+                    total == 0 ? 0.0 : 100.0 * porOpcion[i] / total));
+        }
+        if (porOpcion.length > lineas) {
+            int resto = Arrays.stream(porOpcion, lineas, porOpcion.length).sum();
+            sb.append(String.format("Opción %d o posterior: %d%n", lineas + 1, resto));
+        }
+        sb.append("Sin asignar: ").append(sinAsignar.size()).append('\n');
+        sb.append("Rondas: ").append(rondas).append(", ").append(getDuracionMs()).append(" ms");
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return resumen();
+    }
+}
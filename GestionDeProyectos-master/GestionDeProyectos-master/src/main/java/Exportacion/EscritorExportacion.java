@@ -0,0 +1,135 @@
+package Exportacion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escribe filas en un canal en el formato indicado, codificadas en UTF-8, a través de un solo búfer de
+ * tamaño fijo.
+ *
+ * Cada fila se arma en un {@link StringBuilder} reutilizado y se codifica directamente en el búfer, que se
+ * vacía en el canal cuando se llena. La memoria usada no depende del número de filas. El escritor no es
+ * seguro para varios hilos y no cierra el canal: {@link #terminar()} y {@link #close()} solo vacían lo
+ * pendiente.
+ */
+public class EscritorExportacion implements Closeable {
+
+    /**
+     * Tamaño predeterminado del búfer, configurable con {@code exportacion.buffer} (bytes).
+     */
+    public static final int TAMANO_BUFFER = Integer.getInteger("exportacion.buffer", 64 * 1024);
+
+    private final WritableByteChannel canal;
+    private final FormatoExportacion formato;
+    private final String[] columnas;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder codificador = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final StringBuilder linea = new StringBuilder(256);
+
+    private long filas;
+    private long bytes;
+    private boolean cerrado;
+
+    /**
+     * Crea el escritor y escribe el encabezado del formato.
+     *
+     * @param canal    El canal de destino.
+     * @param formato  El formato de salida.
+     * @param columnas Los nombres de las columnas, en el orden en que se pasarán los valores.
+     */
+    public EscritorExportacion(WritableByteChannel canal, FormatoExportacion formato, String[] columnas)
+            throws IOException {
+        this(canal, formato, columnas, TAMANO_BUFFER);
+    }
+
+    public EscritorExportacion(WritableByteChannel canal, FormatoExportacion formato, String[] columnas,
+                               int tamanoBuffer) throws IOException {
+        this.canal = canal;
+        this.formato = formato;
+        this.columnas = columnas.clone();
+        this.buffer = ByteBuffer.allocateDirect(Math.max(tamanoBuffer, 64));
+        formato.encabezado(this.columnas, linea);
+        codificar();
+    }
+
+    /**
+     * Escribe una fila.
+     *
+     * @param valores Los valores de la fila, en el orden de las columnas; pueden ser null.
+     */
+    public void escribir(Object... valores) throws IOException {
+        if (valores.length != columnas.length) {
+            throw new IllegalArgumentException("Se esperaban " + columnas.length + " valores y se recibieron "
+                    + valores.length + ".");
+        }
+        formato.fila(columnas, valores, linea);
+        codificar();
+        filas++;
+    }
+
+    private void codificar() throws IOException {
+        CharBuffer caracteres = CharBuffer.wrap(linea);
+        while (true) {
+            CoderResult resultado = codificador.encode(caracteres, buffer, false);
+            if (resultado.isOverflow()) {
+                vaciar();
+            } else {
+                break;
+            }
+        }
+        linea.setLength(0);
+    }
+
+    private void vaciar() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytes += canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * @return Las filas escritas, sin contar el encabezado.
+     */
+    public long getFilas() {
+        return filas;
+    }
+
+    /**
+     * @return Los bytes enviados al canal hasta el momento; lo que sigue en el búfer no se cuenta.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Vacía en el canal lo que quede en el búfer, para que {@link #getBytes()} cuente toda la salida. Es la
+     * última operación del escritor; las llamadas siguientes no hacen nada. El canal queda abierto.
+     *
+     * @throws IOException Si falla la escritura en el canal.
+     */
+    public void terminar() throws IOException {
+        if (!cerrado) {
+            cerrado = true;
+            codificador.encode(CharBuffer.allocate(0), buffer, true);
+            vaciar();
+        }
+    }
+
+    /**
+     * Llama a {@link #terminar()} si no se llamó antes.
+     */
+    @Override
+    public void close() throws IOException {
+        terminar();
+    }
+}
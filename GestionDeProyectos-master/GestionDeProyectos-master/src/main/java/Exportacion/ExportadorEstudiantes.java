@@ -0,0 +1,97 @@
+package Exportacion;
+
+import DBConeccion.SQLConeccion;
+import DBConeccion.SentenciasSQL;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Exporta todos los estudiantes con su proyecto asignado, fila por fila, desde la base de datos a un canal.
+ *
+ * La consulta se lee con un {@link ResultSet} de solo avance y solo lectura, con un tamaño de lectura
+ * ajustado para que el driver no cargue todo el resultado en memoria: con MySQL se usa
+ * {@code Integer.MIN_VALUE}, que hace que Connector/J entregue las filas una a una a medida que llegan; con
+ * otros drivers se piden bloques de {@code exportacion.fetch} filas (1000). Cada fila se escribe de
+ * inmediato con {@link EscritorExportacion}, así que la memoria usada es constante.
+ *
+ * La lectura ocurre en una sola transacción de solo lectura, de modo que la exportación ve una foto
+ * consistente de los datos aunque haya escrituras mientras tanto.
+ */
+public class ExportadorEstudiantes {
+
+    /**
+     * Columnas de la exportación, en orden.
+     */
+    public static final String[] COLUMNAS = {
+            "id_usuario", "email", "matricula", "nombre", "telefono", "direccion", "genero", "id_proyecto", "proyecto"
+    };
+
+    private static final int TAMANO_LECTURA = Integer.getInteger("exportacion.fetch", 1000);
+
+    /**
+     * Número de filas entre dos reportes de avance, configurable con {@code exportacion.progreso.filas}.
+     */
+    private static final int FILAS_POR_REPORTE = Integer.getInteger("exportacion.progreso.filas", 10000);
+
+    /**
+     * Exporta los estudiantes.
+     *
+     * @param canal    El canal de destino; no se cierra.
+     * @param formato  El formato de salida.
+     * @param progreso Recibe el avance cada {@code exportacion.progreso.filas} filas y al terminar.
+     * @return El número de estudiantes exportados.
+     * @throws SQLException Si falla la consulta.
+     * @throws IOException  Si falla la escritura en el canal.
+     */
+    public long exportar(WritableByteChannel canal, FormatoExportacion formato, ProgresoExportacion progreso)
+            throws SQLException, IOException {
+        try (Connection conn = SQLConeccion.obtenerConeccion()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(SentenciasSQL.EXPORTAR_ESTUDIANTES,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                stmt.setFetchSize(tamanoLectura(conn));
+                try (ResultSet rs = stmt.executeQuery();
+                     EscritorExportacion escritor = new EscritorExportacion(canal, formato, COLUMNAS)) {
+                    Object[] valores = new Object[COLUMNAS.length];
+                    while (rs.next()) {
+                        valores[0] = rs.getInt("id_usuario");
+                        valores[1] = rs.getString("email");
+                        valores[2] = rs.getString("matricula");
+                        valores[3] = rs.getString("nombre");
+                        valores[4] = rs.getString("telefono");
+                        valores[5] = rs.getString("direccion");
+                        valores[6] = rs.getString("genero");
+                        int idProyecto = rs.getInt("id_proyecto");
+                        valores[7] = rs.wasNull() ? null : idProyecto;
+                        valores[8] = rs.getString("proyecto");
+                        escritor.escribir(valores);
+
+                        if (escritor.getFilas() % FILAS_POR_REPORTE == 0) {
+                            progreso.reportar(escritor.getFilas(), escritor.getBytes(), false);
+                        }
+                    }
+                    escritor.terminar();
+                    progreso.reportar(escritor.getFilas(), escritor.getBytes(), true);
+                    return escritor.getFilas();
+                }
+            } finally {
+                conn.rollback(); // Solo se leyó; se termina la transacción sin cambios.
+            }
+        }
+    }
+
+    /**
+     * Connector/J solo transmite las filas sin cargarlas todas si el tamaño de lectura es
+     * {@code Integer.MIN_VALUE} (o si se configuró {@code useCursorFetch}); los demás drivers respetan el valor.
+     */
+    private static int tamanoLectura(Connection conn) throws SQLException {
+        String producto = conn.getMetaData().getDatabaseProductName();
+        boolean mysql = producto != null && producto.toLowerCase().contains("mysql");
+        return mysql && !conn.getMetaData().getURL().contains("useCursorFetch=true") ? Integer.MIN_VALUE : TAMANO_LECTURA;
+    }
+}
@@ -0,0 +1,153 @@
+package Exportacion;
+
+/**
+ * Formatos de salida de las exportaciones.
+ *
+ * Cada formato sabe escribir el encabezado y una fila en un {@link StringBuilder}; los valores null se
+ * escriben como campo vacío en CSV y como {@code null} en JSON. Los valores numéricos van sin comillas
+ * en JSON.
+ */
+public enum FormatoExportacion {
+
+    /**
+     * Valores separados por comas según RFC 4180, con una fila de encabezado y fin de línea CRLF.
+     */
+    CSV("csv") {
+        @Override
+        void encabezado(String[] columnas, StringBuilder sb) {
+            for (int i = 0; i < columnas.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                campoCsv(columnas[i], sb);
+            }
+            sb.append("\r\n");
+        }
+
+        @Override
+        void fila(String[] columnas, Object[] valores, StringBuilder sb) {
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                if (valores[i] != null) {
+                    campoCsv(valores[i].toString(), sb);
+                }
+            }
+            sb.append("\r\n");
+        }
+    },
+
+    /**
+     * Un objeto JSON por línea, sin encabezado.
+     */
+    JSONL("jsonl") {
+        @Override
+        void encabezado(String[] columnas, StringBuilder sb) {
+        }
+
+        @Override
+        void fila(String[] columnas, Object[] valores, StringBuilder sb) {
+            sb.append('{');
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                cadenaJson(columnas[i], sb);
+                sb.append(':');
+                Object valor = valores[i];
+                if (valor == null) {
+                    sb.append("null");
+                } else if (valor instanceof Number) {
+                    sb.append(valor);
+                } else {
+                    cadenaJson(valor.toString(), sb);
+                }
+            }
+            sb.append("}\n");
+        }
+    };
+
+    private final String extension;
+
+    FormatoExportacion(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * @return La extensión de archivo habitual del formato.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Busca un formato por su nombre o extensión, sin distinguir mayúsculas.
+     *
+     * @throws IllegalArgumentException Si el formato no existe.
+     */
+    public static FormatoExportacion porNombre(String nombre) {
+        for (FormatoExportacion formato : values()) {
+            if (formato.extension.equalsIgnoreCase(nombre) || formato.name().equalsIgnoreCase(nombre)) {
+                return formato;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportación desconocido: " + nombre);
+    }
+
+    abstract void encabezado(String[] columnas, StringBuilder sb);
+
+    abstract void fila(String[] columnas, Object[] valores, StringBuilder sb);
+
+    private static void campoCsv(String valor, StringBuilder sb) {
+        boolean comillas = false;
+        for (int i = 0; i < valor.length() && !comillas; i++) {
+            char c = valor.charAt(i);
+            comillas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!comillas) {
+            sb.append(valor);
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+
+    private static void cadenaJson(String valor, StringBuilder sb) {
+        sb.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,20 @@
+package Exportacion;
+
+/**
+ * Recibe el avance de una exportación. Se llama cada cierto número de filas y una vez más al terminar.
+ */
+@FunctionalInterface
+public interface ProgresoExportacion {
+
+    /**
+     * Sin reporte de avance.
+     */
+    ProgresoExportacion NINGUNO = (filas, bytes, terminado) -> { };
+
+    /**
+     * @param filas     Filas escritas hasta el momento.
+     * @param bytes     Bytes escritos en el canal hasta el momento.
+     * @param terminado true en la última llamada, cuando ya se escribieron todas las filas.
+     */
+    void reportar(long filas, long bytes, boolean terminado);
+}
@@ -1,22 +1,43 @@
 package GUI.Coordinador;
 
+import Busqueda.IndiceEstudiantes;
+import DAO.Estudiante.ResultadoAsignacion;
+import Servicio.EjecutorAsincrono;
+import Servicio.EmparejamientoServicio;
 import Servicio.EstudianteServicio;
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Clase para la interfaz gráfica que permite a un coordinador asignar un proyecto a un estudiante.
  *
  * Proporciona un formulario donde se ingresa el correo del estudiante y el ID del proyecto,
- * y realiza la asignación utilizando el servicio correspondiente.
+ * y realiza la asignación utilizando el servicio correspondiente. Al escribir en el campo del correo se
+ * sugieren estudiantes por correo, nombre o matrícula. También permite asignar proyectos a varios
+ * estudiantes a la vez pegando una lista de pares correo e ID de proyecto, o una lista con los proyectos
+ * preferidos de cada estudiante para que se calcule la asignación.
  */
 public class AsignarProyecto extends JFrame {
 
+    // Número de sugerencias que se muestran al escribir en el campo del correo
+    private static final int MAXIMO_SUGERENCIAS = 8;
+
     private JTextField emailField;
     private JTextField proyectoIdField;
     private JLabel messageLabel;
+    private JPopupMenu sugerencias;
+
+    // Evita buscar de nuevo cuando el texto cambia al elegir una sugerencia
+    private boolean eligiendoSugerencia;
 
     /**
      * Constructor de la clase AsignarProyecto.
@@ -25,7 +46,7 @@ public class AsignarProyecto extends JFrame {
      */
     public AsignarProyecto() {
         setTitle("Asignar Proyecto a Estudiante");
-        setSize(400, 250);
+        setSize(520, 250);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLocationRelativeTo(null); // Centrar la ventana
         initComponents();
@@ -40,12 +61,23 @@ public class AsignarProyecto extends JFrame {
         panel.setLayout(new GridLayout(4, 1, 10, 10));
 
         emailField = new JTextField();
+        emailField.getDocument().addDocumentListener(new AutocompletarEmail());
+        sugerencias = new JPopupMenu();
+        sugerencias.setFocusable(false);
         proyectoIdField = new JTextField();
         messageLabel = new JLabel("", SwingConstants.CENTER);
         messageLabel.setForeground(Color.RED);
 
         JButton asignarButton = new JButton("Asignar Proyecto");
         asignarButton.addActionListener(new AsignarAction());
+        JButton asignarVariosButton = new JButton("Asignar varios...");
+        asignarVariosButton.addActionListener(e -> asignarVarios(asignarVariosButton));
+        JButton preferenciasButton = new JButton("Por preferencias...");
+        preferenciasButton.addActionListener(e -> asignarPorPreferencias(preferenciasButton));
+        JPanel botones = new JPanel(new GridLayout(1, 3, 10, 10));
+        botones.add(asignarButton);
+        botones.add(asignarVariosButton);
+        botones.add(preferenciasButton);
 
         panel.add(new JLabel("Correo del Estudiante:", SwingConstants.CENTER));
         panel.add(emailField);
@@ -53,10 +85,187 @@ public class AsignarProyecto extends JFrame {
         panel.add(proyectoIdField);
 
         add(panel, BorderLayout.CENTER);
-        add(asignarButton, BorderLayout.SOUTH);
+        add(botones, BorderLayout.SOUTH);
         add(messageLabel, BorderLayout.NORTH);
     }
 
+    /**
+     * Pide una lista de asignaciones, una por línea con el correo y el ID del proyecto separados por coma,
+     * punto y coma o tabulador, y las envía al servicio en una sola asignación masiva.
+     *
+     * @param boton El botón que se deshabilita mientras se asigna.
+     */
+    private void asignarVarios(JButton boton) {
+        JTextArea texto = new JTextArea(15, 40);
+        int opcion = JOptionPane.showConfirmDialog(this, new JScrollPane(texto),
+                "Una asignación por línea: correo,ID del proyecto", JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE);
+        if (opcion != JOptionPane.OK_OPTION) {
+            return;
+        }
+
+        Map<String, Integer> asignaciones = new LinkedHashMap<>();
+        int invalidas = 0;
+        for (String linea : texto.getText().split("\\R")) {
+            if (linea.isBlank()) {
+                continue;
+            }
+            String[] partes = linea.trim().split("\\s*[,;\\t]\\s*");
+            try {
+                if (partes.length != 2) {
+                    throw new NumberFormatException();
+                }
+                asignaciones.put(partes[0], Integer.parseInt(partes[1]));
+            } catch (NumberFormatException ex) {
+                invalidas++;
+            }
+        }
+        if (asignaciones.isEmpty()) {
+            messageLabel.setText("Error: No hay asignaciones válidas.");
+            return;
+        }
+
+        int lineasInvalidas = invalidas;
+        boton.setEnabled(false);
+        EstudianteServicio.getInstancia().asignarProyectosAsync(asignaciones).whenComplete((resultados, error) ->
+                SwingUtilities.invokeLater(() -> {
+                    boton.setEnabled(true);
+                    if (error != null) {
+                        messageLabel.setText("Error al asignar los proyectos.");
+                        JOptionPane.showMessageDialog(AsignarProyecto.this,
+                                "Error: " + EjecutorAsincrono.causa(error).getMessage());
+                        return;
+                    }
+                    Map<ResultadoAsignacion, Integer> conteo = new EnumMap<>(ResultadoAsignacion.class);
+                    StringBuilder fallidos = new StringBuilder();
+                    int mostrados = 0;
+                    for (Map.Entry<String, ResultadoAsignacion> resultado : resultados.entrySet()) {
+                        conteo.merge(resultado.getValue(), 1, Integer::sum);
+                        if (!resultado.getValue().isExitoso() && mostrados++ < 20) {
+                            fallidos.append('\n').append(resultado.getKey()).append(": ").append(resultado.getValue());
+                        }
+                    }
+                    int asignados = conteo.getOrDefault(ResultadoAsignacion.ASIGNADO, 0);
+                    messageLabel.setText(asignados + " de " + resultados.size() + " proyectos asignados.");
+                    JOptionPane.showMessageDialog(AsignarProyecto.this, "Resultados: " + conteo
+                            + (lineasInvalidas > 0 ? "\nLíneas con formato inválido: " + lineasInvalidas : "")
+                            + fallidos);
+                }));
+    }
+
+    /**
+     * Pide las preferencias de los estudiantes, una línea por estudiante con el correo y los IDs de los
+     * proyectos del preferido al menos preferido, y asigna los proyectos respetando los lugares disponibles.
+     * El orden de las líneas es la prioridad de los estudiantes.
+     *
+     * @param boton El botón que se deshabilita mientras se asigna.
+     */
+    private void asignarPorPreferencias(JButton boton) {
+        JTextArea texto = new JTextArea(15, 40);
+        int opcion = JOptionPane.showConfirmDialog(this, new JScrollPane(texto),
+                "Un estudiante por línea, en orden de prioridad: correo,proyecto 1,proyecto 2,...",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (opcion != JOptionPane.OK_OPTION) {
+            return;
+        }
+
+        Map<String, List<Integer>> preferencias = new LinkedHashMap<>();
+        int invalidas = 0;
+        for (String linea : texto.getText().split("\\R")) {
+            if (linea.isBlank()) {
+                continue;
+            }
+            String[] partes = linea.trim().split("\\s*[,;\\t]\\s*");
+            try {
+                if (partes.length < 2) {
+                    throw new NumberFormatException();
+                }
+                List<Integer> proyectos = new ArrayList<>(partes.length - 1);
+                for (int i = 1; i < partes.length; i++) {
+                    proyectos.add(Integer.parseInt(partes[i]));
+                }
+                preferencias.putIfAbsent(partes[0], proyectos);
+            } catch (NumberFormatException ex) {
+                invalidas++;
+            }
+        }
+        if (preferencias.isEmpty()) {
+            messageLabel.setText("Error: No hay preferencias válidas.");
+            return;
+        }
+
+        int lineasInvalidas = invalidas;
+        boton.setEnabled(false);
+        EmparejamientoServicio.getInstancia().asignarPorPreferenciasAsync(preferencias).whenComplete((reporte, error) ->
+                SwingUtilities.invokeLater(() -> {
+                    boton.setEnabled(true);
+                    if (error != null) {
+                        messageLabel.setText("Error al asignar los proyectos.");
+                        JOptionPane.showMessageDialog(AsignarProyecto.this,
+                                "Error: " + EjecutorAsincrono.causa(error).getMessage());
+                        return;
+                    }
+                    messageLabel.setText(reporte.getConfirmados() + " de " + preferencias.size()
+                            + " proyectos asignados.");
+                    JOptionPane.showMessageDialog(AsignarProyecto.this, reporte.resumen()
+                            + (lineasInvalidas > 0 ? "\nLíneas con formato inválido: " + lineasInvalidas : ""));
+                }));
+    }
+
+    /**
+     * Muestra debajo del campo del correo los estudiantes que coinciden con el texto escrito. La búsqueda se
+     * hace en el índice en memoria del servicio, así que se puede repetir en cada tecla.
+     */
+    private void mostrarSugerencias() {
+        sugerencias.setVisible(false);
+        sugerencias.removeAll();
+        if (!emailField.isShowing()) {
+            return;
+        }
+        List<IndiceEstudiantes.Entrada> encontrados =
+                EstudianteServicio.getInstancia().buscarEstudiantes(emailField.getText(), MAXIMO_SUGERENCIAS);
+        if (encontrados.isEmpty()
+                || (encontrados.size() == 1 && encontrados.get(0).email().equals(emailField.getText()))) {
+            return;
+        }
+        for (IndiceEstudiantes.Entrada entrada : encontrados) {
+            JMenuItem opcion = new JMenuItem(entrada.toString());
+            opcion.addActionListener(e -> {
+                eligiendoSugerencia = true;
+                emailField.setText(entrada.email());
+                eligiendoSugerencia = false;
+                sugerencias.setVisible(false);
+                proyectoIdField.requestFocusInWindow();
+            });
+            sugerencias.add(opcion);
+        }
+        sugerencias.show(emailField, 0, emailField.getHeight());
+        emailField.requestFocusInWindow();
+    }
+
+    /**
+     * Actualiza las sugerencias cada vez que cambia el texto del correo.
+     */
+    private class AutocompletarEmail implements DocumentListener {
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            if (!eligiendoSugerencia) {
+                SwingUtilities.invokeLater(AsignarProyecto.this::mostrarSugerencias);
+            }
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            if (!eligiendoSugerencia) {
+                SwingUtilities.invokeLater(AsignarProyecto.this::mostrarSugerencias);
+            }
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+        }
+    }
+
     /**
      * Clase interna para manejar el evento de asignación del proyecto al estudiante.
      * Esta clase es responsable de realizar la validación de los datos ingresados por el usuario
@@ -73,23 +282,29 @@ public class AsignarProyecto extends JFrame {
          */
         @Override
         public void actionPerformed(ActionEvent e) {
-            EstudianteServicio estudianteServicio = new EstudianteServicio();
+            EstudianteServicio estudianteServicio = EstudianteServicio.getInstancia();
             String email = emailField.getText();
             String proyectoIdStr = proyectoIdField.getText();
+            JButton asignarButton = (JButton) e.getSource();
 
             try {
                 // Validar que el proyectoId sea un número entero
                 int proyectoId = Integer.parseInt(proyectoIdStr);
-                // Llamar al servicio para asignar el proyecto al estudiante
-                boolean result = estudianteServicio.asignarProyectoAEstudiante(email, proyectoId);
-
-                if (result) {
-                    messageLabel.setText("Proyecto asignado exitosamente.");
-                    JOptionPane.showMessageDialog(AsignarProyecto.this, "Proyecto asignado a " + email);
-                } else {
-                    messageLabel.setText("Error al asignar el proyecto.");
-                    JOptionPane.showMessageDialog(AsignarProyecto.this, "Error: No se pudo asignar el proyecto.");
-                }
+                asignarButton.setEnabled(false);
+                // Llamar al servicio para asignar el proyecto al estudiante sin bloquear la ventana
+                estudianteServicio.asignarProyectoAEstudianteAsync(email, proyectoId).whenComplete((result, error) ->
+                        SwingUtilities.invokeLater(() -> {
+                            asignarButton.setEnabled(true);
+                            if (error == null && result) {
+                                messageLabel.setText("Proyecto asignado exitosamente.");
+                                JOptionPane.showMessageDialog(AsignarProyecto.this, "Proyecto asignado a " + email);
+                            } else {
+                                String detalle = error == null ? "No se pudo asignar el proyecto: el estudiante o el proyecto no existen, o el proyecto no tiene lugares disponibles."
+                                        : EjecutorAsincrono.causa(error).getMessage();
+                                messageLabel.setText("Error al asignar el proyecto.");
+                                JOptionPane.showMessageDialog(AsignarProyecto.this, "Error: " + detalle);
+                            }
+                        }));
             } catch (NumberFormatException ex) {
                 messageLabel.setText("Error: El ID del proyecto debe ser un número.");
                 JOptionPane.showMessageDialog(AsignarProyecto.this, "Error: El ID del proyecto debe ser un número.");
@@ -1,5 +1,6 @@
 package GUI.Coordinador;
 
+import Servicio.EjecutorAsincrono;
 import Servicio.EstudianteServicio;
 import javax.swing.*;
 import java.awt.*;
@@ -32,7 +33,7 @@ public class RegistrarAlumno extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLocationRelativeTo(null); // Centrar la ventana
         initComponents();
-        estudianteServicio = new EstudianteServicio();
+        estudianteServicio = EstudianteServicio.getInstancia();
     }
 
     /**
@@ -84,18 +85,27 @@ public class RegistrarAlumno extends JFrame {
          */
         @Override
         public void actionPerformed(ActionEvent e) {
-            try {
-                estudianteServicio.registrarEstudiante(
-                        emailField.getText(),
-                        new String(passwordField.getPassword()),
-                        matriculaField.getText()
-                );
-                messageLabel.setText("Estudiante registrado exitosamente");
-                JOptionPane.showMessageDialog(RegistrarAlumno.this, "Estudiante " + emailField.getText() + " registrado.");
-            } catch (Exception ex) {
-                messageLabel.setText("Error al registrar el estudiante");
-                JOptionPane.showMessageDialog(RegistrarAlumno.this, "Error: " + ex.getMessage());
-            }
+            String email = emailField.getText();
+            JButton registrarButton = (JButton) e.getSource();
+            registrarButton.setEnabled(false);
+
+            // La validación, el hash BCrypt y las inserciones se ejecutan fuera del hilo de eventos.
+            estudianteServicio.registrarEstudianteAsync(
+                    email,
+                    new String(passwordField.getPassword()),
+                    matriculaField.getText()
+            ).whenComplete((registrado, error) -> SwingUtilities.invokeLater(() -> {
+                registrarButton.setEnabled(true);
+                if (error == null && registrado) {
+                    messageLabel.setText("Estudiante registrado exitosamente");
+                    JOptionPane.showMessageDialog(RegistrarAlumno.this, "Estudiante " + email + " registrado.");
+                } else {
+                    String detalle = error == null ? "No se pudo registrar al estudiante."
+                            : EjecutorAsincrono.causa(error).getMessage();
+                    messageLabel.setText("Error al registrar el estudiante");
+                    JOptionPane.showMessageDialog(RegistrarAlumno.this, "Error: " + detalle);
+                }
+            }));
         }
     }
 }
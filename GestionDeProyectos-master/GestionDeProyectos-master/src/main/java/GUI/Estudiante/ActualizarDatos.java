@@ -4,7 +4,11 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.concurrent.CompletableFuture;
+import DAO.ResultadoActualizacion;
+import Servicio.EjecutorAsincrono;
 import Servicio.EstudianteServicio;
+import Modelos.Estudiante;
 import jakarta.validation.ConstraintViolationException;
 
 /**
@@ -21,6 +25,9 @@ public class ActualizarDatos extends JFrame {
     private JButton btnActualizar;
     private JTextArea txtProyectos;
 
+    // Estudiante cargado al abrir la ventana; se usa para guardar solo los campos que cambian.
+    private Estudiante estudianteActual;
+
     /**
      * Constructor de la clase ActualizarDatos.
      *
@@ -61,27 +68,50 @@ public class ActualizarDatos extends JFrame {
             @Override
             public void actionPerformed(ActionEvent e) {
 
-                EstudianteServicio estudianteServicio = new EstudianteServicio();
+                EstudianteServicio estudianteServicio = EstudianteServicio.getInstancia();
                 String generoSeleccionado = (String) cmbGenero.getSelectedItem();
+                btnActualizar.setEnabled(false);
 
-                try {
-                    boolean actualizado = estudianteServicio.actualizarDatosPersonales(email,
+                CompletableFuture<ResultadoActualizacion> actualizacion;
+                if (estudianteActual != null) {
+                    // Los setters registran qué campos cambiaron respecto a los datos cargados.
+                    estudianteActual.setTelefono(txtTelefono.getText());
+                    estudianteActual.setNombre(txtNombre.getText());
+                    estudianteActual.setDireccion(txtDireccion.getText());
+                    estudianteActual.setGenero(generoSeleccionado);
+                    // Solo se guarda si nadie modificó al estudiante desde que se cargó. Esta escritura no
+                    // pasa por la cola de escritura diferida, para que el conflicto se detecte siempre.
+                    actualizacion = estudianteServicio.actualizarConVersionAsync(estudianteActual);
+                } else {
+                    // Sin los datos cargados no hay versión con qué comparar; el cambio se guarda sin condición,
+                    // en la cola del servicio si la escritura diferida está activa.
+                    actualizacion = estudianteServicio.actualizarDatosPersonalesAsync(email,
                             txtTelefono.getText(),
                             txtNombre.getText(),
                             txtDireccion.getText(),
                             generoSeleccionado
-                    );
+                    ).thenApply(actualizado -> actualizado ? ResultadoActualizacion.EXITO : ResultadoActualizacion.ERROR);
+                }
+                actualizacion.whenComplete((resultado, error) -> SwingUtilities.invokeLater(() -> {
+                    btnActualizar.setEnabled(true);
+                    Throwable causa = error == null ? null : EjecutorAsincrono.causa(error);
 
-                    if (actualizado) {
+                    if (causa instanceof ConstraintViolationException) {
+                        JOptionPane.showMessageDialog(ActualizarDatos.this,
+                                "Error en los datos ingresados: " + causa.getMessage(),
+                                "Error de validación", JOptionPane.ERROR_MESSAGE);
+                    } else if (causa == null && resultado == ResultadoActualizacion.EXITO) {
                         JOptionPane.showMessageDialog(ActualizarDatos.this, "Datos actualizados con éxito.");
+                    } else if (causa == null && resultado == ResultadoActualizacion.CONFLICTO) {
+                        JOptionPane.showMessageDialog(ActualizarDatos.this,
+                                "Otro usuario modificó estos datos mientras los editaba. Se cargaron los datos "
+                                        + "actuales; revíselos y vuelva a guardar.",
+                                "Datos modificados", JOptionPane.WARNING_MESSAGE);
+                        cargarDatosActuales(email);
                     } else {
                         JOptionPane.showMessageDialog(ActualizarDatos.this, "Error al actualizar los datos.");
                     }
-                } catch (ConstraintViolationException validationException) {
-                    JOptionPane.showMessageDialog(ActualizarDatos.this,
-                            "Error en los datos ingresados: " + validationException.getMessage(),
-                            "Error de validación", JOptionPane.ERROR_MESSAGE);
-                }
+                }));
             }
         });
 
@@ -96,5 +126,28 @@ public class ActualizarDatos extends JFrame {
         add(cmbGenero);
         add(btnActualizar);
         add(new JScrollPane(txtProyectos));
+
+        cargarDatosActuales(email);
+    }
+
+    /**
+     * Llena los campos con los datos guardados del estudiante, sin bloquear la ventana mientras se consultan.
+     *
+     * @param email El correo electrónico del estudiante.
+     */
+    private void cargarDatosActuales(String email) {
+        EstudianteServicio.getInstancia().obtenerEstudianteAsync(email)
+                .whenComplete((estudiante, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error != null || estudiante == null) {
+                        return;
+                    }
+                    estudianteActual = estudiante;
+                    txtNombre.setText(estudiante.getNombre());
+                    txtTelefono.setText(estudiante.getTelefono());
+                    txtDireccion.setText(estudiante.getDireccion());
+                    if (estudiante.getGenero() != null) {
+                        cmbGenero.setSelectedItem(estudiante.getGenero());
+                    }
+                }));
     }
 }
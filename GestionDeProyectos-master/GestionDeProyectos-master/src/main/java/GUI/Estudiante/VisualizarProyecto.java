@@ -1,5 +1,6 @@
 package GUI.Estudiante;
 
+import Servicio.EjecutorAsincrono;
 import Servicio.ProyectoServicio;
 import java.util.List;
 import javax.swing.*;
@@ -22,7 +23,7 @@ public class VisualizarProyecto extends JFrame {
      * @param email El correo electrónico del estudiante, utilizado para obtener el proyecto asignado.
      */
     public VisualizarProyecto(String email) {
-        proyectoServicio = new ProyectoServicio();
+        proyectoServicio = ProyectoServicio.getInstancia();
 
         setTitle("Visualizar Proyecto");
         setSize(400, 300);
@@ -43,18 +44,9 @@ public class VisualizarProyecto extends JFrame {
         txtDescripcion.setEditable(false); // Solo lectura
         txtDescripcion.setFont(new Font("Arial", Font.PLAIN, 14));
 
-        // Obtiene los datos del proyecto asignado
-        List<String> proyectoData = obtenerProyecto(email);
-
-        // Si el proyecto existe, mostrar su título y descripción
-        if (proyectoData != null && !proyectoData.isEmpty()) {
-            String titulo = proyectoData.get(0);
-            String descripcion = proyectoData.get(1);
-            txtDescripcion.setText("Nombre del Proyecto: " + titulo + "\n\nDescripción:\n" + descripcion);
-        } else {
-            // Si no hay proyecto asignado, mostrar mensaje
-            txtDescripcion.setText("No tienes un proyecto asignado.");
-        }
+        // Obtiene los datos del proyecto asignado sin bloquear la construcción de la ventana
+        txtDescripcion.setText("Cargando proyecto...");
+        cargarProyecto(email, txtDescripcion);
 
         JScrollPane scrollPane = new JScrollPane(txtDescripcion);
 
@@ -67,22 +59,40 @@ public class VisualizarProyecto extends JFrame {
     }
 
     /**
-     * Obtiene la información del proyecto asignado al estudiante.
+     * Obtiene la información del proyecto asignado al estudiante y la muestra en el área de texto.
      *
-     * Llama al servicio de proyecto para obtener el título y descripción del proyecto.
+     * Llama de forma asíncrona al servicio de proyecto para obtener el título y descripción del proyecto;
+     * el área de texto se actualiza en el hilo de eventos cuando llega la respuesta.
      *
-     * @param email El correo electrónico del estudiante, utilizado para obtener el proyecto asignado.
-     * @return Una lista con el título y la descripción del proyecto, o null si no se pudo obtener la información.
+     * @param email          El correo electrónico del estudiante, utilizado para obtener el proyecto asignado.
+     * @param txtDescripcion El área de texto donde se muestra el proyecto.
+     */
+    private void cargarProyecto(String email, JTextArea txtDescripcion) {
+        proyectoServicio.obtenerProyectoEstudianteAsync(email).whenComplete((proyectoData, error) ->
+                SwingUtilities.invokeLater(() -> mostrarProyecto(proyectoData, error, txtDescripcion)));
+    }
+
+    /**
+     * Muestra el proyecto obtenido, o un mensaje si no hay proyecto o si ocurrió un error.
      */
-    private List<String> obtenerProyecto(String email) {
-        try {
-            return proyectoServicio.obtenerProyectoEstudiante(email);
-        } catch (Exception e) {
+    private void mostrarProyecto(List<String> proyectoData, Throwable error, JTextArea txtDescripcion) {
+        if (error != null) {
+            txtDescripcion.setText("No tienes un proyecto asignado.");
             JOptionPane.showMessageDialog(this,
-                    "Ocurrió un error al recuperar el proyecto: " + e.getMessage(),
+                    "Ocurrió un error al recuperar el proyecto: " + EjecutorAsincrono.causa(error).getMessage(),
                     "Error",
                     JOptionPane.ERROR_MESSAGE);
-            return null;
+            return;
+        }
+
+        // Si el proyecto existe, mostrar su título y descripción
+        if (proyectoData != null && !proyectoData.isEmpty()) {
+            String titulo = proyectoData.get(0);
+            String descripcion = proyectoData.get(1);
+            txtDescripcion.setText("Nombre del Proyecto: " + titulo + "\n\nDescripción:\n" + descripcion);
+        } else {
+            // Si no hay proyecto asignado, mostrar mensaje
+            txtDescripcion.setText("No tienes un proyecto asignado.");
         }
     }
 }
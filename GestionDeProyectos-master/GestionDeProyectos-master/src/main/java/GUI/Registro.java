@@ -1,17 +1,16 @@
 package GUI;
 
-import DBConeccion.SQLConeccion;
 import GUI.Coordinador.AsignarProyecto;
 import GUI.Coordinador.RegistrarAlumno;
 import GUI.Estudiante.ActualizarDatos;
 import GUI.Estudiante.VisualizarProyecto;
-import Seguridad.PasswordHasher;
+import Servicio.AutenticacionServicio;
+import Servicio.EjecutorAsincrono;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.sql.*;
 
 /**
  * Clase que representa el formulario de inicio de sesión de la aplicación.
@@ -23,6 +22,7 @@ public class Registro extends JFrame {
     private JTextField emailField;
     private JPasswordField passwordField;
     private JLabel messageLabel;
+    private final AutenticacionServicio autenticacionServicio = AutenticacionServicio.getInstancia();
 
     /**
      * Constructor de la clase LoginForm.
@@ -67,16 +67,39 @@ public class Registro extends JFrame {
      * Clase interna que maneja la acción de iniciar sesión.
      *
      * Al hacer clic en el botón de inicio de sesión, esta clase autentica las credenciales del usuario
-     * y redirige a la ventana correspondiente según el rol del usuario.
+     * fuera del hilo de eventos de Swing y redirige a la ventana correspondiente según el rol del usuario.
      */
     private class LoginAction implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
             String email = emailField.getText();
             String password = new String(passwordField.getPassword());
+            JButton loginButton = (JButton) e.getSource();
+
+            loginButton.setEnabled(false);
+            messageLabel.setText("Verificando...");
+
+            // La consulta y la comparación BCrypt se hacen en segundo plano para no congelar la ventana.
+            autenticacionServicio.autenticarAsync(email, password).whenComplete((role, error) ->
+                    SwingUtilities.invokeLater(() -> {
+                        loginButton.setEnabled(true);
+                        if (error != null) {
+                            messageLabel.setText("");
+                            JOptionPane.showMessageDialog(Registro.this, "Error al verificar el usuario: "
+                                    + EjecutorAsincrono.causa(error).getMessage());
+                        } else {
+                            abrirVentanaSegunRol(email, role);
+                        }
+                    }));
+        }
 
-            String role = authenticate(email, password);
-
+        /**
+         * Abre la ventana correspondiente al rol del usuario autenticado.
+         *
+         * @param email El correo electrónico del usuario.
+         * @param role  El rol del usuario ("estudiante", "coordinador") o null si las credenciales son incorrectas.
+         */
+        private void abrirVentanaSegunRol(String email, String role) {
             if (role != null) {
                 messageLabel.setText("Inicio de sesión exitoso");
                 JOptionPane.showMessageDialog(Registro.this, "Bienvenido " + email);
@@ -90,7 +113,6 @@ public class Registro extends JFrame {
                         visualizarProyecto.setVisible(true);
                         break;
                     case "coordinador":
-                        new RegistrarAlumno();
                         RegistrarAlumno coordinadorManager = new RegistrarAlumno();
                         coordinadorManager.setVisible(true);
                         AsignarProyecto asignarProyecto = new AsignarProyecto();
@@ -105,66 +127,5 @@ public class Registro extends JFrame {
                 messageLabel.setText("Correo o contraseña incorrectos");
             }
         }
-
-        /**
-         * Autentica las credenciales del usuario, verificando su correo y contraseña.
-         *
-         * Si las credenciales son correctas, verifica el rol del usuario (estudiante o coordinador).
-         *
-         * @param email El correo electrónico del usuario.
-         * @param password La contraseña ingresada por el usuario.
-         * @return El rol del usuario ("estudiante", "coordinador") o null si las credenciales son incorrectas.
-         */
-        private String authenticate(String email, String password) {
-
-            SQLConeccion.tryConneccion();
-
-            String queryUsuario = "SELECT id_usuario, contrasena FROM usuario_base WHERE email = ?";
-            String queryEstudiante = "SELECT id_usuario FROM estudiante WHERE id_usuario = ?";
-            String queryCoordinador = "SELECT id_usuario FROM coordinador WHERE id_usuario = ?";
-
-            try (Connection conn = SQLConeccion.obtenerConeccion();
-                 PreparedStatement stmtUsuario = conn.prepareStatement(queryUsuario);
-                 PreparedStatement stmtEstudiante = conn.prepareStatement(queryEstudiante);
-                 PreparedStatement stmtCoordinador = conn.prepareStatement(queryCoordinador)) {
-
-                // Verificar las credenciales en la tabla usuario_base
-                stmtUsuario.setString(1, email);
-                ResultSet rsUsuario = stmtUsuario.executeQuery();
-
-                if (rsUsuario.next()) {
-                    int idUsuario = rsUsuario.getInt("id_usuario");
-                    String contrasenaBD = rsUsuario.getString("contrasena");
-
-                    // Comparar contraseñas
-                    if (!PasswordHasher.matches(password, contrasenaBD)) {
-                        return null; // Contraseña incorrecta
-                    }
-
-                    // Verificar si es estudiante
-                    stmtEstudiante.setInt(1, idUsuario);
-                    ResultSet rsEstudiante = stmtEstudiante.executeQuery();
-
-                    if (rsEstudiante.next()) {
-                        return "estudiante";
-                    }
-
-                    // Verificar si es coordinador
-                    stmtCoordinador.setInt(1, idUsuario);
-                    ResultSet rsCoordinador = stmtCoordinador.executeQuery();
-
-                    if (rsCoordinador.next()) {
-                        return "coordinador";
-                    }
-
-                    return null; // Rol no encontrado
-                } else {
-                    return null; // Usuario no encontrado
-                }
-            } catch (SQLException ex) {
-                JOptionPane.showMessageDialog(Registro.this, "Error al verificar el usuario: " + ex.getMessage());
-                return null;
-            }
-        }
     }
 }
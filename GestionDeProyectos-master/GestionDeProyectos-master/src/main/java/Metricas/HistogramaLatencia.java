@@ -0,0 +1,84 @@
+package Metricas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latencias sin bloqueos, con cubetas logarítmicas.
+ *
+ * Cada potencia de dos de nanosegundos se divide en {@value #SUBCUBETAS} cubetas lineales, por lo que
+ * los percentiles se estiman con un error relativo menor al 12.5 %. Registrar un valor es un solo
+ * incremento atómico, lo que permite dejar el histograma activo en producción.
+ */
+public class HistogramaLatencia {
+
+    private static final int BITS_SUBCUBETA = 3;
+    private static final int SUBCUBETAS = 1 << BITS_SUBCUBETA;
+
+    private final AtomicLongArray cubetas = new AtomicLongArray(64 * SUBCUBETAS);
+
+    /**
+     * Registra una latencia.
+     *
+     * @param nanos Duración en nanosegundos.
+     */
+    public void registrar(long nanos) {
+        cubetas.incrementAndGet(indice(Math.max(1, nanos)));
+    }
+
+    /**
+     * Estima el percentil indicado.
+     *
+     * @param percentil Valor entre 0 y 100.
+     * @return La latencia estimada en nanosegundos (límite superior de la cubeta), o 0 si no hay datos.
+     */
+    public long percentil(double percentil) {
+        long[] conteos = new long[cubetas.length()];
+        long total = 0;
+        for (int i = 0; i < conteos.length; i++) {
+            conteos[i] = cubetas.get(i);
+            total += conteos[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long objetivo = Math.max(1, (long) Math.ceil(total * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < conteos.length; i++) {
+            acumulado += conteos[i];
+            if (acumulado >= objetivo) {
+                return limiteSuperior(i);
+            }
+        }
+        return limiteSuperior(conteos.length - 1);
+    }
+
+    /**
+     * Reinicia todas las cubetas.
+     */
+    public void reiniciar() {
+        for (int i = 0; i < cubetas.length(); i++) {
+            cubetas.set(i, 0);
+        }
+    }
+
+    private static int indice(long valor) {
+        int exponente = 63 - Long.numberOfLeadingZeros(valor);
+        if (exponente < BITS_SUBCUBETA) {
+            return (int) valor; // Los valores pequeños tienen su propia cubeta.
+        }
+        int sub = (int) ((valor >>> (exponente - BITS_SUBCUBETA)) & (SUBCUBETAS - 1));
+        return exponente * SUBCUBETAS + sub;
+    }
+
+    private static long limiteSuperior(int indice) {
+        int exponente = indice / SUBCUBETAS;
+        int sub = indice % SUBCUBETAS;
+        if (exponente < BITS_SUBCUBETA) {
+            return indice;
+        }
+        long base = 1L << exponente;
+        long ancho = base >>> BITS_SUBCUBETA;
+        return base + (sub + 1) * ancho - 1;
+    }
+}
@@ -0,0 +1,57 @@
+package Metricas;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Aciertos y fallos de una caché que lleva sus propios contadores. La métrica solo los lee cuando se
+ * consulta, así que registrarla no agrega trabajo a la caché.
+ */
+public class MetricaCache implements MetricaCacheMXBean {
+
+    private final String nombre;
+    private final LongSupplier aciertos;
+    private final LongSupplier fallos;
+    private final Supplier<List<String>> detalle;
+
+    MetricaCache(String nombre, LongSupplier aciertos, LongSupplier fallos, Supplier<List<String>> detalle) {
+        this.nombre = nombre;
+        this.aciertos = aciertos;
+        this.fallos = fallos;
+        this.detalle = detalle;
+    }
+
+    @Override
+    public String getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public long getAciertos() {
+        return aciertos.getAsLong();
+    }
+
+    @Override
+    public long getFallos() {
+        return fallos.getAsLong();
+    }
+
+    @Override
+    public double getTasaAciertos() {
+        long a = getAciertos();
+        long total = a + getFallos();
+        return total == 0 ? 0.0 : (double) a / total;
+    }
+
+    @Override
+    public List<String> getDetalle() {
+        return detalle.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-55s aciertos=%-8d fallos=%-6d tasa=%.2f",
+                nombre, getAciertos(), getFallos(), getTasaAciertos());
+    }
+}
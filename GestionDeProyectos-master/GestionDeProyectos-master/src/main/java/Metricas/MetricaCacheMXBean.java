@@ -0,0 +1,23 @@
+package Metricas;
+
+import java.util.List;
+
+/**
+ * Vista JMX de los aciertos y fallos de una caché. Cada caché se publica como
+ * {@code GestionDeProyectos:type=Caches,name=<caché>}.
+ */
+public interface MetricaCacheMXBean {
+
+    String getNombre();
+
+    long getAciertos();
+
+    long getFallos();
+
+    double getTasaAciertos();
+
+    /**
+     * @return Una línea por cada clave de la caché que lleva su propia cuenta, con sus aciertos y fallos.
+     */
+    List<String> getDetalle();
+}
@@ -0,0 +1,103 @@
+package Metricas;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de una operación instrumentada: llamadas, errores, tiempo total, máximo y
+ * el histograma de latencias.
+ */
+public class MetricaOperacion implements MetricaOperacionMXBean {
+
+    private static final double NANOS_POR_MS = 1_000_000.0;
+
+    private final String nombre;
+    private final LongAdder llamadas = new LongAdder();
+    private final LongAdder errores = new LongAdder();
+    private final LongAdder nanosTotales = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+    private final HistogramaLatencia histograma = new HistogramaLatencia();
+
+    MetricaOperacion(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /**
+     * Registra una llamada.
+     *
+     * @param nanos Duración de la llamada en nanosegundos.
+     * @param error Si la llamada terminó en error.
+     */
+    public void registrar(long nanos, boolean error) {
+        llamadas.increment();
+        if (error) {
+            errores.increment();
+        }
+        nanosTotales.add(nanos);
+        maximo.accumulate(nanos);
+        histograma.registrar(nanos);
+    }
+
+    @Override
+    public String getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public long getLlamadas() {
+        return llamadas.sum();
+    }
+
+    @Override
+    public long getErrores() {
+        return errores.sum();
+    }
+
+    @Override
+    public double getMediaMs() {
+        long n = llamadas.sum();
+        return n == 0 ? 0.0 : nanosTotales.sum() / NANOS_POR_MS / n;
+    }
+
+    @Override
+    public double getP50Ms() {
+        return percentil(50);
+    }
+
+    @Override
+    public double getP95Ms() {
+        return percentil(95);
+    }
+
+    @Override
+    public double getP99Ms() {
+        return percentil(99);
+    }
+
+    /**
+     * El histograma devuelve el límite superior de la cubeta; se acota con el máximo observado.
+     */
+    private double percentil(double percentil) {
+        return Math.min(histograma.percentil(percentil), maximo.get()) / NANOS_POR_MS;
+    }
+
+    @Override
+    public double getMaximoMs() {
+        return maximo.get() / NANOS_POR_MS;
+    }
+
+    @Override
+    public void reiniciar() {
+        llamadas.reset();
+        errores.reset();
+        nanosTotales.reset();
+        maximo.reset();
+        histograma.reiniciar();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-55s llamadas=%-8d errores=%-6d media=%.3fms p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms",
+                nombre, getLlamadas(), getErrores(), getMediaMs(), getP50Ms(), getP95Ms(), getP99Ms(), getMaximoMs());
+    }
+}
@@ -0,0 +1,29 @@
+package Metricas;
+
+/**
+ * Vista JMX de las métricas de una operación. Cada operación se publica como
+ * {@code GestionDeProyectos:type=Metricas,name=<operación>}.
+ */
+public interface MetricaOperacionMXBean {
+
+    String getNombre();
+
+    long getLlamadas();
+
+    long getErrores();
+
+    double getMediaMs();
+
+    double getP50Ms();
+
+    double getP95Ms();
+
+    double getP99Ms();
+
+    double getMaximoMs();
+
+    /**
+     * Reinicia los contadores y el histograma de la operación.
+     */
+    void reiniciar();
+}
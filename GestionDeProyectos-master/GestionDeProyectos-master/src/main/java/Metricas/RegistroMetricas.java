@@ -0,0 +1,254 @@
+package Metricas;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Registro central de las métricas de latencia y rendimiento de los DAO y los servicios.
+ *
+ * Cada operación tiene una {@link MetricaOperacion} que se publica por JMX al crearse. El registro puede
+ * además volcar un reporte de todas las operaciones de forma periódica en la consola o en un archivo,
+ * configurado con las propiedades {@code metricas.volcado.ms} y {@code metricas.archivo}.
+ *
+ * Las cachés con contadores propios se registran con {@link #registrarCache}: sus aciertos y fallos se
+ * publican por JMX y aparecen al final del reporte.
+ *
+ * Se considera error una llamada que lanza una excepción o que devuelve {@code false}, que es la forma en
+ * que los DAO informan que una operación no se pudo completar.
+ */
+public final class RegistroMetricas {
+
+    private static final Map<String, MetricaOperacion> METRICAS = new ConcurrentHashMap<>();
+    private static final Map<String, MetricaCache> CACHES = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService volcador;
+
+    private RegistroMetricas() {
+    }
+
+    /**
+     * Obtiene la métrica de una operación, creándola y publicándola por JMX si no existe.
+     *
+     * @param nombre El nombre de la operación.
+     * @return La métrica de la operación.
+     */
+    public static MetricaOperacion obtener(String nombre) {
+        return METRICAS.computeIfAbsent(nombre, n -> {
+            MetricaOperacion metrica = new MetricaOperacion(n);
+            publicarJmx(metrica, "Metricas", n);
+            return metrica;
+        });
+    }
+
+    /**
+     * Registra una caché para publicar sus aciertos y fallos por JMX y en el reporte. Si ya hay una caché
+     * con ese nombre, se conserva la primera.
+     *
+     * @param nombre   El nombre de la caché.
+     * @param aciertos Lee el total de aciertos.
+     * @param fallos   Lee el total de fallos.
+     * @param detalle  Devuelve una línea por clave con sus propios contadores, o una lista vacía.
+     * @return La métrica de la caché.
+     */
+    public static MetricaCache registrarCache(String nombre, LongSupplier aciertos, LongSupplier fallos,
+                                              Supplier<List<String>> detalle) {
+        return CACHES.computeIfAbsent(nombre, n -> {
+            MetricaCache metrica = new MetricaCache(n, aciertos, fallos, detalle);
+            publicarJmx(metrica, "Caches", n);
+            return metrica;
+        });
+    }
+
+    /**
+     * Ejecuta una operación y registra su duración y si terminó en error.
+     *
+     * @param nombre    El nombre de la operación.
+     * @param operacion La operación a medir.
+     * @param <T>       Tipo del resultado.
+     * @return El resultado de la operación.
+     */
+    public static <T> T medir(String nombre, Supplier<T> operacion) {
+        MetricaOperacion metrica = obtener(nombre);
+        long inicio = System.nanoTime();
+        boolean error = true;
+        try {
+            T resultado = operacion.get();
+            error = Boolean.FALSE.equals(resultado);
+            return resultado;
+        } finally {
+            metrica.registrar(System.nanoTime() - inicio, error);
+        }
+    }
+
+    /**
+     * Envuelve una implementación en un proxy que mide cada método de la interfaz.
+     *
+     * Las operaciones se nombran {@code prefijo.metodo}; los métodos sobrecargados llevan además el número
+     * de parámetros ({@code prefijo.metodo/2}).
+     *
+     * @param interfaz       La interfaz a instrumentar.
+     * @param implementacion La implementación real.
+     * @param prefijo        Prefijo del nombre de las operaciones, por ejemplo {@code dao.estudiante}.
+     * @param <T>            Tipo de la interfaz.
+     * @return Un proxy que implementa la interfaz y delega en la implementación.
+     */
+    public static <T> T instrumentar(Class<T> interfaz, T implementacion, String prefijo) {
+        Map<String, Integer> sobrecargas = new HashMap<>();
+        for (Method metodo : interfaz.getMethods()) {
+            sobrecargas.merge(metodo.getName(), 1, Integer::sum);
+        }
+        Map<Method, MetricaOperacion> metricas = new HashMap<>();
+        for (Method metodo : interfaz.getMethods()) {
+            String nombre = prefijo + "." + metodo.getName();
+            if (sobrecargas.get(metodo.getName()) > 1) {
+                nombre += "/" + metodo.getParameterCount();
+            }
+            metricas.put(metodo, obtener(nombre));
+        }
+
+        Object proxy = Proxy.newProxyInstance(interfaz.getClassLoader(), new Class<?>[]{interfaz},
+                (p, metodo, args) -> {
+                    MetricaOperacion metrica = metricas.get(metodo);
+                    if (metrica == null) {
+                        // Métodos de Object (toString, equals, hashCode).
+                        return invocar(metodo, implementacion, args);
+                    }
+                    long inicio = System.nanoTime();
+                    boolean error = true;
+                    try {
+                        Object resultado = invocar(metodo, implementacion, args);
+                        error = Boolean.FALSE.equals(resultado);
+                        return resultado;
+                    } finally {
+                        metrica.registrar(System.nanoTime() - inicio, error);
+                    }
+                });
+        return interfaz.cast(proxy);
+    }
+
+    private static Object invocar(Method metodo, Object destino, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(destino, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return Todas las métricas registradas, ordenadas por nombre.
+     */
+    public static Collection<MetricaOperacion> todas() {
+        List<MetricaOperacion> lista = new ArrayList<>(METRICAS.values());
+        lista.sort(Comparator.comparing(MetricaOperacion::getNombre));
+        return lista;
+    }
+
+    /**
+     * @return Todas las cachés registradas, ordenadas por nombre.
+     */
+    public static Collection<MetricaCache> caches() {
+        List<MetricaCache> lista = new ArrayList<>(CACHES.values());
+        lista.sort(Comparator.comparing(MetricaCache::getNombre));
+        return lista;
+    }
+
+    /**
+     * @return Un reporte de texto con una línea por operación y una por caché.
+     */
+    public static String reporte() {
+        StringBuilder sb = new StringBuilder("=== Métricas ").append(LocalDateTime.now()).append(" ===\n");
+        for (MetricaOperacion metrica : todas()) {
+            sb.append(metrica).append('\n');
+        }
+        for (MetricaCache cache : caches()) {
+            sb.append(cache).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reinicia los contadores de todas las operaciones.
+     */
+    public static void reiniciar() {
+        METRICAS.values().forEach(MetricaOperacion::reiniciar);
+    }
+
+    /**
+     * Inicia el volcado periódico del reporte.
+     *
+     * @param periodoMs Periodo entre volcados en milisegundos.
+     * @param archivo   Archivo al que se agrega el reporte, o null para escribirlo en la consola.
+     */
+    public static synchronized void iniciarVolcadoPeriodico(long periodoMs, Path archivo) {
+        if (volcador != null) {
+            volcador.shutdownNow();
+        }
+        volcador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "metricas-volcado");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        volcador.scheduleAtFixedRate(() -> volcar(archivo), periodoMs, periodoMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Inicia el volcado periódico si la propiedad {@code metricas.volcado.ms} es mayor que cero.
+     * Si se define {@code metricas.archivo}, el reporte se agrega a ese archivo.
+     */
+    public static void iniciarDesdePropiedades() {
+        long periodo = Long.getLong("metricas.volcado.ms", 0L);
+        if (periodo > 0) {
+            String archivo = System.getProperty("metricas.archivo");
+            iniciarVolcadoPeriodico(periodo, archivo == null ? null : Paths.get(archivo));
+        }
+    }
+
+    private static void volcar(Path archivo) {
+        String reporte = reporte();
+        if (archivo == null) {
+            System.out.print(reporte);
+            return;
+        }
+        try {
+            Files.writeString(archivo, reporte, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Error al escribir las métricas en " + archivo + ": " + e.getMessage());
+        }
+    }
+
+    private static void publicarJmx(Object metrica, String tipo, String nombreMetrica) {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName nombre = new ObjectName("GestionDeProyectos:type=" + tipo + ",name="
+                    + ObjectName.quote(nombreMetrica));
+            if (!servidor.isRegistered(nombre)) {
+                servidor.registerMBean(metrica, nombre);
+            }
+        } catch (Exception e) {
+            System.err.println("No se pudo publicar la métrica por JMX: " + e.getMessage());
+        }
+    }
+}
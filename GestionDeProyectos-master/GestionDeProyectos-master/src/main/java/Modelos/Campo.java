@@ -0,0 +1,30 @@
+package Modelos;
+
+/**
+ * Campos de un usuario cuyos cambios se registran (ver {@link Usuario#getCamposModificados()}).
+ *
+ * Cada campo conoce la columna donde se guarda, para que los DAO puedan escribir solo las columnas modificadas.
+ */
+public enum Campo {
+    NOMBRE("nombre"),
+    EMAIL("email"),
+    CONTRASENA("contrasena"),
+    TELEFONO("telefono"),
+    DIRECCION("direccion"),
+    GENERO("genero"),
+    MATRICULA("matricula"),
+    PROYECTO("id_proyecto");
+
+    private final String columna;
+
+    Campo(String columna) {
+        this.columna = columna;
+    }
+
+    /**
+     * @return El nombre de la columna en la base de datos.
+     */
+    public String getColumna() {
+        return columna;
+    }
+}
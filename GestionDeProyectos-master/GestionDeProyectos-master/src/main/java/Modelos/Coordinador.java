@@ -2,7 +2,6 @@ package Modelos;
 
 import jakarta.validation.*;
 import jakarta.validation.constraints.*;
-import java.util.Set;
 
 /**
  * Clase que representa a un Coordinador, que extiende de la clase {@link Usuario}.
@@ -28,21 +27,13 @@ public class Coordinador extends Usuario {
     }
 
     /**
-     * Valida los campos del coordinador, incluyendo las restricciones definidas
+     * Valida en una sola pasada los campos del coordinador, incluyendo las restricciones definidas
      * en la clase y las de la clase {@link Usuario} (padre).
      *
      * Si alguna restricción de validación no se cumple, se lanza una excepción
      * {@link ConstraintViolationException}.
      */
     public void validate() {
-        super.validate(); // Validate parent fields
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-        Set<ConstraintViolation<Coordinador>> violations = validator.validate(this);
-
-        if (!violations.isEmpty()) {
-            ConstraintViolation<Coordinador> firstViolation = violations.iterator().next();
-            throw new ConstraintViolationException(firstViolation.getMessage(), violations);
-        }
+        Validador.validar(this);
     }
 }
\ No newline at end of file
@@ -2,7 +2,8 @@ package Modelos;
 
 import jakarta.validation.*;
 import jakarta.validation.constraints.*;
-import java.util.Set;
+
+import java.util.Objects;
 
 /**
  * Clase que representa a un Estudiante, que extiende de la clase {@link Usuario}.
@@ -19,6 +20,11 @@ public class Estudiante extends Usuario {
     @Pattern(regexp = "S\\d{8}", message = "El ID debe comenzar con 'S' seguido de 8 dígitos")
     private String Matricula;
 
+    /**
+     * Identificador del proyecto asignado al estudiante, o null si aún no tiene uno.
+     */
+    private String proyectoId;
+
     /**
      * Constructor de la clase Estudiante. Inicializa la matrícula con un valor predeterminado.
      */
@@ -36,25 +42,53 @@ public class Estudiante extends Usuario {
     public void setMatricula(@NotBlank(message = "Número de personal no puede estar vacío")
                              @Size(min = 9, max = 9, message = "La matricula debe tener 9 caracteres")
                              String matricula) {
-        this.Matricula = matricula;
+        if (!Objects.equals(this.Matricula, matricula)) {
+            this.Matricula = matricula;
+            marcarModificado(Campo.MATRICULA);
+        }
+    }
+
+    public String getProyectoId() {
+        return proyectoId;
+    }
+
+    public void setProyectoId(String proyectoId) {
+        if (!Objects.equals(this.proyectoId, proyectoId)) {
+            this.proyectoId = proyectoId;
+            marcarModificado(Campo.PROYECTO);
+        }
+    }
+
+    /**
+     * Crea una copia independiente del estudiante, con la misma versión y sin cambios registrados, para
+     * que quien la reciba pueda modificarla sin afectar al original.
+     *
+     * @return La copia.
+     */
+    public Estudiante copiar() {
+        Estudiante copia = new Estudiante();
+        copia.setId(getId());
+        copia.setEmail(getEmail());
+        copia.setContrasena(getContrasena());
+        copia.setNombre(getNombre());
+        copia.setTelefono(getTelefono());
+        copia.setDireccion(getDireccion());
+        copia.setGenero(getGenero());
+        copia.setMatricula(getMatricula());
+        copia.setProyectoId(getProyectoId());
+        copia.setVersion(getVersion());
+        copia.limpiarCambios();
+        return copia;
     }
 
     /**
-     * Valida los campos del estudiante, incluyendo las restricciones definidas
+     * Valida en una sola pasada los campos del estudiante, incluyendo las restricciones definidas
      * en la clase y las de la clase {@link Usuario} (padre).
      *
      * Si alguna restricción de validación no se cumple, se lanza una excepción
      * {@link ConstraintViolationException}.
      */
     public void validate() {
-        super.validate(); // Validar campos de la clase padre
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-        Set<ConstraintViolation<Estudiante>> violations = validator.validate(this);
-
-        if (!violations.isEmpty()) {
-            ConstraintViolation<Estudiante> firstViolation = violations.iterator().next();
-            throw new ConstraintViolationException(firstViolation.getMessage(), violations);
-        }
+        Validador.validar(this);
     }
 }
@@ -2,7 +2,6 @@ package Modelos;
 
 import jakarta.validation.*;
 import jakarta.validation.constraints.*;
-import java.util.Set;
 
 /**
  * Clase que representa un proyecto en el sistema. Un proyecto tiene un nombre,
@@ -32,6 +31,23 @@ public class Proyecto {
      */
     private String proyectoId;
 
+    /**
+     * Versión de la fila leída del almacenamiento, para las actualizaciones con control de concurrencia
+     * optimista.
+     */
+    private int version;
+
+    /**
+     * Número máximo de estudiantes que se pueden asignar al proyecto, o null si no tiene límite.
+     */
+    @PositiveOrZero(message = "El cupo del proyecto no puede ser negativo")
+    private Integer cupo;
+
+    /**
+     * Número de estudiantes asignados al proyecto al momento de leerlo.
+     */
+    private int ocupados;
+
     /**
      * Constructor por defecto de la clase Proyecto.
      */
@@ -41,7 +57,40 @@ public class Proyecto {
         return proyectoId;
     }
 
-    public void setProyectoId(String proyectoId) {}
+    public void setProyectoId(String proyectoId) {
+        this.proyectoId = proyectoId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public Integer getCupo() {
+        return cupo;
+    }
+
+    public void setCupo(Integer cupo) {
+        this.cupo = cupo;
+    }
+
+    public int getOcupados() {
+        return ocupados;
+    }
+
+    public void setOcupados(int ocupados) {
+        this.ocupados = ocupados;
+    }
+
+    /**
+     * @return Los lugares libres al momento de leer el proyecto, o {@link Integer#MAX_VALUE} si no tiene límite.
+     */
+    public int getLugaresDisponibles() {
+        return cupo == null ? Integer.MAX_VALUE : Math.max(cupo - ocupados, 0);
+    }
 
     public String getNombre() {
         return Nombre;
@@ -64,13 +113,6 @@ public class Proyecto {
      * lanza una excepción {@link ConstraintViolationException}.
      */
     public void validate() {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-        Set<ConstraintViolation<Proyecto>> violations = validator.validate(this);
-
-        if (!violations.isEmpty()) {
-            ConstraintViolation<Proyecto> firstViolation = violations.iterator().next();
-            throw new ConstraintViolationException(firstViolation.getMessage(), violations);
-        }
+        Validador.validar(this);
     }
 }
\ No newline at end of file
@@ -6,6 +6,9 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -13,6 +16,9 @@ import java.util.Set;
  * Contiene los atributos comunes para los diferentes tipos de usuarios como nombre, correo,
  * contraseña, teléfono, dirección y género.
  * Además, proporciona un método para validar que los atributos cumplen con las restricciones definidas.
+ *
+ * Los setters registran qué campos cambiaron de valor desde la última llamada a {@link #limpiarCambios()},
+ * de modo que los DAO puedan escribir solo las columnas modificadas.
  */
 abstract public class Usuario {
 
@@ -72,6 +78,18 @@ abstract public class Usuario {
     @Pattern(regexp = "Masculino|Femenino", message = "El género debe ser 'Masculino' o 'Femenino'")
     private String Genero;
 
+    /**
+     * Versión de la fila leída del almacenamiento. Las actualizaciones con control de concurrencia optimista
+     * solo se aplican si la fila conserva esta versión. No es un campo editable, por lo que no se registra
+     * como modificado.
+     */
+    private int version;
+
+    /**
+     * Campos cuyo valor cambió desde la creación del objeto o desde la última llamada a {@link #limpiarCambios()}.
+     */
+    private final Set<Campo> camposModificados = EnumSet.noneOf(Campo.class);
+
     // Getters and setters without validation annotations
 
     public String getDireccion() {
@@ -98,16 +116,33 @@ abstract public class Usuario {
         return Telefono;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     public void setDireccion(String direccion) {
-        this.Direccion = direccion;
+        if (!Objects.equals(this.Direccion, direccion)) {
+            this.Direccion = direccion;
+            marcarModificado(Campo.DIRECCION);
+        }
     }
 
     public void setEmail(String email) {
-        this.email = email;
+        if (!Objects.equals(this.email, email)) {
+            this.email = email;
+            marcarModificado(Campo.EMAIL);
+        }
     }
 
     public void setGenero(String genero) {
-        Genero = genero;
+        if (!Objects.equals(Genero, genero)) {
+            Genero = genero;
+            marcarModificado(Campo.GENERO);
+        }
     }
 
     public void setId(String id) {
@@ -127,15 +162,57 @@ abstract public class Usuario {
             @NotBlank(message = "Contrasena no puede estar vacía")
             @Size(min = 6, max = 15, message = "La contrasena debe tener de 6 a 15 caracteres")
             String contrasena) {
-        this.contrasena = contrasena;
+        if (!Objects.equals(this.contrasena, contrasena)) {
+            this.contrasena = contrasena;
+            marcarModificado(Campo.CONTRASENA);
+        }
     }
 
     public void setNombre(String nombre) {
-        this.Nombre = nombre;
+        if (!Objects.equals(this.Nombre, nombre)) {
+            this.Nombre = nombre;
+            marcarModificado(Campo.NOMBRE);
+        }
     }
 
     public void setTelefono(String telefono) {
-        this.Telefono = telefono;
+        if (!Objects.equals(this.Telefono, telefono)) {
+            this.Telefono = telefono;
+            marcarModificado(Campo.TELEFONO);
+        }
+    }
+
+    /**
+     * Registra que un campo cambió de valor.
+     *
+     * @param campo El campo modificado.
+     */
+    protected void marcarModificado(Campo campo) {
+        camposModificados.add(campo);
+    }
+
+    /**
+     * @return Los campos que cambiaron de valor desde la última llamada a {@link #limpiarCambios()}.
+     */
+    public Set<Campo> getCamposModificados() {
+        return camposModificados.isEmpty() ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(camposModificados));
+    }
+
+    /**
+     * @param campo El campo a consultar.
+     * @return true si el campo cambió de valor desde la última llamada a {@link #limpiarCambios()}.
+     */
+    public boolean isModificado(Campo campo) {
+        return camposModificados.contains(campo);
+    }
+
+    /**
+     * Olvida los cambios registrados. Se llama después de cargar el objeto desde el almacenamiento o de
+     * guardar sus cambios.
+     */
+    public void limpiarCambios() {
+        camposModificados.clear();
     }
 
     /**
@@ -156,13 +233,6 @@ abstract public class Usuario {
      * Si alguna validación falla, lanza una excepción `ConstraintViolationException`.
      */
     public void validate() {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-        Set<ConstraintViolation<Usuario>> violations = validator.validate(this);
-
-        if (!violations.isEmpty()) {
-            ConstraintViolation<Usuario> firstViolation = violations.iterator().next();
-            throw new ConstraintViolationException(firstViolation.getMessage(), violations);
-        }
+        Validador.validar(this);
     }
 }
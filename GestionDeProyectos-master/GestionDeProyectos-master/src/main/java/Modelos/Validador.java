@@ -0,0 +1,57 @@
+package Modelos;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import java.util.Set;
+
+/**
+ * Motor de validación compartido por todos los modelos.
+ *
+ * La {@link ValidatorFactory} se construye una sola vez, y Hibernate Validator conserva en ella los
+ * metadatos de restricciones de cada clase después de la primera validación. El {@link Validator} es
+ * seguro para usarse desde varios hilos.
+ */
+public final class Validador {
+
+    private static final ValidatorFactory FACTORY = Validation.buildDefaultValidatorFactory();
+    private static final Validator VALIDATOR = FACTORY.getValidator();
+
+    static {
+        // Construir de antemano los metadatos de los modelos para no pagarlos en la primera petición.
+        for (Class<?> modelo : new Class<?>[]{Usuario.class, Estudiante.class, Coordinador.class, Proyecto.class}) {
+            VALIDATOR.getConstraintsForClass(modelo);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(FACTORY::close, "validador-cierre"));
+    }
+
+    private Validador() {
+    }
+
+    /**
+     * @return El validador compartido.
+     */
+    public static Validator getValidator() {
+        return VALIDATOR;
+    }
+
+    /**
+     * Valida un objeto en una sola pasada, incluyendo las restricciones heredadas de sus superclases.
+     *
+     * @param objeto El objeto a validar.
+     * @param <T>    Tipo del objeto.
+     * @throws ConstraintViolationException Si alguna restricción no se cumple; el mensaje es el de la
+     *                                      primera violación encontrada.
+     */
+    public static <T> void validar(T objeto) {
+        Set<ConstraintViolation<T>> violations = VALIDATOR.validate(objeto);
+
+        if (!violations.isEmpty()) {
+            ConstraintViolation<T> firstViolation = violations.iterator().next();
+            throw new ConstraintViolationException(firstViolation.getMessage(), violations);
+        }
+    }
+}
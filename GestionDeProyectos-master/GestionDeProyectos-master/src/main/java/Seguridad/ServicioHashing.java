@@ -0,0 +1,153 @@
+package Seguridad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servicio que encripta lotes de contraseñas en paralelo.
+ *
+ * BCrypt consume CPU de forma intencional, por lo que encriptar miles de contraseñas en el hilo que llama
+ * usa un solo núcleo. Este servicio reparte el trabajo en un pool acotado con un hilo por núcleo disponible.
+ * La cola de tareas también está acotada: cuando se llena, el hilo que envía el lote encripta la contraseña
+ * él mismo, lo que frena al productor en lugar de acumular memoria.
+ *
+ * Los resultados se devuelven en el mismo orden que las contraseñas de entrada, de modo que pueden
+ * emparejarse por posición con las filas que se insertarán después.
+ */
+public class ServicioHashing {
+
+    private static final ServicioHashing INSTANCIA =
+            new ServicioHashing(Runtime.getRuntime().availableProcessors());
+
+    private final ThreadPoolExecutor ejecutor;
+    private volatile MetricasLote ultimoLote;
+
+    /**
+     * Crea un servicio con el número de hilos indicado.
+     *
+     * @param hilos Número de hilos que encriptan en paralelo.
+     */
+    public ServicioHashing(int hilos) {
+        AtomicInteger contador = new AtomicInteger();
+        ThreadFactory fabrica = r -> {
+            Thread hilo = new Thread(r, "hashing-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+        this.ejecutor = new ThreadPoolExecutor(hilos, hilos, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(hilos * 256), fabrica, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.ejecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @return La instancia compartida, dimensionada con el número de núcleos disponibles.
+     */
+    public static ServicioHashing getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Envía cada contraseña al pool y devuelve un futuro por contraseña.
+     *
+     * @param contrasenas Las contraseñas en texto plano.
+     * @return Los futuros de las contraseñas encriptadas, en el mismo orden que la entrada.
+     */
+    public List<CompletableFuture<String>> encodeLote(List<String> contrasenas) {
+        List<CompletableFuture<String>> futuros = new ArrayList<>(contrasenas.size());
+        for (String contrasena : contrasenas) {
+            futuros.add(CompletableFuture.supplyAsync(() -> PasswordHasher.encodePassword(contrasena), ejecutor));
+        }
+        return futuros;
+    }
+
+    /**
+     * Encripta un lote y completa el futuro con la lista de resultados en el orden de entrada.
+     * Al terminar se registran las métricas del lote.
+     *
+     * @param contrasenas Las contraseñas en texto plano.
+     * @return Un futuro con las contraseñas encriptadas, en el mismo orden que la entrada.
+     */
+    public CompletableFuture<List<String>> encodeLoteOrdenado(List<String> contrasenas) {
+        long inicio = System.nanoTime();
+        List<CompletableFuture<String>> futuros = encodeLote(contrasenas);
+
+        return CompletableFuture.allOf(futuros.toArray(CompletableFuture<?>[]::new)).thenApply(v -> {
+            List<String> hashes = new ArrayList<>(futuros.size());
+            for (CompletableFuture<String> futuro : futuros) {
+                hashes.add(futuro.join());
+            }
+            ultimoLote = new MetricasLote(hashes.size(), System.nanoTime() - inicio, ejecutor.getMaximumPoolSize());
+            return hashes;
+        });
+    }
+
+    /**
+     * Encripta un lote y espera a que termine.
+     *
+     * @param contrasenas Las contraseñas en texto plano.
+     * @return Las contraseñas encriptadas, en el mismo orden que la entrada.
+     */
+    public List<String> encodeTodos(List<String> contrasenas) {
+        return encodeLoteOrdenado(contrasenas).join();
+    }
+
+    /**
+     * @return Las métricas del último lote completado, o null si aún no se ha completado ninguno.
+     */
+    public MetricasLote getUltimoLote() {
+        return ultimoLote;
+    }
+
+    /**
+     * Detiene los hilos del servicio. Los lotes pendientes se terminan de procesar.
+     */
+    public void cerrar() {
+        ejecutor.shutdown();
+    }
+
+    /**
+     * Métricas de rendimiento de un lote de encriptación.
+     */
+    public static class MetricasLote {
+        private final int tamano;
+        private final long duracionNanos;
+        private final int hilos;
+
+        MetricasLote(int tamano, long duracionNanos, int hilos) {
+            this.tamano = tamano;
+            this.duracionNanos = duracionNanos;
+            this.hilos = hilos;
+        }
+
+        public int getTamano() {
+            return tamano;
+        }
+
+        public long getDuracionMs() {
+            return TimeUnit.NANOSECONDS.toMillis(duracionNanos);
+        }
+
+        public int getHilos() {
+            return hilos;
+        }
+
+        /**
+         * @return Contraseñas encriptadas por segundo en este lote.
+         */
+        public double getHashesPorSegundo() {
+            return duracionNanos == 0 ? 0.0 : tamano * 1_000_000_000.0 / duracionNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hashes en %d ms (%.1f hashes/s, %d hilos)",
+                    tamano, getDuracionMs(), getHashesPorSegundo(), hilos);
+        }
+    }
+}
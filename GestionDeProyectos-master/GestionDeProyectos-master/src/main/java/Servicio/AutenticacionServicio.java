@@ -0,0 +1,89 @@
+package Servicio;
+
+import DAO.FabricaDAO;
+import DAO.Usuario.Credenciales;
+import DAO.Usuario.DAO;
+import Metricas.RegistroMetricas;
+import Seguridad.PasswordHasher;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Servicio encargado de autenticar a los usuarios y resolver su rol en el sistema.
+ *
+ * El servicio no guarda estado entre llamadas; una sola instancia ({@link #getInstancia()}) puede usarse
+ * desde varios hilos a la vez.
+ */
+public class AutenticacionServicio {
+
+    private static final AutenticacionServicio INSTANCIA = new AutenticacionServicio();
+
+    // DAO para interactuar con la base de datos
+    private final DAO usuarioDAO;
+
+    // Acción que asegura la conexión antes de cada operación
+    private final Runnable prepararConexion;
+
+    /**
+     * Crea el servicio con el DAO del almacenamiento configurado (ver {@link FabricaDAO}).
+     */
+    public AutenticacionServicio() {
+        this(FabricaDAO.usuarios(), FabricaDAO.prepararConexion());
+    }
+
+    /**
+     * Crea el servicio con el DAO indicado.
+     *
+     * @param usuarioDAO       El DAO de usuarios.
+     * @param prepararConexion Acción que se ejecuta antes de cada operación para asegurar la conexión.
+     */
+    public AutenticacionServicio(DAO usuarioDAO, Runnable prepararConexion) {
+        this.usuarioDAO = usuarioDAO;
+        this.prepararConexion = prepararConexion;
+    }
+
+    /**
+     * @return La instancia compartida del servicio.
+     */
+    public static AutenticacionServicio getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Autentica las credenciales del usuario, verificando su correo y contraseña.
+     *
+     * Las credenciales y el rol se obtienen con una sola consulta.
+     *
+     * @param email      El correo electrónico del usuario.
+     * @param contrasena La contraseña ingresada por el usuario.
+     * @return El rol del usuario ("estudiante", "coordinador") o null si las credenciales son incorrectas
+     *         o el usuario no tiene rol.
+     */
+    public String autenticar(String email, String contrasena) {
+        return RegistroMetricas.medir("servicio.autenticacion.autenticar", () -> {
+            // Intentar establecer la conexión con la base de datos
+            prepararConexion.run();
+
+            Credenciales credenciales = usuarioDAO.getCredenciales(email);
+            if (credenciales == null) {
+                return null; // Usuario no encontrado
+            }
+
+            // Comparar contraseñas
+            if (!PasswordHasher.matches(contrasena, credenciales.getContrasenaEncriptada())) {
+                return null; // Contraseña incorrecta
+            }
+            return credenciales.getRol();
+        });
+    }
+
+    /**
+     * Versión asíncrona de {@link #autenticar(String, String)}. Se ejecuta en un hilo virtual con el
+     * tiempo límite de {@link EjecutorAsincrono}.
+     *
+     * @return Un futuro con el rol del usuario, o null si las credenciales son incorrectas.
+     */
+    public CompletableFuture<String> autenticarAsync(String email, String contrasena) {
+        return EjecutorAsincrono.ejecutar(() -> autenticar(email, contrasena));
+    }
+}
@@ -0,0 +1,91 @@
+package Servicio;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ejecutor compartido por las versiones asíncronas de los servicios.
+ *
+ * Cada tarea corre en su propio hilo virtual, de modo que las esperas de la base de datos no ocupan hilos
+ * de plataforma y se pueden lanzar muchas operaciones independientes a la vez. Los futuros devueltos
+ * admiten cancelación y tiempo límite: al cancelarse o caducar, se interrumpe el hilo de la tarea.
+ */
+public final class EjecutorAsincrono {
+
+    /**
+     * Tiempo límite predeterminado de las operaciones asíncronas, configurable con {@code servicio.timeout}
+     * (milisegundos).
+     */
+    public static final long TIMEOUT_MS = Long.getLong("servicio.timeout", 30000L);
+
+    private static final ExecutorService EJECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private EjecutorAsincrono() {
+    }
+
+    /**
+     * Ejecuta una tarea con el tiempo límite predeterminado.
+     *
+     * @param tarea La tarea a ejecutar.
+     * @param <T>   Tipo del resultado.
+     * @return Un futuro con el resultado de la tarea.
+     */
+    public static <T> CompletableFuture<T> ejecutar(Callable<T> tarea) {
+        return ejecutar(tarea, TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ejecuta una tarea en un hilo virtual.
+     *
+     * Si el futuro se cancela o se completa por tiempo límite antes de que la tarea termine, el hilo de
+     * la tarea se interrumpe.
+     *
+     * @param tarea   La tarea a ejecutar.
+     * @param timeout Tiempo límite; 0 o negativo para no limitar.
+     * @param unidad  Unidad del tiempo límite.
+     * @param <T>     Tipo del resultado.
+     * @return Un futuro con el resultado de la tarea.
+     */
+    public static <T> CompletableFuture<T> ejecutar(Callable<T> tarea, long timeout, TimeUnit unidad) {
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        Future<?> ejecucion = EJECUTOR.submit(() -> {
+            try {
+                resultado.complete(tarea.call());
+            } catch (Throwable e) {
+                resultado.completeExceptionally(e);
+            }
+        });
+
+        resultado.whenComplete((valor, error) -> {
+            if (error != null) {
+                ejecucion.cancel(true);
+            }
+        });
+        if (timeout > 0) {
+            resultado.orTimeout(timeout, unidad);
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtiene la causa original de un error producido por un futuro, sin las envolturas de
+     * {@link CompletionException} o {@link ExecutionException}.
+     *
+     * @param error El error recibido.
+     * @return La causa original.
+     */
+    public static Throwable causa(Throwable error) {
+        Throwable actual = error;
+        while ((actual instanceof CompletionException || actual instanceof ExecutionException)
+                && actual.getCause() != null) {
+            actual = actual.getCause();
+        }
+        return actual;
+    }
+}
@@ -0,0 +1,103 @@
+package Servicio;
+
+import Emparejamiento.MotorEmparejamiento;
+import Emparejamiento.ReporteEmparejamiento;
+import Emparejamiento.ResultadoEmparejamiento;
+import DAO.Estudiante.ResultadoAsignacion;
+import Metricas.RegistroMetricas;
+import Modelos.Estudiante;
+import Modelos.Proyecto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servicio que asigna proyectos a muchos estudiantes a partir de sus preferencias.
+ *
+ * Lee los lugares disponibles de todos los proyectos, calcula la asignación con {@link MotorEmparejamiento}
+ * y la guarda con una sola asignación masiva ({@link EstudianteServicio#asignarProyectos(Map)}). Solo
+ * participan los estudiantes que todavía no tienen proyecto; los que ya tienen uno lo conservan.
+ */
+public class EmparejamientoServicio {
+
+    private static final EmparejamientoServicio INSTANCIA = new EmparejamientoServicio();
+
+    private final EstudianteServicio estudianteServicio;
+    private final ProyectoServicio proyectoServicio;
+
+    /**
+     * Crea el servicio con las instancias compartidas de los servicios de estudiantes y proyectos.
+     */
+    public EmparejamientoServicio() {
+        this(EstudianteServicio.getInstancia(), ProyectoServicio.getInstancia());
+    }
+
+    /**
+     * Crea el servicio con los servicios indicados.
+     */
+    public EmparejamientoServicio(EstudianteServicio estudianteServicio, ProyectoServicio proyectoServicio) {
+        this.estudianteServicio = estudianteServicio;
+        this.proyectoServicio = proyectoServicio;
+    }
+
+    /**
+     * @return La instancia compartida del servicio.
+     */
+    public static EmparejamientoServicio getInstancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Calcula y guarda la asignación estable de los estudiantes sin proyecto.
+     *
+     * @param preferencias Los IDs de proyecto que quiere cada estudiante, del preferido al menos preferido. El
+     *                     orden del mapa es la prioridad de los estudiantes: si dos quieren el último lugar
+     *                     de un proyecto, se lo queda el que aparece primero.
+     * @return La asignación, sus estadísticas y el resultado de guardarla. El servicio no imprime nada; quien
+     *         llama muestra {@link ReporteEmparejamiento#resumen()} donde corresponda.
+     */
+    public ReporteEmparejamiento asignarPorPreferencias(Map<String, List<Integer>> preferencias) {
+        return RegistroMetricas.medir("servicio.emparejamiento.asignarPorPreferencias", () -> {
+            Map<Integer, Integer> lugares = new HashMap<>();
+            int despuesDeId = 0;
+            List<Proyecto> pagina;
+            while (!(pagina = proyectoServicio.obtenerProyectos(null, despuesDeId)).isEmpty()) {
+                for (Proyecto proyecto : pagina) {
+                    despuesDeId = Integer.parseInt(proyecto.getProyectoId());
+                    lugares.put(despuesDeId, proyecto.getLugaresDisponibles());
+                }
+            }
+
+            Map<String, Estudiante> estudiantes = estudianteServicio.obtenerEstudiantes(preferencias.keySet());
+            Map<String, List<Integer>> participantes = new LinkedHashMap<>(preferencias.size() * 2);
+            List<String> omitidos = new ArrayList<>();
+            for (Map.Entry<String, List<Integer>> preferencia : preferencias.entrySet()) {
+                Estudiante estudiante = estudiantes.get(preferencia.getKey());
+                if (estudiante == null || estudiante.getProyectoId() != null) {
+                    omitidos.add(preferencia.getKey());
+                } else {
+                    participantes.put(preferencia.getKey(), preferencia.getValue());
+                }
+            }
+
+            ResultadoEmparejamiento emparejamiento = MotorEmparejamiento.emparejar(participantes, lugares);
+            Map<String, ResultadoAsignacion> confirmacion = emparejamiento.getAsignaciones().isEmpty()
+                    ? Map.of() : estudianteServicio.asignarProyectos(emparejamiento.getAsignaciones());
+            return new ReporteEmparejamiento(emparejamiento, confirmacion, omitidos);
+        });
+    }
+
+    /**
+     * Versión asíncrona de {@link #asignarPorPreferencias(Map)}. No tiene tiempo límite.
+     *
+     * @return Un futuro con la asignación, sus estadísticas y el resultado de guardarla.
+     */
+    public CompletableFuture<ReporteEmparejamiento> asignarPorPreferenciasAsync(Map<String, List<Integer>> preferencias) {
+        return EjecutorAsincrono.ejecutar(() -> asignarPorPreferencias(preferencias), 0, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,305 @@
+package Servicio;
+
+import Modelos.Estudiante;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Cola de escritura diferida para las actualizaciones de datos personales de los estudiantes.
+ *
+ * Las actualizaciones se encolan y un hilo escritor las guarda en grupos, con una transacción por grupo en
+ * lugar de una por actualización. Un grupo se envía cuando junta {@code tamanoGrupo} estudiantes, cuando la
+ * actualización más antigua lleva {@code esperaMs} milisegundos en la cola o al cerrar la cola. Mientras el
+ * escritor guarda un grupo, las actualizaciones que llegan forman el siguiente.
+ *
+ * Si un estudiante se actualiza otra vez antes de que su cambio se guarde, los datos nuevos reemplazan a los
+ * anteriores en la cola, y todos los que los encolaron reciben el resultado de la única escritura. El futuro
+ * devuelto por {@link #encolar(Estudiante)} se completa después de que la transacción del grupo termina, así
+ * que un resultado true indica que el cambio ya está guardado.
+ *
+ * La cola admite hasta {@code capacidad} estudiantes distintos; al llenarse, {@link #encolar(Estudiante)}
+ * espera a que el escritor tome un grupo. Todas las operaciones pueden llamarse desde varios hilos.
+ */
+public class EscrituraDiferida implements AutoCloseable {
+
+    /**
+     * Número predeterminado de estudiantes distintos en la cola, configurable con
+     * {@code escritura.diferida.capacidad}.
+     */
+    public static final int CAPACIDAD = Integer.getInteger("escritura.diferida.capacidad", 1000);
+
+    /**
+     * Número predeterminado de estudiantes por transacción, configurable con {@code escritura.diferida.grupo}.
+     */
+    public static final int TAMANO_GRUPO = Integer.getInteger("escritura.diferida.grupo", 100);
+
+    /**
+     * Espera máxima predeterminada de una actualización en la cola, configurable con
+     * {@code escritura.diferida.espera.ms}.
+     */
+    public static final long ESPERA_MS = Long.getLong("escritura.diferida.espera.ms", 5L);
+
+    private final Function<List<Estudiante>, List<Boolean>> escritor;
+    private final int capacidad;
+    private final int tamanoGrupo;
+    private final long esperaNanos;
+
+    private final ReentrantLock bloqueo = new ReentrantLock();
+    private final Condition hayTrabajo = bloqueo.newCondition();
+    private final Condition hayLugar = bloqueo.newCondition();
+
+    // Actualizaciones por correo, en orden de llegada. Se protegen con el bloqueo, igual que los contadores.
+    private final LinkedHashMap<String, Pendiente> pendientes = new LinkedHashMap<>();
+    private long llegadaMasAntigua;
+    private boolean cerrada;
+    private long grupos;
+    private long escritas;
+    private long reemplazadas;
+
+    private final Thread hilo;
+
+    /**
+     * @param escritor    Guarda un grupo de estudiantes con correos distintos en una transacción y devuelve
+     *                    un resultado por estudiante, en el mismo orden. Se ejecuta en el hilo escritor.
+     * @param capacidad   Número de estudiantes distintos que admite la cola.
+     * @param tamanoGrupo Número de estudiantes con el que un grupo se envía sin esperar.
+     * @param esperaMs    Milisegundos que la actualización más antigua espera a que se junte un grupo; 0
+     *                    para enviar en cuanto el escritor esté libre.
+     */
+    public EscrituraDiferida(Function<List<Estudiante>, List<Boolean>> escritor, int capacidad, int tamanoGrupo,
+                             long esperaMs) {
+        if (capacidad < 1 || tamanoGrupo < 1) {
+            throw new IllegalArgumentException("La cola y los grupos deben admitir al menos un estudiante: "
+                    + capacidad + ", " + tamanoGrupo);
+        }
+        this.escritor = escritor;
+        this.capacidad = capacidad;
+        this.tamanoGrupo = tamanoGrupo;
+        this.esperaNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(esperaMs, 0));
+        this.hilo = Thread.ofPlatform().name("escritura-diferida").daemon().start(this::escribir);
+    }
+
+    /**
+     * Encola los datos personales de un estudiante: nombre, teléfono, dirección y género. Si la cola está
+     * llena y el estudiante no está en ella, espera a que haya lugar.
+     *
+     * @param datos Los datos del estudiante, identificado por su correo. No deben modificarse después.
+     * @return Un futuro que se completa, una vez guardado el grupo, con true si el estudiante se actualizó;
+     *         o con una excepción si la cola está cerrada, si el hilo se interrumpió mientras esperaba lugar
+     *         o si el escritor falló.
+     */
+    public CompletableFuture<Boolean> encolar(Estudiante datos) {
+        CompletableFuture<Boolean> confirmacion = new CompletableFuture<>();
+        bloqueo.lock();
+        try {
+            Pendiente pendiente = pendientes.get(datos.getEmail());
+            while (pendiente == null && pendientes.size() >= capacidad && !cerrada) {
+                hayLugar.await();
+                pendiente = pendientes.get(datos.getEmail());
+            }
+            if (cerrada) {
+                confirmacion.completeExceptionally(new IllegalStateException("La escritura diferida está cerrada."));
+                return confirmacion;
+            }
+            if (pendiente != null) {
+                pendiente.datos = datos;
+                pendiente.confirmaciones.add(confirmacion);
+                reemplazadas++;
+            } else {
+                if (pendientes.isEmpty()) {
+                    llegadaMasAntigua = System.nanoTime();
+                }
+                pendientes.put(datos.getEmail(), new Pendiente(datos, confirmacion));
+                if (pendientes.size() == 1 || pendientes.size() >= tamanoGrupo) {
+                    hayTrabajo.signal();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            confirmacion.completeExceptionally(e);
+        } finally {
+            bloqueo.unlock();
+        }
+        return confirmacion;
+    }
+
+    /**
+     * Deja de aceptar actualizaciones, guarda las que quedan en la cola y espera a que el escritor termine.
+     */
+    public void cerrar() {
+        bloqueo.lock();
+        try {
+            cerrada = true;
+            hayTrabajo.signal();
+            hayLugar.signalAll();
+        } finally {
+            bloqueo.unlock();
+        }
+        try {
+            hilo.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        cerrar();
+    }
+
+    private void escribir() {
+        while (true) {
+            List<Pendiente> grupo = new ArrayList<>();
+            bloqueo.lock();
+            try {
+                while (!grupoListo()) {
+                    if (pendientes.isEmpty()) {
+                        if (cerrada) {
+                            return;
+                        }
+                        hayTrabajo.awaitUninterruptibly();
+                    } else {
+                        try {
+                            hayTrabajo.awaitNanos(esperaNanos - (System.nanoTime() - llegadaMasAntigua));
+                        } catch (InterruptedException e) {
+                            // Nadie interrumpe al escritor; se vuelve a revisar la cola.
+                        }
+                    }
+                }
+                // Si quedan actualizaciones, ya esperaron al menos como la más antigua de este grupo y se
+                // envían en cuanto el escritor termine.
+                Iterator<Pendiente> it = pendientes.values().iterator();
+                while (it.hasNext() && grupo.size() < tamanoGrupo) {
+                    grupo.add(it.next());
+                    it.remove();
+                }
+                hayLugar.signalAll();
+            } finally {
+                bloqueo.unlock();
+            }
+            guardar(grupo);
+        }
+    }
+
+    private boolean grupoListo() {
+        return !pendientes.isEmpty() && (cerrada || pendientes.size() >= tamanoGrupo
+                || System.nanoTime() - llegadaMasAntigua >= esperaNanos);
+    }
+
+    /**
+     * Guarda un grupo y completa todas sus confirmaciones. Ningún error sale de aquí: si el escritor falla
+     * o devuelve un resultado inválido, las confirmaciones del grupo se completan con la excepción y el
+     * hilo escritor sigue atendiendo la cola.
+     */
+    private void guardar(List<Pendiente> grupo) {
+        try {
+            List<Estudiante> datos = new ArrayList<>(grupo.size());
+            for (Pendiente pendiente : grupo) {
+                datos.add(pendiente.datos);
+            }
+            List<Boolean> resultados = escritor.apply(datos);
+            if (resultados == null || resultados.size() != grupo.size() || resultados.contains(null)) {
+                throw new IllegalStateException("El escritor devolvió " + resultados + " para un grupo de "
+                        + grupo.size() + " estudiantes.");
+            }
+            contar(grupo.size());
+            for (int i = 0; i < grupo.size(); i++) {
+                boolean actualizado = resultados.get(i);
+                grupo.get(i).confirmaciones.forEach(confirmacion -> confirmacion.complete(actualizado));
+            }
+        } catch (Throwable e) {
+            System.err.println("Error al guardar un grupo de " + grupo.size() + " actualizaciones: " + e.getMessage());
+            contar(grupo.size());
+            // complete* no hace nada con las confirmaciones que ya se completaron.
+            for (Pendiente pendiente : grupo) {
+                pendiente.confirmaciones.forEach(confirmacion -> confirmacion.completeExceptionally(e));
+            }
+        }
+    }
+
+    private void contar(int estudiantes) {
+        bloqueo.lock();
+        try {
+            grupos++;
+            escritas += estudiantes;
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * @return El número de grupos enviados, es decir, de transacciones.
+     */
+    public long getGrupos() {
+        bloqueo.lock();
+        try {
+            return grupos;
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * @return El número de estudiantes enviados en todos los grupos.
+     */
+    public long getEscritas() {
+        bloqueo.lock();
+        try {
+            return escritas;
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * @return El número de actualizaciones que reemplazaron a otra del mismo estudiante en la cola.
+     */
+    public long getReemplazadas() {
+        bloqueo.lock();
+        try {
+            return reemplazadas;
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * @return El número de estudiantes que esperan en la cola.
+     */
+    public int getPendientes() {
+        bloqueo.lock();
+        try {
+            return pendientes.size();
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EscrituraDiferida{grupos=" + getGrupos() + ", escritas=" + getEscritas()
+                + ", reemplazadas=" + getReemplazadas() + ", pendientes=" + getPendientes() + "}";
+    }
+
+    /**
+     * Última versión de los datos de un estudiante y los futuros de quienes la esperan.
+     */
+    private static final class Pendiente {
+
+        private Estudiante datos;
+        private final List<CompletableFuture<Boolean>> confirmaciones = new ArrayList<>(1);
+
+        Pendiente(Estudiante datos, CompletableFuture<Boolean> confirmacion) {
+            this.datos = datos;
+            confirmaciones.add(confirmacion);
+        }
+    }
+}
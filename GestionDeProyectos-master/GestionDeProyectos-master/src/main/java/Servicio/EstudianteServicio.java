@@ -1,23 +1,124 @@
 package Servicio;
 
-import DAO.Estudiante.DAOimp;
+import Busqueda.IndiceEstudiantes;
+import Cache.CargadorDatos;
+import DAO.Estudiante.DAO;
+import DAO.Estudiante.ResultadoAsignacion;
+import DAO.Estudiante.ResultadoRegistro;
 import DAO.Estudiante.Utiles;
-import DBConeccion.SQLConeccion;
+import DAO.FabricaDAO;
+import DAO.ResultadoActualizacion;
+import Metricas.MetricaOperacion;
+import Metricas.RegistroMetricas;
+import Modelos.Campo;
+import Modelos.Estudiante;
+import jakarta.validation.ConstraintViolationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Servicio encargado de gestionar las operaciones relacionadas con el estudiante,
  * como el registro, actualización de datos personales, obtención de estudiante por email,
  * y la asignación de proyectos a estudiantes.
+ *
+ * El servicio no guarda estado entre llamadas, por lo que una sola instancia ({@link #getInstancia()})
+ * atiende a todas las ventanas y puede usarse desde varios hilos a la vez. La única excepción es el índice
+ * de búsqueda por prefijo ({@link #buscarEstudiantes(String, int)}), que se llena con {@link #cargarIndice()}
+ * y se actualiza con cada registro y cambio de nombre hecho a través del servicio.
+ *
+ * Con la propiedad {@code escritura.diferida} activada, las actualizaciones de
+ * {@link #actualizarDatosPersonales(String, String, String, String, String)} pasan por una
+ * {@link EscrituraDiferida}: las que llegan al mismo tiempo se guardan juntas en una transacción. Las
+ * actualizaciones condicionadas a la versión ({@link #actualizarConVersion(Estudiante)}) no pasan por la
+ * cola y se guardan de inmediato; las de la cola también aumentan la versión, así que una escritura
+ * condicionada que llegue después de una de ellas con datos anteriores termina en conflicto.
  */
 public class EstudianteServicio {
 
-    // Instancia de la clase DAOimp para interactuar con la base de datos
-    DAOimp estudianteDAO = new DAOimp();
+    /**
+     * Número de estudiantes por transacción en el registro masivo. Configurable con {@code registro.lote}.
+     */
+    private static final int TAMANO_LOTE = Integer.getInteger("registro.lote", 500);
+
+    private static final EstudianteServicio INSTANCIA = new EstudianteServicio();
+
+    // DAO para interactuar con la base de datos
+    private final DAO estudianteDAO;
+
+    // Acción que asegura la conexión antes de cada operación
+    private final Runnable prepararConexion;
+
+    // Instancia de la clase Utils para manejar tareas auxiliares; no guarda estado
+    private final Utiles utils = new Utiles();
+
+    // Índice de correo, nombre y matrícula para el autocompletado
+    private final IndiceEstudiantes indice = new IndiceEstudiantes();
+
+    // Junta en una consulta las lecturas de estudiantes que llegan al mismo tiempo, como al iniciar sesión
+    private final CargadorDatos<String, Estudiante> cargadorEstudiantes;
+
+    // Cola que agrupa las actualizaciones de datos personales; null si la escritura diferida está desactivada
+    private final EscrituraDiferida escrituraDiferida;
+
+    /**
+     * Crea el servicio con el DAO del almacenamiento configurado (ver {@link FabricaDAO}).
+     */
+    public EstudianteServicio() {
+        this(FabricaDAO.estudiantes(), FabricaDAO.prepararConexion());
+    }
 
-    // Instancia de la clase Utils para manejar tareas auxiliares
-    Utiles utils = new Utiles();
+    /**
+     * Crea el servicio con el DAO indicado.
+     *
+     * @param estudianteDAO    El DAO de estudiantes.
+     * @param prepararConexion Acción que se ejecuta antes de cada operación para asegurar la conexión.
+     */
+    public EstudianteServicio(DAO estudianteDAO, Runnable prepararConexion) {
+        this(estudianteDAO, prepararConexion, Boolean.getBoolean("escritura.diferida"));
+    }
+
+    /**
+     * Crea el servicio con el DAO indicado, eligiendo si las actualizaciones de datos personales se guardan
+     * en grupos. La cola de escritura diferida se vacía al terminar la aplicación.
+     *
+     * @param estudianteDAO     El DAO de estudiantes.
+     * @param prepararConexion  Acción que se ejecuta antes de cada operación para asegurar la conexión.
+     * @param escrituraDiferida true para guardar las actualizaciones de datos personales en grupos.
+     */
+    public EstudianteServicio(DAO estudianteDAO, Runnable prepararConexion, boolean escrituraDiferida) {
+        this.estudianteDAO = estudianteDAO;
+        this.prepararConexion = prepararConexion;
+        this.cargadorEstudiantes = new CargadorDatos<>(emails -> {
+            prepararConexion.run();
+            return estudianteDAO.getEstudiantes(emails);
+        }, CargadorDatos.VENTANA_MS, CargadorDatos.MAXIMO_LOTE);
+        if (escrituraDiferida) {
+            this.escrituraDiferida = new EscrituraDiferida(grupo -> {
+                prepararConexion.run();
+                return estudianteDAO.actualizarDatosPersonales(grupo);
+            }, EscrituraDiferida.CAPACIDAD, EscrituraDiferida.TAMANO_GRUPO, EscrituraDiferida.ESPERA_MS);
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(this.escrituraDiferida::cerrar, "escritura-diferida-cierre"));
+        } else {
+            this.escrituraDiferida = null;
+        }
+    }
+
+    /**
+     * @return La instancia compartida del servicio.
+     */
+    public static EstudianteServicio getInstancia() {
+        return INSTANCIA;
+    }
 
-    // Instancia del modelo Estudiante
     /**
      * Registra un nuevo estudiante en el sistema.
      *
@@ -27,14 +128,86 @@ public class EstudianteServicio {
      * @return true si el registro fue exitoso, false en caso contrario.
      */
     public boolean registrarEstudiante(String email, String contrasena, String matricula) {
-        // Asignar los valores al objeto Estudiante utilizando la clase Utils
-        utils.asignarRegistroEstudiante( email, contrasena, matricula);
+        return RegistroMetricas.medir("servicio.estudiante.registrarEstudiante", () -> {
+            // Asignar los valores al objeto Estudiante utilizando la clase Utils
+            utils.asignarRegistroEstudiante( email, contrasena, matricula);
 
-        // Intentar establecer la conexión con la base de datos
-        SQLConeccion.tryConneccion();
+            // Intentar establecer la conexión con la base de datos
+            prepararConexion.run();
 
-        // Registrar el estudiante a través de la clase DAOimp
-        return estudianteDAO.postRegistrar(email, contrasena, matricula);
+            // Registrar el estudiante a través de la clase DAOimp
+            boolean registrado = estudianteDAO.postRegistrar(email, contrasena, matricula);
+            if (registrado) {
+                cargadorEstudiantes.olvidar(email);
+                indice.agregar(new IndiceEstudiantes.Entrada(email, null, matricula));
+            }
+            return registrado;
+        });
+    }
+
+    /**
+     * Registra varios estudiantes en bloques con el tamaño de lote configurado.
+     *
+     * @param estudiantes Los estudiantes a registrar, con correo, contraseña y matrícula asignados.
+     * @return Un resultado por cada estudiante, en el mismo orden que la lista de entrada.
+     */
+    public List<ResultadoRegistro> registrarEstudiantes(List<Estudiante> estudiantes) {
+        return registrarEstudiantes(estudiantes, TAMANO_LOTE);
+    }
+
+    /**
+     * Registra varios estudiantes en bloques de {@code tamanoLote} filas.
+     *
+     * Los estudiantes que no pasan la validación se reportan como fallidos sin llegar a la base de datos;
+     * el resto se envía al DAO en lotes. Cada estudiante procesado se cuenta en la métrica
+     * {@code servicio.estudiante.registrarEstudiantes.filas}, con los fallidos como errores y el tiempo del
+     * registro repartido entre todos.
+     *
+     * @param estudiantes Los estudiantes a registrar, con correo, contraseña y matrícula asignados.
+     * @param tamanoLote  Número de estudiantes por transacción.
+     * @return Un resultado por cada estudiante, en el mismo orden que la lista de entrada.
+     */
+    public List<ResultadoRegistro> registrarEstudiantes(List<Estudiante> estudiantes, int tamanoLote) {
+        return RegistroMetricas.medir("servicio.estudiante.registrarEstudiantes", () -> {
+            long inicio = System.nanoTime();
+            ResultadoRegistro[] resultados = new ResultadoRegistro[estudiantes.size()];
+            List<Estudiante> validos = new ArrayList<>(estudiantes.size());
+            List<Integer> posiciones = new ArrayList<>(estudiantes.size());
+
+            for (int i = 0; i < estudiantes.size(); i++) {
+                Estudiante estudiante = estudiantes.get(i);
+                try {
+                    estudiante.validate();
+                    validos.add(estudiante);
+                    posiciones.add(i);
+                } catch (ConstraintViolationException e) {
+                    resultados[i] = ResultadoRegistro.fallo(estudiante.getEmail(), e.getMessage());
+                }
+            }
+
+            if (!validos.isEmpty()) {
+                // Intentar establecer la conexión con la base de datos
+                prepararConexion.run();
+
+                List<ResultadoRegistro> registrados = estudianteDAO.registrarEstudiantes(validos, tamanoLote);
+                for (int j = 0; j < registrados.size(); j++) {
+                    resultados[posiciones.get(j)] = registrados.get(j);
+                    if (registrados.get(j).isExitoso()) {
+                        Estudiante registrado = validos.get(j);
+                        cargadorEstudiantes.olvidar(registrado.getEmail());
+                        indice.agregar(new IndiceEstudiantes.Entrada(registrado.getEmail(), registrado.getNombre(),
+                                registrado.getMatricula()));
+                    }
+                }
+            }
+
+            MetricaOperacion filas = RegistroMetricas.obtener("servicio.estudiante.registrarEstudiantes.filas");
+            long nanosPorFila = (System.nanoTime() - inicio) / Math.max(resultados.length, 1);
+            for (ResultadoRegistro resultado : resultados) {
+                filas.registrar(nanosPorFila, !resultado.isExitoso());
+            }
+            return Arrays.asList(resultados);
+        });
     }
 
     /**
@@ -45,18 +218,130 @@ public class EstudianteServicio {
      * @param nombre El nuevo nombre del estudiante.
      * @param direccion La nueva dirección del estudiante.
      * @param genero El nuevo género del estudiante.
-     * @return true si los datos fueron actualizados correctamente, false en caso contrario.
+     * @return true si los datos fueron actualizados correctamente, false en caso contrario. Con la
+     *         escritura diferida, espera a que el grupo que incluye la actualización esté guardado, sin
+     *         límite de tiempo: false significa siempre que el cambio no se guardó.
      */
     public boolean actualizarDatosPersonales(String email, String telefono, String nombre, String direccion, String genero) {
-        // Asignar los nuevos valores al objeto Estudiante
-        utils.asignarActualizarEstudiante( telefono, nombre, direccion, genero);
-        // Intentar establecer la conexión con la base de datos
-        SQLConeccion.tryConneccion();
-        // Actualizar los datos personales del estudiante a través de la clase DAOimp
-        return estudianteDAO.updateActualizarDatosPersonales( email, telefono, nombre, direccion, genero);
+        return RegistroMetricas.medir("servicio.estudiante.actualizarDatosPersonales", () -> {
+            // Asignar los nuevos valores al objeto Estudiante
+            utils.asignarActualizarEstudiante( telefono, nombre, direccion, genero);
+            boolean actualizado;
+            if (escrituraDiferida != null) {
+                actualizado = esperarEscritura(email, telefono, nombre, direccion, genero);
+            } else {
+                // Intentar establecer la conexión con la base de datos
+                prepararConexion.run();
+                // Actualizar los datos personales del estudiante a través de la clase DAOimp
+                actualizado = estudianteDAO.updateActualizarDatosPersonales( email, telefono, nombre, direccion, genero);
+            }
+            if (actualizado) {
+                invalidar(email);
+                indexarNombre(email, nombre);
+            }
+            return actualizado;
+        });
     }
 
 
+    /**
+     * Guarda solo los datos personales que cambiaron en un estudiante obtenido con
+     * {@link #obtenerEstudiante(String)}. El estudiante completo se valida antes de guardar.
+     *
+     * @param estudiante El estudiante con los cambios aplicados mediante sus setters.
+     * @return true si los cambios se guardaron o no había cambios, false en caso contrario.
+     * @throws ConstraintViolationException Si los datos del estudiante no son válidos.
+     */
+    public boolean actualizarDatosPersonales(Estudiante estudiante) {
+        return RegistroMetricas.medir("servicio.estudiante.actualizarDatosPersonales", () -> {
+            estudiante.validate();
+            prepararConexion.run();
+            // El DAO limpia los cambios al guardar, así que se revisa antes si cambió el nombre.
+            boolean cambiaNombre = estudiante.isModificado(Campo.NOMBRE);
+            boolean actualizado = estudianteDAO.updateActualizarDatosPersonales(estudiante);
+            if (actualizado) {
+                invalidar(estudiante.getEmail());
+                if (cambiaNombre) {
+                    indexarNombre(estudiante.getEmail(), estudiante.getNombre());
+                }
+            }
+            return actualizado;
+        });
+    }
+
+    /**
+     * Guarda los cambios de un estudiante obtenido con {@link #obtenerEstudiante(String)} solo si nadie lo
+     * modificó después de leerlo. El estudiante completo se valida antes de guardar.
+     *
+     * @param estudiante El estudiante con los cambios aplicados mediante sus setters.
+     * @return {@code EXITO}, o {@code CONFLICTO} si otro usuario lo modificó; en ese caso hay que volver a
+     *         leerlo y decidir de nuevo.
+     * @throws ConstraintViolationException Si los datos del estudiante no son válidos.
+     */
+    public ResultadoActualizacion actualizarConVersion(Estudiante estudiante) {
+        return RegistroMetricas.medir("servicio.estudiante.actualizarConVersion", () -> {
+            estudiante.validate();
+            prepararConexion.run();
+            boolean cambiaNombre = estudiante.isModificado(Campo.NOMBRE);
+            ResultadoActualizacion resultado = estudianteDAO.actualizarConVersion(estudiante);
+            if (resultado.isExitoso()) {
+                invalidar(estudiante.getEmail());
+                if (cambiaNombre) {
+                    indexarNombre(estudiante.getEmail(), estudiante.getNombre());
+                }
+            }
+            return resultado;
+        });
+    }
+
+    /**
+     * Lee un estudiante, le aplica los cambios y lo guarda condicionado a la versión leída. Si hay conflicto,
+     * la política indica cuántas veces se repite la lectura y la escritura.
+     *
+     * @param email    El correo electrónico del estudiante.
+     * @param cambios  Aplica los cambios mediante los setters; se vuelve a llamar en cada intento con los
+     *                 datos recién leídos.
+     * @param politica La política de reintento ante conflictos.
+     * @return El resultado del último intento.
+     * @throws ConstraintViolationException Si los datos resultantes no son válidos.
+     */
+    public ResultadoActualizacion modificarEstudiante(String email, Consumer<Estudiante> cambios,
+                                                      PoliticaReintento politica) {
+        return politica.ejecutar(() -> {
+            Estudiante estudiante = obtenerEstudiante(email);
+            if (estudiante == null) {
+                return ResultadoActualizacion.NO_ENCONTRADO;
+            }
+            cambios.accept(estudiante);
+            return actualizarConVersion(estudiante);
+        });
+    }
+
+    /**
+     * Asigna un proyecto a un estudiante solo si su versión sigue siendo la indicada, es decir, si nadie lo
+     * modificó desde que se leyó.
+     *
+     * @param email      El correo electrónico del estudiante.
+     * @param idProyecto El ID del proyecto a asignar.
+     * @param version    La versión del estudiante leída por quien asigna.
+     * @return El resultado de la asignación.
+     */
+    public ResultadoActualizacion asignarProyectoConVersion(String email, int idProyecto, int version) {
+        return RegistroMetricas.medir("servicio.estudiante.asignarProyectoConVersion", () -> {
+            Estudiante estudiante = new Estudiante();
+            estudiante.setEmail(email);
+            estudiante.setVersion(version);
+            estudiante.limpiarCambios();
+            estudiante.setProyectoId(String.valueOf(idProyecto));
+            prepararConexion.run();
+            ResultadoActualizacion resultado = estudianteDAO.actualizarConVersion(estudiante);
+            if (resultado.isExitoso()) {
+                invalidar(email);
+            }
+            return resultado;
+        });
+    }
+
     /**
      * Asigna un proyecto a un estudiante.
      *
@@ -65,10 +350,270 @@ public class EstudianteServicio {
      * @return true si la asignación fue exitosa, false en caso contrario.
      */
     public boolean asignarProyectoAEstudiante(String email, int idProyecto) {
-        // Intentar establecer la conexión con la base de datos
-        SQLConeccion.tryConneccion();
+        return RegistroMetricas.medir("servicio.estudiante.asignarProyectoAEstudiante", () -> {
+            // Intentar establecer la conexión con la base de datos
+            prepararConexion.run();
+
+            // Asignar el proyecto al estudiante a través de la clase DAOimp
+            boolean asignado = estudianteDAO.asignarProyectoAEstudiante(email, idProyecto);
+            if (asignado) {
+                invalidar(email);
+            }
+            return asignado;
+        });
+    }
 
-        // Asignar el proyecto al estudiante a través de la clase DAOimp
-        return estudianteDAO.asignarProyectoAEstudiante(email, idProyecto);
+    /**
+     * Asigna proyectos a varios estudiantes a la vez, por ejemplo a toda una generación, en una sola
+     * transacción.
+     *
+     * @param asignaciones El ID del proyecto a asignar a cada correo de estudiante.
+     * @return Un resultado por cada correo, en el orden de iteración del mapa de entrada.
+     */
+    public Map<String, ResultadoAsignacion> asignarProyectos(Map<String, Integer> asignaciones) {
+        return RegistroMetricas.medir("servicio.estudiante.asignarProyectos", () -> {
+            prepararConexion.run();
+            Map<String, ResultadoAsignacion> resultados = estudianteDAO.asignarProyectos(asignaciones);
+            for (Map.Entry<String, ResultadoAsignacion> resultado : resultados.entrySet()) {
+                if (resultado.getValue().isExitoso()) {
+                    invalidar(resultado.getKey());
+                }
+            }
+            return resultados;
+        });
+    }
+
+    /**
+     * Obtiene los datos de un estudiante, incluido el proyecto asignado.
+     *
+     * Las lecturas simultáneas del mismo correo comparten una consulta, y las de correos distintos que llegan
+     * dentro de {@code cargador.ventana.ms} se hacen con una sola consulta por lote (ver {@link CargadorDatos}).
+     *
+     * @param email El correo electrónico del estudiante.
+     * @return El estudiante, o null si no existe.
+     */
+    public Estudiante obtenerEstudiante(String email) {
+        return RegistroMetricas.medir("servicio.estudiante.obtenerEstudiante", () -> {
+            Estudiante estudiante = cargadorEstudiantes.cargar(email);
+            // Quienes esperaron la misma consulta comparten el objeto; cada uno recibe una copia para editarla.
+            return estudiante == null ? null : estudiante.copiar();
+        });
+    }
+
+    /**
+     * Obtiene los datos de varios estudiantes con pocas consultas, para las pantallas que muestran listas.
+     *
+     * @param emails Los correos de los estudiantes.
+     * @return Los estudiantes encontrados, indexados por correo. Los correos inexistentes no aparecen.
+     */
+    public Map<String, Estudiante> obtenerEstudiantes(Collection<String> emails) {
+        return RegistroMetricas.medir("servicio.estudiante.obtenerEstudiantes", () -> {
+            prepararConexion.run();
+            return estudianteDAO.getEstudiantes(emails);
+        });
+    }
+
+    /**
+     * Carga en el índice de búsqueda a todos los estudiantes del almacenamiento. Los registros y cambios de
+     * nombre posteriores se agregan al índice sin volver a cargarlo.
+     *
+     * @return El número de estudiantes indexados.
+     */
+    public int cargarIndice() {
+        return RegistroMetricas.medir("servicio.estudiante.cargarIndice", () -> {
+            prepararConexion.run();
+            List<Estudiante> estudiantes = estudianteDAO.getResumenEstudiantes();
+            List<IndiceEstudiantes.Entrada> entradas = new ArrayList<>(estudiantes.size());
+            for (Estudiante estudiante : estudiantes) {
+                entradas.add(new IndiceEstudiantes.Entrada(estudiante.getEmail(), estudiante.getNombre(),
+                        estudiante.getMatricula()));
+            }
+            indice.cargar(entradas);
+            return indice.tamano();
+        });
+    }
+
+    /**
+     * Busca estudiantes por prefijo de correo, matrícula o cualquier palabra del nombre, sin consultar el
+     * almacenamiento. Antes de {@link #cargarIndice()} solo se encuentran los estudiantes registrados o
+     * modificados a través de este servicio.
+     *
+     * @param prefijo El texto escrito por el usuario; no distingue mayúsculas ni acentos.
+     * @param limite  El número máximo de resultados.
+     * @return Los estudiantes encontrados, en orden alfabético.
+     */
+    public List<IndiceEstudiantes.Entrada> buscarEstudiantes(String prefijo, int limite) {
+        return indice.buscar(prefijo, limite);
+    }
+
+    /**
+     * @return true si el índice de búsqueda ya se cargó.
+     */
+    public boolean isIndiceCargado() {
+        return indice.isCargado();
+    }
+
+    private boolean esperarEscritura(String email, String telefono, String nombre, String direccion, String genero) {
+        Estudiante datos = new Estudiante();
+        datos.setEmail(email);
+        datos.setNombre(nombre);
+        datos.setTelefono(telefono);
+        datos.setDireccion(direccion);
+        datos.setGenero(genero);
+        // Una vez encolada, la actualización se guarda aunque quien llamó deje de esperar, así que no se
+        // devuelve false por tiempo ni por interrupción: el escritor siempre completa la confirmación, también
+        // al cerrar la cola.
+        try {
+            return escrituraDiferida.encolar(datos).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            System.err.println("Error al guardar los datos personales de " + email + ": " + e.getCause());
+            return false;
+        }
+    }
+
+    /**
+     * @return El cargador de las lecturas de estudiantes, para consultar sus estadísticas.
+     */
+    public CargadorDatos<String, Estudiante> getCargadorEstudiantes() {
+        return cargadorEstudiantes;
+    }
+
+    /**
+     * @return true si las actualizaciones de datos personales se guardan en grupos con la escritura diferida.
+     */
+    public boolean isEscrituraDiferida() {
+        return escrituraDiferida != null;
+    }
+
+    /**
+     * @return La cola de escritura diferida, para consultar sus estadísticas, o null si está desactivada.
+     */
+    public EscrituraDiferida getEscrituraDiferida() {
+        return escrituraDiferida;
+    }
+
+    /**
+     * Descarta los datos guardados o en consulta de un estudiante que acaba de modificarse.
+     */
+    private void invalidar(String email) {
+        cargadorEstudiantes.olvidar(email);
+        ProyectoServicio.invalidarProyectoEstudiante(email);
+    }
+
+    private void indexarNombre(String email, String nombre) {
+        if (nombre != null) {
+            indice.agregar(new IndiceEstudiantes.Entrada(email, nombre, null));
+        }
+    }
+
+    // Versiones asíncronas. Se ejecutan en hilos virtuales con el tiempo límite de EjecutorAsincrono.
+
+    /**
+     * Versión asíncrona de {@link #registrarEstudiante(String, String, String)}.
+     *
+     * @return Un futuro que se completa con el resultado del registro, o con la excepción de validación.
+     */
+    public CompletableFuture<Boolean> registrarEstudianteAsync(String email, String contrasena, String matricula) {
+        return EjecutorAsincrono.ejecutar(() -> registrarEstudiante(email, contrasena, matricula));
+    }
+
+    /**
+     * Versión asíncrona de {@link #registrarEstudiantes(List)}. El registro masivo no tiene tiempo límite.
+     *
+     * @return Un futuro con un resultado por cada estudiante, en el mismo orden que la entrada.
+     */
+    public CompletableFuture<List<ResultadoRegistro>> registrarEstudiantesAsync(List<Estudiante> estudiantes) {
+        return EjecutorAsincrono.ejecutar(() -> registrarEstudiantes(estudiantes), 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Versión asíncrona de {@link #actualizarDatosPersonales(String, String, String, String, String)}.
+     *
+     * @return Un futuro que se completa con el resultado de la actualización, o con la excepción de validación.
+     */
+    public CompletableFuture<Boolean> actualizarDatosPersonalesAsync(String email, String telefono, String nombre,
+                                                                     String direccion, String genero) {
+        // Con la escritura diferida no se limita el tiempo: el resultado llega cuando se guarda el grupo, y
+        // cortarlo antes no evitaría la escritura.
+        return EjecutorAsincrono.ejecutar(() -> actualizarDatosPersonales(email, telefono, nombre, direccion, genero),
+                escrituraDiferida != null ? 0 : EjecutorAsincrono.TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Versión asíncrona de {@link #actualizarDatosPersonales(Estudiante)}.
+     *
+     * @return Un futuro que se completa con el resultado de la actualización, o con la excepción de validación.
+     */
+    public CompletableFuture<Boolean> actualizarDatosPersonalesAsync(Estudiante estudiante) {
+        return EjecutorAsincrono.ejecutar(() -> actualizarDatosPersonales(estudiante));
+    }
+
+    /**
+     * Versión asíncrona de {@link #actualizarConVersion(Estudiante)}.
+     *
+     * @return Un futuro que se completa con el resultado de la actualización, o con la excepción de validación.
+     */
+    public CompletableFuture<ResultadoActualizacion> actualizarConVersionAsync(Estudiante estudiante) {
+        return EjecutorAsincrono.ejecutar(() -> actualizarConVersion(estudiante));
+    }
+
+    /**
+     * Versión asíncrona de {@link #modificarEstudiante(String, Consumer, PoliticaReintento)}. El tiempo
+     * límite incluye todos los reintentos.
+     *
+     * @return Un futuro que se completa con el resultado del último intento, o con la excepción de validación.
+     */
+    public CompletableFuture<ResultadoActualizacion> modificarEstudianteAsync(String email, Consumer<Estudiante> cambios,
+                                                                             PoliticaReintento politica) {
+        return EjecutorAsincrono.ejecutar(() -> modificarEstudiante(email, cambios, politica));
+    }
+
+    /**
+     * Versión asíncrona de {@link #asignarProyectoConVersion(String, int, int)}.
+     *
+     * @return Un futuro que se completa con el resultado de la asignación.
+     */
+    public CompletableFuture<ResultadoActualizacion> asignarProyectoConVersionAsync(String email, int idProyecto,
+                                                                                   int version) {
+        return EjecutorAsincrono.ejecutar(() -> asignarProyectoConVersion(email, idProyecto, version));
+    }
+
+    /**
+     * Versión asíncrona de {@link #asignarProyectoAEstudiante(String, int)}.
+     *
+     * @return Un futuro que se completa con el resultado de la asignación.
+     */
+    public CompletableFuture<Boolean> asignarProyectoAEstudianteAsync(String email, int idProyecto) {
+        return EjecutorAsincrono.ejecutar(() -> asignarProyectoAEstudiante(email, idProyecto));
+    }
+
+    /**
+     * Versión asíncrona de {@link #asignarProyectos(Map)}. La asignación masiva no tiene tiempo límite.
+     *
+     * @return Un futuro con un resultado por cada correo.
+     */
+    public CompletableFuture<Map<String, ResultadoAsignacion>> asignarProyectosAsync(Map<String, Integer> asignaciones) {
+        return EjecutorAsincrono.ejecutar(() -> asignarProyectos(asignaciones), 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Versión asíncrona de {@link #cargarIndice()}. La carga no tiene tiempo límite.
+     *
+     * @return Un futuro con el número de estudiantes indexados.
+     */
+    public CompletableFuture<Integer> cargarIndiceAsync() {
+        return EjecutorAsincrono.ejecutar(this::cargarIndice, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Versión asíncrona de {@link #obtenerEstudiante(String)}.
+     *
+     * @return Un futuro que se completa con el estudiante, o con null si no existe.
+     */
+    public CompletableFuture<Estudiante> obtenerEstudianteAsync(String email) {
+        return EjecutorAsincrono.ejecutar(() -> obtenerEstudiante(email));
     }
 }
@@ -0,0 +1,87 @@
+package Servicio;
+
+import DAO.ResultadoActualizacion;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Política de reintento de las actualizaciones con control de concurrencia optimista.
+ *
+ * Un intento lee la fila, aplica los cambios y la escribe condicionada a la versión leída. Si el resultado
+ * es {@link ResultadoActualizacion#CONFLICTO}, la política espera un tiempo que crece exponencialmente, con
+ * variación aleatoria para que los editores en conflicto no vuelvan a chocar al mismo tiempo, y repite el
+ * intento completo. Cualquier otro resultado se devuelve de inmediato.
+ *
+ * La política predeterminada se configura con {@code reintento.intentos} (3) y {@code reintento.espera.ms}
+ * (10, espera antes del segundo intento).
+ */
+public final class PoliticaReintento {
+
+    /**
+     * Un solo intento: el conflicto se devuelve al llamador.
+     */
+    public static final PoliticaReintento NINGUNA = new PoliticaReintento(1, 0);
+
+    private static final PoliticaReintento PREDETERMINADA = new PoliticaReintento(
+            Integer.getInteger("reintento.intentos", 3),
+            Long.getLong("reintento.espera.ms", 10L));
+
+    private final int intentos;
+    private final long esperaBaseMs;
+
+    /**
+     * @param intentos     Número máximo de intentos, incluido el primero.
+     * @param esperaBaseMs Espera antes del segundo intento; se duplica en cada intento siguiente.
+     */
+    public PoliticaReintento(int intentos, long esperaBaseMs) {
+        if (intentos < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un intento.");
+        }
+        this.intentos = intentos;
+        this.esperaBaseMs = Math.max(esperaBaseMs, 0);
+    }
+
+    /**
+     * @return La política configurada con las propiedades del sistema.
+     */
+    public static PoliticaReintento predeterminada() {
+        return PREDETERMINADA;
+    }
+
+    /**
+     * Ejecuta el intento hasta que no haya conflicto o se agoten los intentos.
+     *
+     * @param intento Lee, modifica y escribe la fila; debe volver a leerla en cada llamada.
+     * @return El resultado del último intento.
+     */
+    public ResultadoActualizacion ejecutar(Supplier<ResultadoActualizacion> intento) {
+        ResultadoActualizacion resultado = intento.get();
+        for (int i = 1; i < intentos && resultado == ResultadoActualizacion.CONFLICTO; i++) {
+            try {
+                Thread.sleep(espera(i));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return resultado;
+            }
+            resultado = intento.get();
+        }
+        return resultado;
+    }
+
+    private long espera(int reintento) {
+        if (esperaBaseMs == 0) {
+            return 0;
+        }
+        long base = esperaBaseMs << Math.min(reintento - 1, 16);
+        return base / 2 + ThreadLocalRandom.current().nextLong(base);
+    }
+
+    public int getIntentos() {
+        return intentos;
+    }
+
+    public long getEsperaBaseMs() {
+        return esperaBaseMs;
+    }
+}
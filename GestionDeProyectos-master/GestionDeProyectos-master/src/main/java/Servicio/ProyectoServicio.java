@@ -1,21 +1,87 @@
 package Servicio;
 
-import DAO.Proyecto.DAOimp;
+import Cache.CacheLRU;
+import Cache.CargadorDatos;
+import DAO.FabricaDAO;
+import DAO.Proyecto.DAO;
 import DAO.Proyecto.Utiles;
-import DBConeccion.SQLConeccion;
+import DAO.ResultadoActualizacion;
+import Metricas.RegistroMetricas;
 import Modelos.Proyecto;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Servicio que gestiona las operaciones relacionadas con los proyectos,
  * como el registro, obtención de lista de proyectos, y la obtención de un proyecto asignado a un estudiante.
+ *
+ * El servicio no guarda estado entre llamadas; una sola instancia ({@link #getInstancia()}) puede usarse
+ * desde varios hilos a la vez.
  */
 public class ProyectoServicio {
 
-    DAOimp proyectoDAO = new DAOimp();
+    /**
+     * Caché del proyecto asignado a cada estudiante, por correo. Se comparte entre todas las instancias
+     * del servicio; la capacidad y el tiempo de vida se configuran con {@code cache.proyectos.capacidad}
+     * y {@code cache.proyectos.ttl} (milisegundos).
+     */
+    private static final CacheLRU<String, Optional<Proyecto>> CACHE_PROYECTOS = new CacheLRU<>(
+            Integer.getInteger("cache.proyectos.capacidad", 1000),
+            Long.getLong("cache.proyectos.ttl", 300000L));
+
+    /**
+     * Cargadores de todas las instancias del servicio, que escriben en {@link #CACHE_PROYECTOS}. Se guardan
+     * con referencias débiles para no retener los servicios que ya no se usan.
+     */
+    private static final Set<CargadorDatos<String, Proyecto>> CARGADORES =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private static final ProyectoServicio INSTANCIA = new ProyectoServicio();
+
+    private final DAO proyectoDAO;
+
+    private final Runnable prepararConexion;
+
+    private final Utiles utils = new Utiles();
+
+    // Junta en una consulta las lecturas del proyecto de varios estudiantes que no están en la caché
+    private final CargadorDatos<String, Proyecto> cargadorProyectos;
+
+    /**
+     * Crea el servicio con el DAO del almacenamiento configurado (ver {@link FabricaDAO}).
+     */
+    public ProyectoServicio() {
+        this(FabricaDAO.proyectos(), FabricaDAO.prepararConexion());
+    }
+
+    /**
+     * Crea el servicio con el DAO indicado.
+     *
+     * @param proyectoDAO      El DAO de proyectos.
+     * @param prepararConexion Acción que se ejecuta antes de cada operación para asegurar la conexión.
+     */
+    public ProyectoServicio(DAO proyectoDAO, Runnable prepararConexion) {
+        this.proyectoDAO = proyectoDAO;
+        this.prepararConexion = prepararConexion;
+        this.cargadorProyectos = new CargadorDatos<>(emails -> {
+            prepararConexion.run();
+            return proyectoDAO.getProyectosEstudiantes(emails);
+        }, CargadorDatos.VENTANA_MS, CargadorDatos.MAXIMO_LOTE);
+        CARGADORES.add(cargadorProyectos);
+    }
 
-    Utiles utils = new Utiles();
+    /**
+     * @return La instancia compartida del servicio.
+     */
+    public static ProyectoServicio getInstancia() {
+        return INSTANCIA;
+    }
 
     /**
      * Registra un nuevo proyecto en el sistema.
@@ -26,20 +92,110 @@ public class ProyectoServicio {
      * @return true si el proyecto se registró exitosamente, false si hubo un error.
      */
     public boolean registrarProyecto(String nombre, String descripcion) {
-        SQLConeccion.tryConneccion();
-        utils.AsignarRegistro(nombre, descripcion);
-        return proyectoDAO.postRegistrar(nombre, descripcion);
+        return RegistroMetricas.medir("servicio.proyecto.registrarProyecto", () -> {
+            prepararConexion.run();
+            utils.AsignarRegistro(nombre, descripcion);
+            return proyectoDAO.postRegistrar(nombre, descripcion);
+        });
     }
 
     /**
-     * Obtiene una lista de todos los proyectos registrados en el sistema.
+     * Obtiene la primera página de proyectos registrados en el sistema.
      *
      * @return Lista de objetos Proyecto que representan los proyectos registrados.
      */
-    public List<String> obtenerProyectos() {
-        SQLConeccion.tryConneccion();
+    public List<Proyecto> obtenerProyectos() {
+        return obtenerProyectos(null, 0);
+    }
+
+    /**
+     * Obtiene una página de proyectos que cumplen el filtro, con el tamaño de página configurado.
+     *
+     * Para obtener la página siguiente se pasa el identificador del último proyecto recibido.
+     *
+     * @param filtro      Proyecto de ejemplo con el nombre y/o la descripción a buscar. Puede ser null.
+     * @param despuesDeId Identificador del último proyecto de la página anterior, o 0 para la primera página.
+     * @return Lista de proyectos de la página.
+     */
+    public List<Proyecto> obtenerProyectos(Proyecto filtro, int despuesDeId) {
+        return RegistroMetricas.medir("servicio.proyecto.obtenerProyectos", () -> {
+            prepararConexion.run();
+
+            return proyectoDAO.getVisualizarProyectos(filtro, despuesDeId, DAO.TAMANO_PAGINA);
+        });
+    }
+
+    /**
+     * Obtiene un proyecto por su identificador, con su versión para actualizarlo después.
+     *
+     * @param idProyecto El identificador del proyecto.
+     * @return El proyecto, o null si no existe.
+     */
+    public Proyecto obtenerProyecto(int idProyecto) {
+        return RegistroMetricas.medir("servicio.proyecto.obtenerProyecto", () -> {
+            prepararConexion.run();
+            return proyectoDAO.getProyecto(idProyecto);
+        });
+    }
+
+    /**
+     * Guarda el nombre y la descripción de un proyecto solo si nadie lo modificó después de leerlo.
+     *
+     * @param proyecto El proyecto leído con {@link #obtenerProyecto(int)} o del listado, con los datos nuevos.
+     * @return {@code EXITO}, o {@code CONFLICTO} si otro usuario lo modificó.
+     * @throws jakarta.validation.ConstraintViolationException Si los datos del proyecto no son válidos.
+     */
+    public ResultadoActualizacion actualizarProyecto(Proyecto proyecto) {
+        return RegistroMetricas.medir("servicio.proyecto.actualizarProyecto", () -> {
+            proyecto.validate();
+            prepararConexion.run();
+            ResultadoActualizacion resultado = proyectoDAO.updateProyecto(proyecto);
+            if (resultado.isExitoso()) {
+                // La caché guarda el nombre y la descripción por estudiante; no se sabe qué entradas usan el proyecto.
+                CACHE_PROYECTOS.limpiar();
+            }
+            return resultado;
+        });
+    }
 
-        return List.of("Sin proyecto asignado", "Este estudiante no tiene un proyecto asociado.");
+    /**
+     * Lee un proyecto, le aplica los cambios y lo guarda condicionado a la versión leída, reintentando
+     * según la política si hay conflicto.
+     *
+     * @param idProyecto El identificador del proyecto.
+     * @param cambios    Aplica los cambios; se vuelve a llamar en cada intento con los datos recién leídos.
+     * @param politica   La política de reintento ante conflictos.
+     * @return El resultado del último intento.
+     */
+    public ResultadoActualizacion modificarProyecto(int idProyecto, Consumer<Proyecto> cambios,
+                                                    PoliticaReintento politica) {
+        return politica.ejecutar(() -> {
+            Proyecto proyecto = obtenerProyecto(idProyecto);
+            if (proyecto == null) {
+                return ResultadoActualizacion.NO_ENCONTRADO;
+            }
+            cambios.accept(proyecto);
+            return actualizarProyecto(proyecto);
+        });
+    }
+
+    /**
+     * Cambia el número máximo de estudiantes de un proyecto. Los lugares ya ocupados no se tocan.
+     *
+     * @param idProyecto El identificador del proyecto.
+     * @param cupo       El nuevo cupo, o null para quitar el límite.
+     * @return {@code EXITO}, {@code NO_ENCONTRADO}, o {@code SIN_CUPO} si el proyecto ya tiene más
+     *         estudiantes que el cupo pedido.
+     * @throws IllegalArgumentException Si el cupo es negativo.
+     */
+    public ResultadoActualizacion definirCupo(int idProyecto, Integer cupo) {
+        if (cupo != null && cupo < 0) {
+            throw new IllegalArgumentException("El cupo no puede ser negativo.");
+        }
+        return RegistroMetricas.medir("servicio.proyecto.definirCupo", () -> {
+            prepararConexion.run();
+            return proyectoDAO.definirCupo(idProyecto, cupo);
+        });
     }
 
     /**
@@ -48,16 +204,114 @@ public class ProyectoServicio {
      * @param email El correo electrónico del estudiante.
      * @return Lista con el nombre y la descripción del proyecto asociado al estudiante.
      *         Si el estudiante no tiene proyecto asignado, devuelve una lista con mensajes informativos.
+     * @throws IllegalStateException Si no se pudo consultar el proyecto. Los errores no se guardan en la
+     *                               caché, así que la siguiente llamada vuelve a consultarlo.
      */
     public List<String> obtenerProyectoEstudiante(String email) {
-        SQLConeccion.tryConneccion();
+        return RegistroMetricas.medir("servicio.proyecto.obtenerProyectoEstudiante", () -> {
+            // Los fallos de la caché que llegan al mismo tiempo se consultan juntos. Solo se guarda en la
+            // caché un resultado confirmado; si la carga falla, la excepción sale sin guardar nada.
+            Proyecto proyecto = CACHE_PROYECTOS.obtener(email,
+                    clave -> Optional.ofNullable(cargadorProyectos.cargar(clave))).orElse(null);
 
-        Proyecto proyecto = proyectoDAO.getVisualizarProyectoEstudiante(email);
+            if (proyecto != null) {
+                return List.of(proyecto.getNombre(), proyecto.getDescripcion());
+            } else {
+                return List.of("Sin proyecto asignado", "Este estudiante no tiene un proyecto asociado.");
+            }
+        });
+    }
 
-        if (proyecto != null) {
-            return List.of(proyecto.getNombre(), proyecto.getDescripcion());
-        } else {
-            return List.of("Sin proyecto asignado", "Este estudiante no tiene un proyecto asociado.");
+    /**
+     * Elimina de la caché el proyecto asignado a un estudiante. Debe llamarse cada vez que cambie
+     * la asignación o los datos del estudiante.
+     *
+     * @param email El correo electrónico del estudiante.
+     */
+    public static void invalidarProyectoEstudiante(String email) {
+        CACHE_PROYECTOS.invalidar(email);
+        // Una consulta agrupada que empezó antes del cambio no debe compartirse con las lecturas siguientes,
+        // sea cual sea la instancia que la hizo.
+        synchronized (CARGADORES) {
+            for (CargadorDatos<String, Proyecto> cargador : CARGADORES) {
+                cargador.olvidar(email);
+            }
         }
     }
+
+    /**
+     * Obtiene la caché de proyectos por estudiante, para consultar sus estadísticas.
+     *
+     * @return La caché compartida.
+     */
+    public static CacheLRU<String, Optional<Proyecto>> getCacheProyectos() {
+        return CACHE_PROYECTOS;
+    }
+
+    // Versiones asíncronas. Se ejecutan en hilos virtuales con el tiempo límite de EjecutorAsincrono.
+
+    /**
+     * Versión asíncrona de {@link #registrarProyecto(String, String)}.
+     *
+     * @return Un futuro que se completa con el resultado del registro, o con la excepción de validación.
+     */
+    public CompletableFuture<Boolean> registrarProyectoAsync(String nombre, String descripcion) {
+        return EjecutorAsincrono.ejecutar(() -> registrarProyecto(nombre, descripcion));
+    }
+
+    /**
+     * Versión asíncrona de {@link #obtenerProyectos(Proyecto, int)}.
+     *
+     * @return Un futuro con los proyectos de la página.
+     */
+    public CompletableFuture<List<Proyecto>> obtenerProyectosAsync(Proyecto filtro, int despuesDeId) {
+        return EjecutorAsincrono.ejecutar(() -> obtenerProyectos(filtro, despuesDeId));
+    }
+
+    /**
+     * Versión asíncrona de {@link #obtenerProyecto(int)}.
+     *
+     * @return Un futuro que se completa con el proyecto, o con null si no existe.
+     */
+    public CompletableFuture<Proyecto> obtenerProyectoAsync(int idProyecto) {
+        return EjecutorAsincrono.ejecutar(() -> obtenerProyecto(idProyecto));
+    }
+
+    /**
+     * Versión asíncrona de {@link #actualizarProyecto(Proyecto)}.
+     *
+     * @return Un futuro que se completa con el resultado de la actualización, o con la excepción de validación.
+     */
+    public CompletableFuture<ResultadoActualizacion> actualizarProyectoAsync(Proyecto proyecto) {
+        return EjecutorAsincrono.ejecutar(() -> actualizarProyecto(proyecto));
+    }
+
+    /**
+     * Versión asíncrona de {@link #modificarProyecto(int, Consumer, PoliticaReintento)}. El tiempo límite
+     * incluye todos los reintentos.
+     *
+     * @return Un futuro que se completa con el resultado del último intento, o con la excepción de validación.
+     */
+    public CompletableFuture<ResultadoActualizacion> modificarProyectoAsync(int idProyecto, Consumer<Proyecto> cambios,
+                                                                           PoliticaReintento politica) {
+        return EjecutorAsincrono.ejecutar(() -> modificarProyecto(idProyecto, cambios, politica));
+    }
+
+    /**
+     * Versión asíncrona de {@link #definirCupo(int, Integer)}.
+     *
+     * @return Un futuro que se completa con el resultado, o con la excepción si el cupo es negativo.
+     */
+    public CompletableFuture<ResultadoActualizacion> definirCupoAsync(int idProyecto, Integer cupo) {
+        return EjecutorAsincrono.ejecutar(() -> definirCupo(idProyecto, cupo));
+    }
+
+    /**
+     * Versión asíncrona de {@link #obtenerProyectoEstudiante(String)}.
+     *
+     * @return Un futuro con el nombre y la descripción del proyecto asignado.
+     */
+    public CompletableFuture<List<String>> obtenerProyectoEstudianteAsync(String email) {
+        return EjecutorAsincrono.ejecutar(() -> obtenerProyectoEstudiante(email));
+    }
 }
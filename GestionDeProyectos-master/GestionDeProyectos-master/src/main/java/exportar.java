@@ -0,0 +1,70 @@
+import DBConeccion.SQLConeccion;
+import Exportacion.ExportadorEstudiantes;
+import Exportacion.FormatoExportacion;
+
+import java.io.FileOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Punto de entrada de línea de comandos para exportar todos los estudiantes con su proyecto asignado,
+ * pensado para las exportaciones nocturnas hacia otros sistemas.
+ *
+ * <pre>
+ * java -cp ... exportar estudiantes.csv
+ * java -cp ... exportar estudiantes.jsonl jsonl
+ * java -cp ... exportar - csv            (a la salida estándar)
+ * </pre>
+ *
+ * El formato se toma del segundo argumento o de la extensión del archivo (CSV por defecto). El archivo se
+ * escribe primero como {@code <archivo>.tmp} y se renombra al terminar, de modo que quien lo lea nunca vea
+ * una exportación a medias. El avance se informa por la salida de errores. La conexión se configura con las
+ * propiedades {@code db.*} de {@link SQLConeccion}.
+ */
+public class exportar {
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Uso: exportar <archivo|-> [csv|jsonl]");
+            System.exit(2);
+        }
+        String destino = args[0];
+        FormatoExportacion formato = FormatoExportacion.porNombre(args.length > 1 ? args[1]
+                : destino.toLowerCase().endsWith(".jsonl") ? "jsonl" : "csv");
+
+        SQLConeccion.inicializarConnecion();
+        long inicio = System.nanoTime();
+        try {
+            long filas;
+            if (destino.equals("-")) {
+                WritableByteChannel salida = Channels.newChannel(new FileOutputStream(java.io.FileDescriptor.out));
+                filas = new ExportadorEstudiantes().exportar(salida, formato, (n, bytes, fin) -> reportar(n, bytes, fin, inicio));
+            } else {
+                Path archivo = Path.of(destino);
+                Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+                try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    filas = new ExportadorEstudiantes().exportar(canal, formato, (n, bytes, fin) -> reportar(n, bytes, fin, inicio));
+                    canal.force(false);
+                } catch (Exception e) {
+                    Files.deleteIfExists(temporal);
+                    throw e;
+                }
+                Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            System.err.println("Exportación terminada: " + filas + " estudiantes en " + destino);
+        } finally {
+            SQLConeccion.CerrarConneciones();
+        }
+    }
+
+    private static void reportar(long filas, long bytes, boolean terminado, long inicio) {
+        double segundos = Math.max(System.nanoTime() - inicio, 1) / 1e9;
+        System.err.printf("%s%,d filas, %,d KB, %,.0f filas/s%n", terminado ? "Total: " : "", filas, bytes / 1024,
+                filas / segundos);
+    }
+}
@@ -1,6 +1,8 @@
 import javax.swing.SwingUtilities;
 
 import GUI.Registro;
+import Metricas.RegistroMetricas;
+import Servicio.EstudianteServicio;
 
 /**
  * Clase principal de la aplicación. Este es el punto de entrada al programa,
@@ -8,6 +10,16 @@ import GUI.Registro;
  */
 public class main {
     public static void main(String[] args) {
+        // Volcado periódico de métricas si se definió -Dmetricas.volcado.ms
+        RegistroMetricas.iniciarDesdePropiedades();
+
+        // Índice de estudiantes para el autocompletado; se carga en segundo plano mientras se inicia sesión
+        EstudianteServicio.getInstancia().cargarIndiceAsync().whenComplete((total, error) -> {
+            if (error != null) {
+                System.err.println("No se pudo cargar el índice de estudiantes: " + error.getMessage());
+            }
+        });
+
        SwingUtilities.invokeLater(() -> {
             Registro loginForm = new Registro();
             loginForm.setVisible(true);
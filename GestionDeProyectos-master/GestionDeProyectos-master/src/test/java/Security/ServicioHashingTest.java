@@ -0,0 +1,74 @@
+package Security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import Seguridad.PasswordHasher;
+import Seguridad.ServicioHashing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para el servicio de encriptación en paralelo.
+ *
+ * Verifica que los lotes conserven el orden de entrada y que se registren las métricas del lote.
+ */
+class ServicioHashingTest {
+    private ServicioHashing servicio;
+
+    @BeforeEach
+    void setUp() {
+        servicio = new ServicioHashing(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        servicio.cerrar();
+    }
+
+    /**
+     * Prueba que cada contraseña encriptada quede en la misma posición que su contraseña original.
+     */
+    @Test
+    void testLoteConservaOrden() {
+        List<String> contrasenas = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            contrasenas.add("password" + i);
+        }
+
+        List<String> hashes = servicio.encodeTodos(contrasenas);
+
+        assertEquals(contrasenas.size(), hashes.size(), "Debe haber un hash por contraseña");
+        for (int i = 0; i < contrasenas.size(); i++) {
+            assertTrue(PasswordHasher.matches(contrasenas.get(i), hashes.get(i)),
+                    "El hash en la posición " + i + " debe corresponder a su contraseña");
+        }
+    }
+
+    /**
+     * Prueba que al completar un lote se registren sus métricas.
+     */
+    @Test
+    void testMetricasDelLote() {
+        assertNull(servicio.getUltimoLote(), "No debe haber métricas antes del primer lote");
+
+        servicio.encodeTodos(List.of("password1", "password2", "password3"));
+
+        ServicioHashing.MetricasLote metricas = servicio.getUltimoLote();
+        assertNotNull(metricas, "Debe haber métricas después del lote");
+        assertEquals(3, metricas.getTamano(), "El tamaño del lote debe coincidir");
+        assertTrue(metricas.getHashesPorSegundo() > 0, "El rendimiento debe ser positivo");
+    }
+
+    /**
+     * Prueba que un lote vacío se complete sin errores.
+     */
+    @Test
+    void testLoteVacio() {
+        assertTrue(servicio.encodeTodos(List.of()).isEmpty(), "Un lote vacío debe producir una lista vacía");
+    }
+}
@@ -0,0 +1,109 @@
+package cache;
+
+import org.junit.jupiter.api.Test;
+
+import Cache.CacheLRU;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para la caché LRU con caducidad.
+ *
+ * Verifica el desalojo por capacidad, la caducidad por tiempo, la carga bajo demanda
+ * y las estadísticas de aciertos y fallos.
+ */
+class CacheLRUTest {
+
+    /**
+     * Prueba que al superar la capacidad se desaloje la entrada usada hace más tiempo.
+     */
+    @Test
+    void testDesalojaMenosUsadaRecientemente() {
+        CacheLRU<String, Integer> cache = new CacheLRU<>(2, 0);
+        cache.poner("a", 1);
+        cache.poner("b", 2);
+        cache.obtener("a");      // "b" pasa a ser la menos usada
+        cache.poner("c", 3);
+
+        assertEquals(1, cache.obtener("a"), "La entrada usada recientemente debe conservarse");
+        assertNull(cache.obtener("b"), "La entrada menos usada debe desalojarse");
+        assertEquals(1, cache.getDesalojos(), "Debe registrarse un desalojo");
+    }
+
+    /**
+     * Prueba que una entrada caducada no se devuelva.
+     */
+    @Test
+    void testEntradaCaduca() throws InterruptedException {
+        CacheLRU<String, Integer> cache = new CacheLRU<>(10, 20);
+        cache.poner("a", 1);
+        Thread.sleep(40);
+
+        assertNull(cache.obtener("a"), "Una entrada caducada no debe devolverse");
+        assertEquals(1, cache.getCaducadas(), "Debe registrarse una caducidad");
+    }
+
+    /**
+     * Prueba que la carga bajo demanda solo invoque al cargador en el primer acceso.
+     */
+    @Test
+    void testCargaBajoDemanda() {
+        CacheLRU<String, Integer> cache = new CacheLRU<>(10, 0);
+        AtomicInteger cargas = new AtomicInteger();
+
+        cache.obtener("a", k -> cargas.incrementAndGet());
+        cache.obtener("a", k -> cargas.incrementAndGet());
+        cache.obtener("a", k -> cargas.incrementAndGet());
+
+        assertEquals(1, cargas.get(), "El cargador debe llamarse una sola vez");
+        assertEquals(2, cache.getAciertos(), "Debe haber dos aciertos");
+        assertEquals(1, cache.getFallos(), "Debe haber un fallo");
+        assertEquals(2.0 / 3, cache.getTasaAciertos(), 1e-9, "La tasa de aciertos debe ser 2/3");
+    }
+
+    /**
+     * Prueba que una entrada invalidada se vuelva a cargar.
+     */
+    @Test
+    void testInvalidar() {
+        CacheLRU<String, Integer> cache = new CacheLRU<>(10, 0);
+        cache.poner("a", 1);
+        cache.invalidar("a");
+
+        assertEquals(2, cache.obtener("a", k -> 2), "Tras invalidar se debe usar el valor recién cargado");
+    }
+
+    /**
+     * Prueba que una carga lenta que empezó antes de invalidar la clave no guarde su valor, que puede ser
+     * anterior al cambio, aunque sí lo devuelva a quien la pidió.
+     */
+    @Test
+    void testCargaLentaInvalidadaNoSeGuarda() throws Exception {
+        CacheLRU<String, Integer> cache = new CacheLRU<>(10, 0);
+        CountDownLatch cargando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<Integer> lenta = CompletableFuture.supplyAsync(() -> cache.obtener("a", k -> {
+            cargando.countDown();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1;
+        }));
+
+        assertTrue(cargando.await(5, TimeUnit.SECONDS));
+        cache.invalidar("a");
+        liberar.countDown();
+
+        assertEquals(1, lenta.get(5, TimeUnit.SECONDS), "Quien cargó recibe su valor");
+        assertNull(cache.obtener("a"), "El valor cargado antes de invalidar no debe guardarse");
+        assertEquals(2, cache.obtener("a", k -> 2));
+        assertEquals(2, cache.obtener("a"), "Una carga sin invalidaciones sí se guarda");
+    }
+}
@@ -0,0 +1,127 @@
+package cache;
+
+import org.junit.jupiter.api.Test;
+
+import Cache.CargadorDatos;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para el cargador que agrupa consultas por clave.
+ *
+ * Verifica que las solicitudes simultáneas de una clave compartan la carga, que las de claves distintas se
+ * junten en lotes acotados y que los errores y las claves olvidadas no dejen resultados guardados.
+ */
+class CargadorDatosTest {
+
+    /**
+     * Prueba que muchas solicitudes de la misma clave mientras se carga reciban el mismo valor con una
+     * sola carga.
+     */
+    @Test
+    void testSolicitudesSimultaneasCompartenLaCarga() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<Collection<String>> cargas = new CopyOnWriteArrayList<>();
+        CargadorDatos<String, String> cargador = new CargadorDatos<>(claves -> {
+            cargas.add(List.copyOf(claves));
+            await(liberar);
+            return valores(claves);
+        }, 0, 16);
+
+        List<CompletableFuture<String>> futuros = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futuros.add(cargador.cargarAsync("ana@uv.mx"));
+        }
+        liberar.countDown();
+
+        for (CompletableFuture<String> futuro : futuros) {
+            assertEquals("valor de ana@uv.mx", futuro.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(List.of("ana@uv.mx")), cargas, "Debe hacerse una sola carga");
+        assertEquals(49, cargador.getCompartidas());
+        assertEquals("valor de ana@uv.mx", cargador.cargar("ana@uv.mx"), "Terminada la carga, se vuelve a consultar");
+        assertEquals(2, cargas.size());
+    }
+
+    /**
+     * Prueba que las claves distintas pedidas dentro de la ventana se carguen en lotes que no superen el
+     * máximo.
+     */
+    @Test
+    void testClavesDistintasSeJuntanEnLotes() throws Exception {
+        List<Collection<String>> cargas = new CopyOnWriteArrayList<>();
+        CargadorDatos<String, String> cargador = new CargadorDatos<>(claves -> {
+            cargas.add(List.copyOf(claves));
+            return valores(claves);
+        }, 200, 4);
+
+        List<CompletableFuture<String>> futuros = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futuros.add(cargador.cargarAsync("e" + i + "@uv.mx"));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals("valor de e" + i + "@uv.mx", futuros.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(3, cargas.size(), "Dos lotes llenos y uno enviado al terminar la ventana");
+        assertEquals(List.of(4, 4, 2), cargas.stream().map(Collection::size).sorted((a, b) -> b - a).toList());
+        assertNull(cargador.cargar("nadie"), "Una clave sin valor se completa con null");
+    }
+
+    /**
+     * Prueba que un error se entregue a quienes esperaban la carga y que la siguiente solicitud vuelva a
+     * cargar, así como que una clave olvidada no se una a la carga en curso.
+     */
+    @Test
+    void testErroresYClavesOlvidadas() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<Collection<String>> cargas = new CopyOnWriteArrayList<>();
+        CargadorDatos<String, String> cargador = new CargadorDatos<>(claves -> {
+            cargas.add(List.copyOf(claves));
+            if (cargas.size() == 1) {
+                throw new IllegalStateException("Sin conexión");
+            }
+            await(liberar);
+            return valores(claves);
+        }, 0, 16);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> cargador.cargar("ana@uv.mx"));
+        assertEquals("Sin conexión", error.getMessage());
+
+        CompletableFuture<String> anterior = cargador.cargarAsync("ana@uv.mx");
+        cargador.olvidar("ana@uv.mx");
+        CompletableFuture<String> posterior = cargador.cargarAsync("ana@uv.mx");
+        assertNotSame(anterior, posterior, "Después de olvidar la clave se inicia otra carga");
+        liberar.countDown();
+        assertEquals("valor de ana@uv.mx", anterior.get(5, TimeUnit.SECONDS));
+        assertEquals("valor de ana@uv.mx", posterior.get(5, TimeUnit.SECONDS));
+        assertEquals(3, cargas.size());
+    }
+
+    private static Map<String, String> valores(Collection<String> claves) {
+        Map<String, String> valores = new HashMap<>();
+        for (String clave : claves) {
+            if (!clave.equals("nadie")) {
+                valores.put(clave, "valor de " + clave);
+            }
+        }
+        return valores;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import DAO.Estudiante.ResultadoAsignacion;
+import DAO.Estudiante.ResultadoRegistro;
+import DAO.Memoria.AlmacenMemoria;
+import DAO.ResultadoActualizacion;
+import DAO.Usuario.Credenciales;
+import Modelos.Campo;
+import Modelos.Estudiante;
+import Modelos.Proyecto;
+import Seguridad.PasswordHasher;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para el almacenamiento en memoria y sus DAO.
+ *
+ * Verifica que las restricciones de unicidad y de llave foránea se comporten como en la base de datos,
+ * que las consultas devuelvan lo mismo que los DAO sobre JDBC y que las inserciones concurrentes
+ * respeten los índices únicos.
+ */
+class AlmacenMemoriaTest {
+
+    private AlmacenMemoria almacen;
+    private DAO.Estudiante.DAO estudianteDAO;
+    private DAO.Proyecto.DAO proyectoDAO;
+    private DAO.Usuario.DAO usuarioDAO;
+
+    @BeforeEach
+    void setUp() {
+        almacen = new AlmacenMemoria();
+        estudianteDAO = new DAO.Estudiante.DAOMemoria(almacen);
+        proyectoDAO = new DAO.Proyecto.DAOMemoria(almacen);
+        usuarioDAO = new DAO.Usuario.DAOMemoria(almacen);
+    }
+
+    /**
+     * Prueba el registro de un estudiante y la resolución de su rol con la contraseña encriptada.
+     */
+    @Test
+    void testRegistrarYAutenticar() throws SQLException {
+        assertTrue(estudianteDAO.postRegistrar("ana@uv.mx", "password123", "S00000001"));
+        almacen.insertarCoordinador("coord@uv.mx", "hash", "P0001");
+
+        Credenciales credenciales = usuarioDAO.getCredenciales("ana@uv.mx");
+        assertEquals("estudiante", credenciales.getRol());
+        assertTrue(PasswordHasher.matches("password123", credenciales.getContrasenaEncriptada()),
+                "La contraseña debe guardarse encriptada");
+        assertEquals("coordinador", usuarioDAO.getCredenciales("coord@uv.mx").getRol());
+        assertNull(usuarioDAO.getCredenciales("nadie@uv.mx"), "Un correo inexistente no tiene credenciales");
+    }
+
+    /**
+     * Prueba que el registro masivo rechace correos y matrículas duplicados sin afectar a los demás.
+     */
+    @Test
+    void testRegistroMasivoRechazaDuplicados() {
+        List<Estudiante> estudiantes = List.of(
+                estudiante("a@uv.mx", "S00000001"),
+                estudiante("a@uv.mx", "S00000002"),
+                estudiante("b@uv.mx", "S00000001"),
+                estudiante("c@uv.mx", "S00000003"));
+
+        List<ResultadoRegistro> resultados = estudianteDAO.registrarEstudiantes(estudiantes, 2);
+
+        assertTrue(resultados.get(0).isExitoso());
+        assertFalse(resultados.get(1).isExitoso(), "El correo duplicado debe rechazarse");
+        assertFalse(resultados.get(2).isExitoso(), "La matrícula duplicada debe rechazarse");
+        assertTrue(resultados.get(3).isExitoso());
+        assertNull(almacen.buscarPorEmail("b@uv.mx"), "Un registro rechazado no debe dejar filas");
+        assertNotEquals(resultados.get(0).getIdUsuario(), resultados.get(3).getIdUsuario());
+    }
+
+    /**
+     * Prueba la actualización de datos personales, la asignación de proyecto y la consulta del proyecto.
+     */
+    @Test
+    void testActualizarYAsignarProyecto() throws SQLException {
+        almacen.insertarEstudiante("ana@uv.mx", "hash", "S00000001");
+        almacen.insertarCoordinador("coord@uv.mx", "hash", "P0001");
+        int idProyecto = almacen.insertarProyecto("Sistema de tutorías", "Agenda de tutorías");
+
+        assertTrue(estudianteDAO.updateActualizarDatosPersonales("ana@uv.mx", "2281234567", "Ana",
+                "Calle 1", "Femenino"));
+        assertFalse(estudianteDAO.updateActualizarDatosPersonales("coord@uv.mx", "2281234567", "Coord",
+                "Calle 2", "Masculino"), "Un coordinador no es estudiante");
+        assertFalse(estudianteDAO.asignarProyectoAEstudiante("ana@uv.mx", idProyecto + 1),
+                "No se puede asignar un proyecto inexistente");
+        assertTrue(estudianteDAO.asignarProyectoAEstudiante("ana@uv.mx", idProyecto));
+
+        Estudiante ana = estudianteDAO.getEstudiante("ana@uv.mx");
+        assertEquals("Ana", ana.getNombre());
+        assertEquals("Femenino", ana.getGenero());
+        assertEquals(String.valueOf(idProyecto), ana.getProyectoId());
+        assertEquals(Set.of("ana@uv.mx"), estudianteDAO.getEstudiantes(List.of("ana@uv.mx", "coord@uv.mx",
+                "nadie@uv.mx")).keySet(), "La consulta por lote solo devuelve estudiantes existentes");
+        assertEquals("Sistema de tutorías", proyectoDAO.getVisualizarProyectoEstudiante("ana@uv.mx").getNombre());
+        assertNull(proyectoDAO.getVisualizarProyectoEstudiante("coord@uv.mx"));
+    }
+
+    /**
+     * Prueba que la asignación masiva reporte el resultado de cada fila y aumente la versión de los asignados.
+     */
+    @Test
+    void testAsignacionMasiva() throws SQLException {
+        almacen.insertarEstudiante("ana@uv.mx", "hash", "S00000001");
+        almacen.insertarEstudiante("luis@uv.mx", "hash", "S00000002");
+        almacen.insertarCoordinador("coord@uv.mx", "hash", "P0001");
+        int idProyecto = almacen.insertarProyecto("Sistema de tutorías", "Agenda de tutorías");
+
+        Map<String, Integer> asignaciones = new LinkedHashMap<>();
+        asignaciones.put("ana@uv.mx", idProyecto);
+        asignaciones.put("luis@uv.mx", idProyecto + 1);
+        asignaciones.put("coord@uv.mx", idProyecto);
+        asignaciones.put("nadie@uv.mx", idProyecto);
+
+        Map<String, ResultadoAsignacion> resultados = estudianteDAO.asignarProyectos(asignaciones);
+        assertEquals(List.of(ResultadoAsignacion.ASIGNADO, ResultadoAsignacion.PROYECTO_INEXISTENTE,
+                ResultadoAsignacion.NO_ENCONTRADO, ResultadoAsignacion.NO_ENCONTRADO),
+                List.copyOf(resultados.values()));
+        assertEquals(List.copyOf(asignaciones.keySet()), List.copyOf(resultados.keySet()));
+
+        Estudiante ana = estudianteDAO.getEstudiante("ana@uv.mx");
+        assertEquals(String.valueOf(idProyecto), ana.getProyectoId());
+        assertEquals(1, ana.getVersion());
+        assertNull(estudianteDAO.getEstudiante("luis@uv.mx").getProyectoId());
+        assertEquals(0, estudianteDAO.getEstudiante("luis@uv.mx").getVersion());
+    }
+
+    /**
+     * Prueba que la actualización a partir de un estudiante cargado escriba solo los campos modificados.
+     */
+    @Test
+    void testActualizarSoloCamposModificados() throws SQLException {
+        almacen.insertarEstudiante("ana@uv.mx", "hash", "S00000001");
+        assertTrue(estudianteDAO.updateActualizarDatosPersonales("ana@uv.mx", "2281234567", "Ana",
+                "Calle 1", "Femenino"));
+
+        Estudiante ana = estudianteDAO.getEstudiante("ana@uv.mx");
+        assertTrue(ana.getCamposModificados().isEmpty(), "Un estudiante recién cargado no tiene cambios");
+        ana.setTelefono("2289999999");
+        // Otro cliente cambia el nombre mientras tanto; no debe sobrescribirse.
+        almacen.actualizarEstudiante("ana@uv.mx", null,
+                f -> f.conDatosPersonales(Set.of(Campo.NOMBRE), "Ana María", null, null, null));
+
+        assertTrue(estudianteDAO.updateActualizarDatosPersonales(ana));
+        assertTrue(ana.getCamposModificados().isEmpty(), "Los cambios se limpian al guardar");
+        Estudiante guardada = estudianteDAO.getEstudiante("ana@uv.mx");
+        assertEquals("2289999999", guardada.getTelefono());
+        assertEquals("Ana María", guardada.getNombre());
+        assertEquals("Femenino", guardada.getGenero());
+    }
+
+    /**
+     * Prueba que un null se guarde como campo vacío, igual que NULL en la base de datos: al actualizar los
+     * cuatro datos, en grupo y al guardar un campo modificado a null; los campos no modificados se conservan.
+     */
+    @Test
+    void testNullVaciaElCampo() throws SQLException {
+        almacen.insertarEstudiante("ana@uv.mx", "hash", "S00000001");
+        assertTrue(estudianteDAO.updateActualizarDatosPersonales("ana@uv.mx", "2281234567", "Ana",
+                "Calle 1", "Femenino"));
+        assertTrue(estudianteDAO.updateActualizarDatosPersonales("ana@uv.mx", "2281234567", "Ana",
+                null, "Femenino"));
+        assertNull(estudianteDAO.getEstudiante("ana@uv.mx").getDireccion());
+
+        Estudiante cambio = new Estudiante();
+        cambio.setEmail("ana@uv.mx");
+        cambio.setNombre("Ana");
+        cambio.setDireccion("Calle 2");
+        cambio.setTelefono(null);
+        assertEquals(List.of(true), estudianteDAO.actualizarDatosPersonales(List.of(cambio)));
+        Estudiante ana = estudianteDAO.getEstudiante("ana@uv.mx");
+        assertEquals("Calle 2", ana.getDireccion());
+        assertNull(ana.getTelefono(), "El grupo escribe los cuatro datos");
+
+        ana.setTelefono("2281234567");
+        assertTrue(estudianteDAO.updateActualizarDatosPersonales(ana));
+        ana.setDireccion(null);
+        assertTrue(estudianteDAO.updateActualizarDatosPersonales(ana));
+        Estudiante guardada = estudianteDAO.getEstudiante("ana@uv.mx");
+        assertNull(guardada.getDireccion(), "Un campo modificado a null se vacía");
+        assertEquals("2281234567", guardada.getTelefono(), "Un campo no modificado se conserva");
+        assertEquals("Ana", guardada.getNombre());
+    }
+
+    /**
+     * Prueba que una actualización con una versión vieja se rechace como conflicto, incluso si la escritura
+     * intermedia no fue condicionada.
+     */
+    @Test
+    void testConflictoDeVersion() throws SQLException {
+        almacen.insertarEstudiante("ana@uv.mx", "hash", "S00000001");
+        int idProyecto = almacen.insertarProyecto("Sistema de tutorías", "Agenda de tutorías");
+
+        Estudiante editor1 = estudianteDAO.getEstudiante("ana@uv.mx");
+        Estudiante editor2 = estudianteDAO.getEstudiante("ana@uv.mx");
+        editor1.setNombre("Ana");
+        assertEquals(ResultadoActualizacion.EXITO, estudianteDAO.actualizarConVersion(editor1));
+        assertEquals(1, editor1.getVersion());
+
+        editor2.setProyectoId(String.valueOf(idProyecto));
+        assertEquals(ResultadoActualizacion.CONFLICTO, estudianteDAO.actualizarConVersion(editor2));
+        assertNull(estudianteDAO.getEstudiante("ana@uv.mx").getProyectoId(), "Un conflicto no debe escribir nada");
+
+        assertTrue(estudianteDAO.asignarProyectoAEstudiante("ana@uv.mx", idProyecto));
+        editor1.setTelefono("2281234567");
+        assertEquals(ResultadoActualizacion.CONFLICTO, estudianteDAO.actualizarConVersion(editor1),
+                "Las escrituras sin condición también aumentan la versión");
+
+        Proyecto proyecto = proyectoDAO.getProyecto(idProyecto);
+        Proyecto viejo = proyectoDAO.getProyecto(idProyecto);
+        proyecto.setNombre("Tutorías");
+        assertEquals(ResultadoActualizacion.EXITO, proyectoDAO.updateProyecto(proyecto));
+        viejo.setDescripcion("Otra");
+        assertEquals(ResultadoActualizacion.CONFLICTO, proyectoDAO.updateProyecto(viejo));
+        viejo.setProyectoId(String.valueOf(idProyecto + 1));
+        assertEquals(ResultadoActualizacion.NO_ENCONTRADO, proyectoDAO.updateProyecto(viejo));
+    }
+
+    /**
+     * Prueba la paginación por clave y el filtro sin distinción de mayúsculas.
+     */
+    @Test
+    void testListadoPaginadoYFiltrado() {
+        for (int i = 1; i <= 7; i++) {
+            almacen.insertarProyecto(i % 2 == 0 ? "Web " + i : "Móvil " + i, "Descripción " + i);
+        }
+
+        List<Proyecto> primera = proyectoDAO.getVisualizarProyectos(null, 0, 3);
+        List<Proyecto> segunda = proyectoDAO.getVisualizarProyectos(null,
+                Integer.parseInt(primera.get(2).getProyectoId()), 3);
+        assertEquals(List.of("1", "2", "3"), primera.stream().map(Proyecto::getProyectoId).toList());
+        assertEquals(List.of("4", "5", "6"), segunda.stream().map(Proyecto::getProyectoId).toList());
+
+        Proyecto filtro = new Proyecto();
+        filtro.setNombre("WEB");
+        filtro.setDescripcion("");
+        assertEquals(List.of("2", "4", "6"), proyectoDAO.getVisualizarProyectos(filtro, 0, 10).stream()
+                .map(Proyecto::getProyectoId).toList());
+    }
+
+    /**
+     * Prueba que, con muchos hilos registrando la misma matrícula con correos distintos, solo uno lo logre.
+     */
+    @Test
+    void testInsercionesConcurrentesRespetanUnicidad() throws Exception {
+        int hilos = 32;
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch salida = new CountDownLatch(1);
+        AtomicInteger exitos = new AtomicInteger();
+        List<Runnable> tareas = new ArrayList<>();
+        for (int i = 0; i < hilos; i++) {
+            String email = "e" + i + "@uv.mx";
+            tareas.add(() -> {
+                try {
+                    salida.await();
+                    almacen.insertarEstudiante(email, "hash", "S99999999");
+                    exitos.incrementAndGet();
+                } catch (SQLException | InterruptedException e) {
+                    // Esperado para todos menos uno.
+                }
+            });
+        }
+        tareas.forEach(ejecutor::execute);
+        salida.countDown();
+        ejecutor.shutdown();
+        assertTrue(ejecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1, exitos.get(), "Solo un registro puede quedarse con la matrícula");
+        String email = almacen.buscarPorMatricula("S99999999").email();
+        assertNotNull(almacen.buscarPorEmail(email));
+    }
+
+    /**
+     * Prueba que, con muchos hilos asignando estudiantes al mismo proyecto, no se exceda su cupo, y que
+     * cambiar de proyecto libere el lugar anterior.
+     */
+    @Test
+    void testCupoConAsignacionesConcurrentes() throws Exception {
+        int hilos = 32;
+        int idProyecto = almacen.insertarProyecto("Sistema de tutorías", "Agenda de tutorías", 5);
+        int idOtro = almacen.insertarProyecto("Bolsa de trabajo", "Vacantes", null);
+        for (int i = 0; i < hilos; i++) {
+            almacen.insertarEstudiante("e" + i + "@uv.mx", "hash", String.format("S%08d", i));
+        }
+
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch salida = new CountDownLatch(1);
+        AtomicInteger exitos = new AtomicInteger();
+        for (int i = 0; i < hilos; i++) {
+            String email = "e" + i + "@uv.mx";
+            ejecutor.execute(() -> {
+                try {
+                    salida.await();
+                    if (estudianteDAO.asignarProyectoAEstudiante(email, idProyecto)) {
+                        exitos.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        salida.countDown();
+        ejecutor.shutdown();
+        assertTrue(ejecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(5, exitos.get(), "Solo caben tantos estudiantes como el cupo");
+        assertEquals(5, almacen.ocupados(idProyecto));
+        assertEquals(0, proyectoDAO.getProyecto(idProyecto).getLugaresDisponibles());
+
+        String asignado = null;
+        String sinProyecto = null;
+        for (int i = 0; i < hilos; i++) {
+            String email = "e" + i + "@uv.mx";
+            if (estudianteDAO.getEstudiante(email).getProyectoId() != null) {
+                asignado = email;
+            } else {
+                sinProyecto = email;
+            }
+        }
+        assertTrue(estudianteDAO.asignarProyectoAEstudiante(asignado, idOtro));
+        assertEquals(4, almacen.ocupados(idProyecto), "Cambiar de proyecto libera el lugar anterior");
+        assertEquals(1, almacen.ocupados(idOtro));
+        assertTrue(estudianteDAO.asignarProyectoAEstudiante(asignado, idOtro), "Reasignar el mismo proyecto no ocupa otro lugar");
+        assertEquals(1, almacen.ocupados(idOtro));
+
+        assertEquals(ResultadoActualizacion.SIN_CUPO, proyectoDAO.definirCupo(idProyecto, 3),
+                "El cupo no puede quedar debajo de los lugares ocupados");
+        assertEquals(ResultadoActualizacion.EXITO, proyectoDAO.definirCupo(idProyecto, 4));
+        Map<String, ResultadoAsignacion> resultados = estudianteDAO.asignarProyectos(Map.of(sinProyecto, idProyecto));
+        assertEquals(ResultadoAsignacion.SIN_CUPO, resultados.get(sinProyecto));
+        assertNull(estudianteDAO.getEstudiante(sinProyecto).getProyectoId());
+    }
+
+    private static Estudiante estudiante(String email, String matricula) {
+        Estudiante estudiante = new Estudiante();
+        estudiante.setEmail(email);
+        estudiante.setContrasena("password123");
+        estudiante.setMatricula(matricula);
+        return estudiante;
+    }
+}
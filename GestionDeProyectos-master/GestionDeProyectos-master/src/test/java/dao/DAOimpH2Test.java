@@ -0,0 +1,158 @@
+package dao;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import Cache.CacheIdentidades;
+import DAO.Estudiante.DAOimp;
+import DAO.Estudiante.ResultadoRegistro;
+import DAO.ResultadoActualizacion;
+import DBConeccion.SQLConeccion;
+import Modelos.Estudiante;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para los DAO sobre JDBC, con una base H2 en memoria en modo MySQL.
+ */
+class DAOimpH2Test {
+
+    private static final String[] ESQUEMA = {
+            "CREATE TABLE usuario_base (id_usuario INT AUTO_INCREMENT PRIMARY KEY, email VARCHAR(100) NOT NULL UNIQUE, "
+                    + "contrasena VARCHAR(100) NOT NULL, nombre VARCHAR(100), telefono VARCHAR(10), "
+                    + "direccion VARCHAR(255), version INT NOT NULL DEFAULT 0)",
+            "CREATE TABLE proyecto (id_proyecto INT AUTO_INCREMENT PRIMARY KEY, nombre VARCHAR(100) NOT NULL, "
+                    + "descripcion VARCHAR(1000), version INT NOT NULL DEFAULT 0, cupo INT, "
+                    + "ocupados INT NOT NULL DEFAULT 0)",
+            "CREATE TABLE estudiante (id_usuario INT PRIMARY KEY, matricula VARCHAR(9) NOT NULL UNIQUE, "
+                    + "genero VARCHAR(10), id_proyecto INT, "
+                    + "FOREIGN KEY (id_usuario) REFERENCES usuario_base (id_usuario), "
+                    + "FOREIGN KEY (id_proyecto) REFERENCES proyecto (id_proyecto))",
+            "CREATE TABLE coordinador (id_usuario INT PRIMARY KEY, no_personal VARCHAR(15), "
+                    + "FOREIGN KEY (id_usuario) REFERENCES usuario_base (id_usuario))"
+    };
+
+    private final DAOimp estudianteDAO = new DAOimp();
+
+    @BeforeAll
+    static void iniciarBase() throws SQLException {
+        System.setProperty("db.url", "jdbc:h2:mem:daoimp;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        System.setProperty("db.usuario", "sa");
+        System.setProperty("db.contrasena", "");
+        SQLConeccion.inicializarConnecion();
+        try (Connection conn = SQLConeccion.obtenerConeccion();
+             Statement stmt = conn.createStatement()) {
+            for (String sentencia : ESQUEMA) {
+                stmt.execute(sentencia);
+            }
+        }
+    }
+
+    @AfterAll
+    static void cerrarBase() {
+        SQLConeccion.CerrarConneciones();
+        System.clearProperty("db.url");
+        System.clearProperty("db.usuario");
+        System.clearProperty("db.contrasena");
+    }
+
+    /**
+     * Prueba que, si falla la encriptación de un bloque, sus estudiantes se informen como fallidos y los
+     * bloques siguientes se registren.
+     */
+    @Test
+    void testRegistroMasivoContinuaSiFallaLaEncriptacion() {
+        List<Estudiante> estudiantes = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Estudiante estudiante = new Estudiante();
+            estudiante.setEmail("hash" + i + "@uv.mx");
+            estudiante.setContrasena(i == 2 ? null : "Secreta123");
+            estudiante.setMatricula(String.format("S%08d", 100 + i));
+            estudiantes.add(estudiante);
+        }
+
+        List<ResultadoRegistro> resultados = estudianteDAO.registrarEstudiantes(estudiantes, 2);
+
+        assertEquals(6, resultados.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals("hash" + i + "@uv.mx", resultados.get(i).getEmail());
+            assertEquals(i < 2 || i > 3, resultados.get(i).isExitoso(), resultados.get(i).toString());
+        }
+        assertNotNull(estudianteDAO.getEstudiante("hash4@uv.mx"));
+        assertNull(estudianteDAO.getEstudiante("hash3@uv.mx"));
+    }
+
+    /**
+     * Prueba que un conflicto de versión no descarte el identificador de la caché ni se reintente.
+     */
+    @Test
+    void testConflictoDeVersionConservaLaIdentidad() {
+        assertTrue(estudianteDAO.postRegistrar("version@uv.mx", "Secreta123", "S00000200"));
+        Estudiante leido = estudianteDAO.getEstudiante("version@uv.mx");
+        Estudiante otro = estudianteDAO.getEstudiante("version@uv.mx");
+        int idUsuario = Integer.parseInt(leido.getId());
+
+        otro.setNombre("Primero");
+        assertEquals(ResultadoActualizacion.EXITO, estudianteDAO.actualizarConVersion(otro));
+        leido.setNombre("Segundo");
+        assertEquals(ResultadoActualizacion.CONFLICTO, estudianteDAO.actualizarConVersion(leido));
+
+        assertEquals(idUsuario, CacheIdentidades.obtener("version@uv.mx"));
+        assertEquals("Primero", estudianteDAO.getEstudiante("version@uv.mx").getNombre());
+    }
+
+    /**
+     * Prueba que un identificador de la caché que ya no corresponde al correo se descarte y la
+     * actualización se reintente con el identificador correcto.
+     */
+    @Test
+    void testIdentidadObsoletaSeReintenta() {
+        assertTrue(estudianteDAO.postRegistrar("obsoleto@uv.mx", "Secreta123", "S00000300"));
+        int idUsuario = CacheIdentidades.obtener("obsoleto@uv.mx");
+        CacheIdentidades.registrar("obsoleto@uv.mx", idUsuario + 1000);
+
+        Estudiante datos = new Estudiante();
+        datos.setEmail("obsoleto@uv.mx");
+        datos.setNombre("Actualizado");
+        assertTrue(estudianteDAO.updateActualizarDatosPersonales(datos));
+
+        assertEquals(idUsuario, CacheIdentidades.obtener("obsoleto@uv.mx"));
+        assertEquals("Actualizado", estudianteDAO.getEstudiante("obsoleto@uv.mx").getNombre());
+    }
+
+    /**
+     * Prueba que el DAO de estudiantes no modifique a un coordinador aunque haya iniciado sesión, ahora que
+     * las sentencias de {@code usuario_base} no comprueban que el usuario sea estudiante.
+     */
+    @Test
+    void testNoActualizaCoordinadores() throws SQLException {
+        try (Connection conn = SQLConeccion.obtenerConeccion();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO usuario_base (id_usuario, email, contrasena, nombre) "
+                    + "VALUES (900, 'coordinador@uv.mx', 'hash', 'Coordinador')");
+            stmt.execute("INSERT INTO coordinador (id_usuario, no_personal) VALUES (900, 'P900')");
+        }
+        assertNotNull(new DAO.Usuario.DAOimp().getCredenciales("coordinador@uv.mx"));
+        assertNull(CacheIdentidades.obtener("coordinador@uv.mx"));
+
+        Estudiante datos = new Estudiante();
+        datos.setEmail("coordinador@uv.mx");
+        datos.setNombre("Cambiado");
+        assertFalse(estudianteDAO.updateActualizarDatosPersonales(datos));
+
+        try (Connection conn = SQLConeccion.obtenerConeccion();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT nombre FROM usuario_base WHERE id_usuario = 900")) {
+            assertTrue(rs.next());
+            assertEquals("Coordinador", rs.getString(1));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package export;
+
+import org.junit.jupiter.api.Test;
+
+import Exportacion.EscritorExportacion;
+import Exportacion.FormatoExportacion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para el escritor de exportaciones.
+ *
+ * Verifica el escape de CSV y JSON, la escritura de valores nulos y que el búfer se vacíe
+ * correctamente cuando las filas no caben en él.
+ */
+class EscritorExportacionTest {
+
+    private static final String[] COLUMNAS = {"id", "nombre", "proyecto"};
+
+    /**
+     * Prueba que los campos CSV con comas, comillas o saltos de línea se escriban entre comillas.
+     */
+    @Test
+    void testCsvConCaracteresEspeciales() throws IOException {
+        String salida = exportar(FormatoExportacion.CSV, 1024,
+                new Object[]{1, "Pérez, Ana", null},
+                new Object[]{2, "Dijo \"hola\"", "Línea\nnueva"});
+
+        assertEquals("id,nombre,proyecto\r\n"
+                + "1,\"Pérez, Ana\",\r\n"
+                + "2,\"Dijo \"\"hola\"\"\",\"Línea\nnueva\"\r\n", salida);
+    }
+
+    /**
+     * Prueba que JSON lines escape las cadenas, deje los números sin comillas y escriba null.
+     */
+    @Test
+    void testJsonlConEscapesYNulos() throws IOException {
+        String salida = exportar(FormatoExportacion.JSONL, 1024,
+                new Object[]{7, "Ana \"A\"\t\\", null});
+
+        assertEquals("{\"id\":7,\"nombre\":\"Ana \\\"A\\\"\\t\\\\\",\"proyecto\":null}\n", salida);
+    }
+
+    /**
+     * Prueba que un búfer más pequeño que las filas produzca la misma salida, incluidos caracteres multibyte.
+     */
+    @Test
+    void testBufferPequenoConservaLaSalida() throws IOException {
+        Object[][] filas = new Object[200][];
+        for (int i = 0; i < filas.length; i++) {
+            filas[i] = new Object[]{i, "Estudiante ñandú " + i, i % 3 == 0 ? null : "Proyecto €" + i};
+        }
+
+        String grande = exportar(FormatoExportacion.CSV, 64 * 1024, filas);
+        String pequeno = exportar(FormatoExportacion.CSV, 64, filas);
+
+        assertEquals(grande, pequeno);
+        assertTrue(pequeno.contains("199,Estudiante ñandú 199,Proyecto €199\r\n"));
+    }
+
+    /**
+     * Prueba que el escritor cuente filas y bytes escritos.
+     */
+    @Test
+    void testConteoDeFilasYBytes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EscritorExportacion escritor = new EscritorExportacion(Channels.newChannel(bytes),
+                FormatoExportacion.JSONL, COLUMNAS, 64);
+        escritor.escribir(1, "ñ", null);
+        escritor.escribir(2, "b", "c");
+        escritor.terminar();
+        escritor.close();
+
+        assertEquals(2, escritor.getFilas());
+        assertEquals(bytes.size(), escritor.getBytes());
+    }
+
+    private static String exportar(FormatoExportacion formato, int tamanoBuffer, Object[]... filas) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (EscritorExportacion escritor = new EscritorExportacion(Channels.newChannel(bytes), formato, COLUMNAS,
+                tamanoBuffer)) {
+            for (Object[] fila : filas) {
+                escritor.escribir(fila);
+            }
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
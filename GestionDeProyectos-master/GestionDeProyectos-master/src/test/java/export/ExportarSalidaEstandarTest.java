@@ -0,0 +1,82 @@
+package export;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import Exportacion.ExportadorEstudiantes;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para la exportación por línea de comandos hacia la salida estándar.
+ *
+ * Ejecuta {@code exportar -} en otro proceso sobre una base H2 en archivo y verifica que la salida estándar
+ * contenga solo la exportación, sin mensajes de la conexión ni del avance.
+ */
+class ExportarSalidaEstandarTest {
+
+    private static final String[] ESQUEMA = {
+            "CREATE TABLE usuario_base (id_usuario INT AUTO_INCREMENT PRIMARY KEY, email VARCHAR(100) NOT NULL UNIQUE, "
+                    + "contrasena VARCHAR(100) NOT NULL, nombre VARCHAR(100), telefono VARCHAR(10), "
+                    + "direccion VARCHAR(255), version INT NOT NULL DEFAULT 0)",
+            "CREATE TABLE proyecto (id_proyecto INT AUTO_INCREMENT PRIMARY KEY, nombre VARCHAR(100) NOT NULL, "
+                    + "descripcion VARCHAR(1000), version INT NOT NULL DEFAULT 0, cupo INT, "
+                    + "ocupados INT NOT NULL DEFAULT 0)",
+            "CREATE TABLE estudiante (id_usuario INT PRIMARY KEY, matricula VARCHAR(9) NOT NULL UNIQUE, "
+                    + "genero VARCHAR(10), id_proyecto INT)",
+            "INSERT INTO proyecto (id_proyecto, nombre) VALUES (1, 'Inventario')",
+            "INSERT INTO usuario_base (id_usuario, email, contrasena, nombre, telefono, direccion) VALUES "
+                    + "(1, 'ana@uv.mx', 'hash', 'Ana', '2281234567', 'Calle 1'), "
+                    + "(2, 'luis@uv.mx', 'hash', 'Luis', '2287654321', 'Calle 2')",
+            "INSERT INTO estudiante (id_usuario, matricula, genero, id_proyecto) VALUES "
+                    + "(1, 'S00000001', 'Femenino', 1), (2, 'S00000002', 'Masculino', NULL)"
+    };
+
+    /**
+     * Prueba que la salida estándar de {@code exportar - csv} sea un CSV válido con el encabezado y una fila
+     * por estudiante.
+     */
+    @Test
+    void testSalidaEstandarSoloContieneLaExportacion(@TempDir Path directorio)
+            throws IOException, InterruptedException, SQLException {
+        String url = "jdbc:h2:" + directorio.resolve("exportacion").toAbsolutePath() + ";MODE=MySQL";
+        try (Connection conn = DriverManager.getConnection(url, "sa", "");
+             Statement stmt = conn.createStatement()) {
+            for (String sentencia : ESQUEMA) {
+                stmt.execute(sentencia);
+            }
+        }
+
+        Path salida = directorio.resolve("salida.csv");
+        Path errores = directorio.resolve("errores.txt");
+        Process proceso = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                "-Ddb.url=" + url, "-Ddb.usuario=sa", "-Ddb.contrasena=", "-Ddb.pool.minimo=1",
+                "exportar", "-", "csv")
+                .redirectOutput(salida.toFile())
+                .redirectError(errores.toFile())
+                .start();
+        assertTrue(proceso.waitFor(60, TimeUnit.SECONDS), "La exportación no terminó");
+        assertEquals(0, proceso.exitValue(), Files.readString(errores));
+
+        List<String> lineas = List.of(Files.readString(salida, StandardCharsets.UTF_8).split("\r\n", -1));
+        assertEquals(List.of(
+                String.join(",", ExportadorEstudiantes.COLUMNAS),
+                "1,ana@uv.mx,S00000001,Ana,2281234567,Calle 1,Femenino,1,Inventario",
+                "2,luis@uv.mx,S00000002,Luis,2287654321,Calle 2,Masculino,,",
+                ""), lineas);
+        assertTrue(Files.readString(errores).contains(" terminada: 2 estudiantes en -"));
+    }
+}
@@ -0,0 +1,140 @@
+package matching;
+
+import org.junit.jupiter.api.Test;
+
+import DAO.Estudiante.ResultadoAsignacion;
+import DAO.Memoria.AlmacenMemoria;
+import Emparejamiento.MotorEmparejamiento;
+import Emparejamiento.ReporteEmparejamiento;
+import Emparejamiento.ResultadoEmparejamiento;
+import Servicio.EmparejamientoServicio;
+import Servicio.EstudianteServicio;
+import Servicio.ProyectoServicio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para la asignación de proyectos por preferencias.
+ *
+ * Verifica que la asignación respete los lugares de cada proyecto, que sea estable respecto a la
+ * prioridad de los estudiantes y que el servicio guarde solo a los estudiantes sin proyecto.
+ */
+class MotorEmparejamientoTest {
+
+    /**
+     * Prueba un caso pequeño: el estudiante con más prioridad se queda con el único lugar y el otro pasa
+     * a su segunda opción.
+     */
+    @Test
+    void testCasoPequeno() {
+        Map<String, List<Integer>> preferencias = new LinkedHashMap<>();
+        preferencias.put("ana@uv.mx", List.of(1, 2));
+        preferencias.put("luis@uv.mx", List.of(1, 2));
+        preferencias.put("eva@uv.mx", List.of(7, 1));
+
+        ResultadoEmparejamiento resultado = MotorEmparejamiento.emparejar(preferencias, Map.of(1, 1, 2, 5));
+
+        assertEquals(Map.of("ana@uv.mx", 1, "luis@uv.mx", 2), resultado.getAsignaciones());
+        assertEquals(List.of("eva@uv.mx"), resultado.getSinAsignar(), "El proyecto 7 no existe y el 1 está lleno");
+        assertEquals(1, resultado.getAsignadosEnOpcion(1));
+        assertEquals(1, resultado.getAsignadosEnOpcion(2));
+        assertEquals(1.5, resultado.getOpcionPromedio(), 1e-9);
+    }
+
+    /**
+     * Prueba con preferencias aleatorias, en suficientes estudiantes para procesar los proyectos en paralelo,
+     * que ningún proyecto se exceda y que nadie prefiera un proyecto con lugar libre o con un estudiante de
+     * menor prioridad.
+     */
+    @Test
+    void testAsignacionEstableYDentroDelCupo() {
+        Random random = new Random(42);
+        int estudiantes = 5000;
+        int proyectos = 300;
+        Map<Integer, Integer> lugares = new HashMap<>();
+        for (int p = 1; p <= proyectos; p++) {
+            lugares.put(p, p % 50 == 0 ? Integer.MAX_VALUE : random.nextInt(20));
+        }
+        Map<String, List<Integer>> preferencias = new LinkedHashMap<>();
+        for (int e = 0; e < estudiantes; e++) {
+            List<Integer> lista = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(6); i++) {
+                // Los proyectos de número bajo son más populares.
+                lista.add(1 + (int) (proyectos * Math.pow(random.nextDouble(), 3)));
+            }
+            preferencias.put("e" + e + "@uv.mx", lista);
+        }
+
+        ResultadoEmparejamiento resultado = MotorEmparejamiento.emparejar(preferencias, lugares);
+
+        Map<Integer, Integer> ocupados = new HashMap<>();
+        Map<Integer, Integer> peorPrioridad = new HashMap<>();
+        List<String> emails = new ArrayList<>(preferencias.keySet());
+        for (int e = 0; e < estudiantes; e++) {
+            Integer proyecto = resultado.getAsignaciones().get(emails.get(e));
+            if (proyecto != null) {
+                ocupados.merge(proyecto, 1, Integer::sum);
+                peorPrioridad.merge(proyecto, e, Math::max);
+            }
+        }
+        for (Map.Entry<Integer, Integer> proyecto : ocupados.entrySet()) {
+            assertTrue(proyecto.getValue() <= lugares.get(proyecto.getKey()), "Proyecto excedido: " + proyecto);
+        }
+        for (int e = 0; e < estudiantes; e++) {
+            Integer asignado = resultado.getAsignaciones().get(emails.get(e));
+            for (Integer preferido : preferencias.get(emails.get(e))) {
+                if (preferido.equals(asignado)) {
+                    break;
+                }
+                boolean lleno = ocupados.getOrDefault(preferido, 0) >= lugares.get(preferido);
+                assertTrue(lugares.get(preferido) == 0 || lleno && peorPrioridad.get(preferido) < e,
+                        "El estudiante " + e + " debería tener el proyecto " + preferido);
+            }
+        }
+        assertEquals(estudiantes, resultado.getAsignaciones().size() + resultado.getSinAsignar().size());
+        assertTrue(resultado.getRondas() > 1);
+    }
+
+    /**
+     * Prueba que el servicio guarde la asignación en el almacenamiento en memoria, con los lugares
+     * ocupados, y omita a los estudiantes inexistentes o que ya tienen proyecto.
+     */
+    @Test
+    void testServicioGuardaLaAsignacion() throws Exception {
+        AlmacenMemoria almacen = new AlmacenMemoria();
+        EstudianteServicio estudiantes = new EstudianteServicio(new DAO.Estudiante.DAOMemoria(almacen), () -> { });
+        ProyectoServicio proyectos = new ProyectoServicio(new DAO.Proyecto.DAOMemoria(almacen), () -> { });
+        int popular = almacen.insertarProyecto("Popular", "Todos lo quieren", 2);
+        int otro = almacen.insertarProyecto("Otro", "Sin límite", null);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            emails.add("e" + i + "@uv.mx");
+            almacen.insertarEstudiante(emails.get(i), "hash", String.format("S%08d", i));
+        }
+        almacen.asignarProyecto(emails.get(3), otro);
+
+        Map<String, List<Integer>> preferencias = new LinkedHashMap<>();
+        for (String email : emails) {
+            preferencias.put(email, List.of(popular, otro));
+        }
+        preferencias.put("nadie@uv.mx", List.of(popular));
+        ReporteEmparejamiento reporte = new EmparejamientoServicio(estudiantes, proyectos)
+                .asignarPorPreferencias(preferencias);
+
+        assertEquals(List.of(emails.get(3), "nadie@uv.mx"), reporte.omitidos());
+        assertEquals(3, reporte.getConfirmados());
+        assertEquals(Collections.nCopies(3, ResultadoAsignacion.ASIGNADO), List.copyOf(reporte.confirmacion().values()));
+        assertEquals(String.valueOf(popular), estudiantes.obtenerEstudiante(emails.get(0)).getProyectoId());
+        assertEquals(String.valueOf(otro), estudiantes.obtenerEstudiante(emails.get(2)).getProyectoId());
+        assertEquals(2, almacen.ocupados(popular));
+        assertEquals(2, reporte.emparejamiento().getAsignadosEnOpcion(1));
+    }
+}
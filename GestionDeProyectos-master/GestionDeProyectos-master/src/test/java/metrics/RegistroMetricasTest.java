@@ -0,0 +1,128 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import DAO.Estudiante.DAOMemoria;
+import DAO.Memoria.AlmacenMemoria;
+import Metricas.HistogramaLatencia;
+import Metricas.MetricaCache;
+import Metricas.MetricaOperacion;
+import Metricas.RegistroMetricas;
+import Modelos.Estudiante;
+import Servicio.EstudianteServicio;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para el histograma de latencias y el registro de métricas.
+ *
+ * Verifica la estimación de percentiles, el conteo de llamadas y errores, y la
+ * instrumentación de interfaces mediante proxies.
+ */
+class RegistroMetricasTest {
+
+    /**
+     * Prueba que los percentiles estimados queden dentro del error de las cubetas.
+     */
+    @Test
+    void testPercentilesDentroDelError() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        for (long i = 1; i <= 1000; i++) {
+            histograma.registrar(i * 1000);
+        }
+
+        long p50 = histograma.percentil(50);
+        long p99 = histograma.percentil(99);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.125, "p50 fuera de rango: " + p50);
+        assertTrue(p99 >= 990_000 && p99 <= 990_000 * 1.125, "p99 fuera de rango: " + p99);
+
+        histograma.reiniciar();
+        assertEquals(0, histograma.percentil(50), "Un histograma reiniciado no debe tener datos");
+    }
+
+    /**
+     * Prueba que medir() cuente las llamadas y considere error un resultado false o una excepción.
+     */
+    @Test
+    void testMedirCuentaLlamadasYErrores() {
+        String nombre = "prueba.medir";
+        RegistroMetricas.medir(nombre, () -> true);
+        RegistroMetricas.medir(nombre, () -> false);
+        assertThrows(IllegalStateException.class, () -> RegistroMetricas.medir(nombre, () -> {
+            throw new IllegalStateException("fallo");
+        }));
+
+        MetricaOperacion metrica = RegistroMetricas.obtener(nombre);
+        assertEquals(3, metrica.getLlamadas(), "Deben contarse todas las llamadas");
+        assertEquals(2, metrica.getErrores(), "false y la excepción deben contarse como errores");
+    }
+
+    /**
+     * Prueba que el proxy instrumentado delegue en la implementación y registre cada llamada.
+     */
+    @Test
+    void testInstrumentarInterfaz() {
+        IntSupplier instrumentado = RegistroMetricas.instrumentar(IntSupplier.class, () -> 42, "prueba.proxy");
+
+        assertEquals(42, instrumentado.getAsInt(), "El proxy debe devolver el resultado de la implementación");
+        instrumentado.getAsInt();
+
+        MetricaOperacion metrica = RegistroMetricas.obtener("prueba.proxy.getAsInt");
+        assertEquals(2, metrica.getLlamadas(), "Cada llamada al proxy debe registrarse");
+        assertEquals(0, metrica.getErrores(), "Las llamadas exitosas no son errores");
+    }
+
+    /**
+     * Prueba que una caché registrada se lea al consultarla, aparezca en el reporte y se publique por JMX,
+     * y que la caché de sentencias se registre sola.
+     */
+    @Test
+    void testRegistrarCache() throws Exception {
+        AtomicLong aciertos = new AtomicLong();
+        RegistroMetricas.registrarCache("prueba.cache", aciertos::get, () -> 1, () -> List.of("clave"));
+        aciertos.set(3);
+
+        MetricaCache cache = RegistroMetricas.caches().stream()
+                .filter(c -> c.getNombre().equals("prueba.cache")).findFirst().orElseThrow();
+        assertEquals(0.75, cache.getTasaAciertos(), 1e-9, "Los contadores se leen al consultar");
+        assertTrue(RegistroMetricas.reporte().contains(cache.toString()));
+        ObjectName nombre = new ObjectName("GestionDeProyectos:type=Caches,name=" + ObjectName.quote("prueba.cache"));
+        assertEquals(3L, ManagementFactory.getPlatformMBeanServer().getAttribute(nombre, "Aciertos"));
+
+        Class.forName("DBConeccion.CacheSentencias");
+        assertTrue(RegistroMetricas.caches().stream().anyMatch(c -> c.getNombre().equals("db.sentencias")));
+    }
+
+    /**
+     * Prueba que el registro masivo cuente cada estudiante procesado, con los que fallaron como errores.
+     */
+    @Test
+    void testRegistroMasivoCuentaFilas() {
+        MetricaOperacion filas = RegistroMetricas.obtener("servicio.estudiante.registrarEstudiantes.filas");
+        long llamadas = filas.getLlamadas();
+        long errores = filas.getErrores();
+        EstudianteServicio servicio = new EstudianteServicio(new DAOMemoria(new AlmacenMemoria()), () -> { }, false);
+
+        servicio.registrarEstudiantes(List.of(
+                estudiante("filas1@uv.mx", "S00000001"),
+                estudiante("filas2@uv.mx", "S00000002"),
+                estudiante("filas3@uv.mx", "S00000001")));
+
+        assertEquals(llamadas + 3, filas.getLlamadas(), "Debe contarse cada estudiante procesado");
+        assertEquals(errores + 1, filas.getErrores(), "La matrícula duplicada es un error");
+    }
+
+    private static Estudiante estudiante(String email, String matricula) {
+        Estudiante estudiante = new Estudiante();
+        estudiante.setEmail(email);
+        estudiante.setContrasena("Secreta123");
+        estudiante.setMatricula(matricula);
+        return estudiante;
+    }
+}
@@ -3,6 +3,7 @@ package models;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import Modelos.Campo;
 import Modelos.Estudiante;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -109,4 +110,24 @@ class EstudianteTest {
         // Validar que se lanza una excepción
         assertThrows(ConstraintViolationException.class, estudiante::validate);
     }
+
+    /**
+     * Prueba que los setters registren solo los campos cuyo valor cambia y que
+     * {@code limpiarCambios()} olvide los cambios registrados.
+     */
+    @Test
+    void testRegistroDeCamposModificados() {
+        Estudiante estudiante = new Estudiante();
+        estudiante.setTelefono("2281234567");
+        estudiante.setMatricula("S12345678");
+        assertEquals(Set.of(Campo.TELEFONO, Campo.MATRICULA), estudiante.getCamposModificados());
+
+        estudiante.limpiarCambios();
+        estudiante.setTelefono("2281234567");  // Mismo valor
+        estudiante.setGenero("Femenino");
+        assertEquals(Set.of(Campo.GENERO), estudiante.getCamposModificados(),
+                "Asignar el mismo valor no debe marcar el campo");
+        assertTrue(estudiante.isModificado(Campo.GENERO));
+        assertFalse(estudiante.isModificado(Campo.TELEFONO));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package search;
+
+import org.junit.jupiter.api.Test;
+
+import Busqueda.IndiceEstudiantes;
+import Busqueda.IndiceEstudiantes.Entrada;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para el índice de búsqueda de estudiantes por prefijo.
+ *
+ * Verifica la búsqueda por correo, nombre y matrícula, el límite de resultados y que las
+ * actualizaciones incrementales reemplacen los datos anteriores.
+ */
+class IndiceEstudiantesTest {
+
+    /**
+     * Prueba que se encuentre a un estudiante por cualquier palabra del nombre, sin importar acentos ni
+     * mayúsculas, así como por correo y por matrícula.
+     */
+    @Test
+    void testBusquedaPorNombreCorreoYMatricula() {
+        IndiceEstudiantes indice = new IndiceEstudiantes();
+        indice.cargar(List.of(
+                new Entrada("ana@uv.mx", "Ana María Pérez", "S12345678"),
+                new Entrada("luis@uv.mx", "Luis Peña", "S87654321")));
+
+        assertTrue(indice.isCargado());
+        assertEquals(List.of("ana@uv.mx"), emails(indice.buscar("PEREZ", 10)));
+        assertEquals(List.of("ana@uv.mx"), emails(indice.buscar("maría p", 10)));
+        assertEquals(List.of("luis@uv.mx"), emails(indice.buscar("s876", 10)));
+        assertEquals(List.of("luis@uv.mx"), emails(indice.buscar("luis@", 10)));
+        assertEquals(2, indice.buscar("s", 10).size(), "Las dos matrículas empiezan con S");
+        assertTrue(indice.buscar("  ", 10).isEmpty());
+        assertTrue(indice.buscar("zz", 10).isEmpty());
+    }
+
+    /**
+     * Prueba que los resultados no repitan estudiantes y respeten el límite.
+     */
+    @Test
+    void testLimiteSinRepetidos() {
+        IndiceEstudiantes indice = new IndiceEstudiantes();
+        List<Entrada> entradas = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            entradas.add(new Entrada(String.format("est%02d@uv.mx", i), "Est Estudiante " + i, String.format("S%08d", i)));
+        }
+        indice.cargar(entradas);
+
+        List<Entrada> encontrados = indice.buscar("est", 8);
+        assertEquals(8, encontrados.size());
+        assertEquals(8, emails(encontrados).stream().distinct().count());
+        assertEquals("est00@uv.mx", encontrados.get(0).email());
+    }
+
+    /**
+     * Prueba que un cambio de nombre retire las claves del nombre anterior y que la carga inicial no
+     * reemplace los datos agregados mientras se leía el almacenamiento.
+     */
+    @Test
+    void testActualizacionIncremental() {
+        IndiceEstudiantes indice = new IndiceEstudiantes();
+        indice.agregar(new Entrada("ana@uv.mx", null, "S12345678"));
+        indice.agregar(new Entrada("ana@uv.mx", "Ana Ruiz", null));
+        indice.cargar(List.of(new Entrada("ana@uv.mx", "Nombre Viejo", "S12345678")));
+
+        assertEquals(new Entrada("ana@uv.mx", "Ana Ruiz", "S12345678"), indice.obtener("ana@uv.mx"));
+        assertTrue(indice.buscar("viejo", 10).isEmpty());
+
+        indice.agregar(new Entrada("ana@uv.mx", "Ana Soto", null));
+        assertTrue(indice.buscar("ruiz", 10).isEmpty(), "El nombre anterior ya no debe encontrarse");
+        assertEquals(List.of("ana@uv.mx"), emails(indice.buscar("soto", 10)));
+        assertEquals(List.of("ana@uv.mx"), emails(indice.buscar("S1234", 10)));
+        assertEquals(1, indice.tamano());
+    }
+
+    private static List<String> emails(List<Entrada> entradas) {
+        return entradas.stream().map(Entrada::email).toList();
+    }
+}
@@ -0,0 +1,69 @@
+package services;
+
+import org.junit.jupiter.api.Test;
+
+import Servicio.EjecutorAsincrono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para el ejecutor asíncrono de los servicios.
+ *
+ * Verifica que las tareas se ejecuten en hilos virtuales y que la cancelación y el tiempo límite
+ * interrumpan la tarea en curso.
+ */
+class EjecutorAsincronoTest {
+
+    /**
+     * Prueba que la tarea se ejecute en un hilo virtual y devuelva su resultado.
+     */
+    @Test
+    void testEjecutaEnHiloVirtual() {
+        CompletableFuture<Boolean> futuro = EjecutorAsincrono.ejecutar(() -> Thread.currentThread().isVirtual());
+
+        assertTrue(futuro.join(), "La tarea debe ejecutarse en un hilo virtual");
+    }
+
+    /**
+     * Prueba que al cancelar el futuro se interrumpa la tarea.
+     */
+    @Test
+    void testCancelarInterrumpeLaTarea() throws InterruptedException {
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch interrumpida = new CountDownLatch(1);
+
+        CompletableFuture<Void> futuro = EjecutorAsincrono.ejecutar(() -> {
+            iniciada.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrumpida.countDown();
+            }
+            return null;
+        });
+
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS), "La tarea debe iniciar");
+        futuro.cancel(true);
+        assertTrue(interrumpida.await(5, TimeUnit.SECONDS), "La tarea cancelada debe interrumpirse");
+    }
+
+    /**
+     * Prueba que una tarea que excede el tiempo límite complete el futuro con TimeoutException.
+     */
+    @Test
+    void testTiempoLimite() {
+        CompletableFuture<Void> futuro = EjecutorAsincrono.ejecutar(() -> {
+            Thread.sleep(10000);
+            return null;
+        }, 50, TimeUnit.MILLISECONDS);
+
+        Throwable error = assertThrows(Exception.class, futuro::join);
+        assertInstanceOf(TimeoutException.class, EjecutorAsincrono.causa(error),
+                "La causa debe ser un TimeoutException");
+    }
+}
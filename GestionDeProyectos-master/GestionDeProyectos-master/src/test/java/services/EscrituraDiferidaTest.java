@@ -0,0 +1,200 @@
+package services;
+
+import org.junit.jupiter.api.Test;
+
+import DAO.Estudiante.DAOMemoria;
+import DAO.Memoria.AlmacenMemoria;
+import DAO.ResultadoActualizacion;
+import Modelos.Estudiante;
+import Servicio.EscrituraDiferida;
+import Servicio.EstudianteServicio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para la cola de escritura diferida de los datos personales.
+ *
+ * Verifica que las actualizaciones de un mismo estudiante se reemplacen en la cola, que se guarden en grupos
+ * acotados, que las confirmaciones lleguen después de guardar, que la cola llena haga esperar a quien encola
+ * y que las actualizaciones condicionadas a la versión sigan detectando conflictos.
+ */
+class EscrituraDiferidaTest {
+
+    /**
+     * Prueba que, mientras el escritor guarda un grupo, las actualizaciones nuevas formen el siguiente y las
+     * de un estudiante que ya estaba en la cola reemplacen a la anterior.
+     */
+    @Test
+    void testReemplazoYAgrupacion() throws Exception {
+        CountDownLatch guardando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<List<String>> grupos = new CopyOnWriteArrayList<>();
+        EscrituraDiferida escritura = new EscrituraDiferida(estudiantes -> {
+            grupos.add(estudiantes.stream().map(e -> e.getEmail() + "=" + e.getNombre()).toList());
+            guardando.countDown();
+            await(liberar);
+            return Collections.nCopies(estudiantes.size(), true);
+        }, 10, 10, 0);
+
+        CompletableFuture<Boolean> primera = escritura.encolar(datos("ana@uv.mx", "Ana"));
+        assertTrue(guardando.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> segunda = escritura.encolar(datos("ana@uv.mx", "Ana Maria"));
+        CompletableFuture<Boolean> tercera = escritura.encolar(datos("ana@uv.mx", "Ana Sofia"));
+        CompletableFuture<Boolean> otra = escritura.encolar(datos("luis@uv.mx", "Luis"));
+        assertFalse(primera.isDone(), "La confirmación llega solo después de guardar");
+        liberar.countDown();
+
+        assertTrue(primera.get(5, TimeUnit.SECONDS));
+        assertTrue(segunda.get(5, TimeUnit.SECONDS));
+        assertTrue(tercera.get(5, TimeUnit.SECONDS));
+        assertTrue(otra.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("ana@uv.mx=Ana"), List.of("ana@uv.mx=Ana Sofia", "luis@uv.mx=Luis")), grupos);
+        assertEquals(1, escritura.getReemplazadas());
+        assertEquals(2, escritura.getGrupos());
+        escritura.cerrar();
+    }
+
+    /**
+     * Prueba que con la cola llena se espere a que el escritor tome un grupo, que los grupos no superen su
+     * tamaño y que al cerrar se guarde lo pendiente y se rechacen las actualizaciones nuevas.
+     */
+    @Test
+    void testColaAcotadaYCierre() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<Integer> tamanos = new CopyOnWriteArrayList<>();
+        EscrituraDiferida escritura = new EscrituraDiferida(estudiantes -> {
+            tamanos.add(estudiantes.size());
+            await(liberar);
+            return Collections.nCopies(estudiantes.size(), true);
+        }, 3, 2, 60_000);
+
+        List<CompletableFuture<Boolean>> confirmaciones = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            confirmaciones.add(escritura.encolar(datos("e" + i + "@uv.mx", "Estudiante")));
+        }
+        // Con grupos de 2, el escritor tomó los dos primeros y quedan tres, que llenan la cola.
+        assertEquals(3, escritura.getPendientes());
+        ExecutorService ejecutor = Executors.newSingleThreadExecutor();
+        try {
+            Future<CompletableFuture<Boolean>> esperando = ejecutor.submit(
+                    () -> escritura.encolar(datos("e5@uv.mx", "Estudiante")));
+            assertThrows(Exception.class, () -> esperando.get(200, TimeUnit.MILLISECONDS),
+                    "Con la cola llena se espera");
+            liberar.countDown();
+            confirmaciones.add(esperando.get(5, TimeUnit.SECONDS));
+        } finally {
+            ejecutor.shutdown();
+        }
+
+        escritura.cerrar();
+        for (CompletableFuture<Boolean> confirmacion : confirmaciones) {
+            assertTrue(confirmacion.isDone(), "Al cerrar se guarda lo pendiente");
+            assertTrue(confirmacion.get());
+        }
+        assertTrue(tamanos.stream().allMatch(tamano -> tamano <= 2), "Grupos: " + tamanos);
+        assertEquals(6, escritura.getEscritas());
+        ExecutionException cerrada = assertThrows(ExecutionException.class,
+                () -> escritura.encolar(datos("e6@uv.mx", "Estudiante")).get());
+        assertInstanceOf(IllegalStateException.class, cerrada.getCause());
+    }
+
+    /**
+     * Prueba que un escritor que devuelve un resultado inválido no detenga al hilo escritor: las
+     * confirmaciones de ese grupo fallan y las siguientes actualizaciones se guardan.
+     */
+    @Test
+    void testResultadoInvalidoNoDetieneAlEscritor() throws Exception {
+        List<Integer> llamadas = new CopyOnWriteArrayList<>();
+        EscrituraDiferida escritura = new EscrituraDiferida(estudiantes -> {
+            llamadas.add(estudiantes.size());
+            return llamadas.size() == 1 ? List.of() : Collections.nCopies(estudiantes.size(), true);
+        }, 10, 10, 0);
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> escritura.encolar(datos("ana@uv.mx", "Ana")).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertTrue(escritura.encolar(datos("ana@uv.mx", "Ana")).get(5, TimeUnit.SECONDS));
+        assertEquals(2, llamadas.size());
+        escritura.cerrar();
+    }
+
+    /**
+     * Prueba que el servicio con escritura diferida guarde en grupos las actualizaciones concurrentes y
+     * devuelva el resultado de cada estudiante, incluido false para los que no existen.
+     */
+    @Test
+    void testServicioConEscrituraDiferida() throws Exception {
+        AlmacenMemoria almacen = new AlmacenMemoria();
+        int estudiantes = 200;
+        for (int i = 0; i < estudiantes; i++) {
+            almacen.insertarEstudiante("e" + i + "@uv.mx", "hash", String.format("S%08d", i));
+        }
+        EstudianteServicio servicio = new EstudianteServicio(new DAOMemoria(almacen), () -> { }, true);
+
+        List<CompletableFuture<Boolean>> resultados = new ArrayList<>();
+        for (int i = 0; i <= estudiantes; i++) {
+            resultados.add(servicio.actualizarDatosPersonalesAsync("e" + i + "@uv.mx", "2281234567",
+                    "Estudiante", "Calle " + i, "Femenino"));
+        }
+        for (int i = 0; i < estudiantes; i++) {
+            assertTrue(resultados.get(i).get(5, TimeUnit.SECONDS));
+            assertEquals("Calle " + i, servicio.obtenerEstudiante("e" + i + "@uv.mx").getDireccion());
+        }
+        assertFalse(resultados.get(estudiantes).get(5, TimeUnit.SECONDS), "El estudiante no existe");
+        EscrituraDiferida escritura = servicio.getEscrituraDiferida();
+        assertEquals(estudiantes + 1, escritura.getEscritas());
+        assertTrue(escritura.getGrupos() < estudiantes, "Las actualizaciones deben agruparse: " + escritura);
+    }
+
+    /**
+     * Prueba que con la escritura diferida las actualizaciones condicionadas a la versión sigan detectando
+     * los conflictos, incluidos los causados por una escritura de la cola.
+     */
+    @Test
+    void testVersionadaConEscrituraDiferidaDetectaConflicto() throws Exception {
+        AlmacenMemoria almacen = new AlmacenMemoria();
+        almacen.insertarEstudiante("ana@uv.mx", "hash", "S00000001");
+        EstudianteServicio servicio = new EstudianteServicio(new DAOMemoria(almacen), () -> { }, true);
+
+        Estudiante leido = servicio.obtenerEstudiante("ana@uv.mx");
+        assertTrue(servicio.actualizarDatosPersonales("ana@uv.mx", "2281234567", "Ana Cola", "Calle 1", "Femenino"));
+        leido.setNombre("Ana Ventana");
+        leido.setTelefono("2287654321");
+        leido.setDireccion("Calle 2");
+        leido.setGenero("Femenino");
+        assertEquals(ResultadoActualizacion.CONFLICTO, servicio.actualizarConVersion(leido));
+        assertEquals("Ana Cola", servicio.obtenerEstudiante("ana@uv.mx").getNombre());
+
+        Estudiante actual = servicio.obtenerEstudiante("ana@uv.mx");
+        actual.setNombre("Ana Ventana");
+        assertEquals(ResultadoActualizacion.EXITO, servicio.actualizarConVersion(actual));
+        assertEquals(1, servicio.getEscrituraDiferida().getEscritas(), "La escritura versionada no pasa por la cola");
+    }
+
+    private static Estudiante datos(String email, String nombre) {
+        Estudiante estudiante = new Estudiante();
+        estudiante.setEmail(email);
+        estudiante.setNombre(nombre);
+        return estudiante;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package services;
+
+import org.junit.jupiter.api.Test;
+
+import DAO.Estudiante.DAO;
+import DAO.Estudiante.DAOMemoria;
+import DAO.Estudiante.ResultadoAsignacion;
+import DAO.Estudiante.ResultadoRegistro;
+import DAO.Estudiante.Utiles;
+import DAO.Memoria.AlmacenMemoria;
+import DAO.ResultadoActualizacion;
+import Modelos.Estudiante;
+import Servicio.EstudianteServicio;
+import Servicio.PoliticaReintento;
+import jakarta.validation.ConstraintViolationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de concurrencia del servicio de estudiantes.
+ *
+ * Varios hilos comparten una sola instancia del servicio y envían peticiones con datos distintos;
+ * se verifica que cada petición se valide y llegue al DAO con sus propios datos.
+ */
+class EstudianteServicioConcurrenciaTest {
+
+    private static final int HILOS = 16;
+    private static final int PETICIONES_POR_HILO = 200;
+
+    /**
+     * DAO de prueba que comprueba que los datos de cada llamada pertenecen al mismo estudiante.
+     */
+    private static class DAOVerificador implements DAO {
+        final AtomicInteger registros = new AtomicInteger();
+        final AtomicInteger actualizaciones = new AtomicInteger();
+        final Queue<String> mezclas = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public boolean postRegistrar(String email, String contrasena, String matricula) {
+            if (!matricula.equals(matricula(indice(email)))) {
+                mezclas.add(email + " llegó con " + matricula);
+            }
+            registros.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public List<ResultadoRegistro> registrarEstudiantes(List<Estudiante> estudiantes, int tamanoLote) {
+            List<ResultadoRegistro> resultados = new ArrayList<>();
+            for (Estudiante estudiante : estudiantes) {
+                resultados.add(ResultadoRegistro.exito(estudiante.getEmail(), 1));
+            }
+            return resultados;
+        }
+
+        @Override
+        public boolean updateActualizarDatosPersonales(String email, String telefono, String nombre,
+                                                       String direccion, String genero) {
+            if (!nombre.equals(nombre(indice(email)))) {
+                mezclas.add(email + " llegó con " + nombre);
+            }
+            actualizaciones.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public boolean updateActualizarDatosPersonales(Estudiante estudiante) {
+            return true;
+        }
+
+        @Override
+        public List<Boolean> actualizarDatosPersonales(List<Estudiante> estudiantes) {
+            List<Boolean> resultados = new ArrayList<>();
+            for (Estudiante estudiante : estudiantes) {
+                resultados.add(updateActualizarDatosPersonales(estudiante.getEmail(), estudiante.getTelefono(),
+                        estudiante.getNombre(), estudiante.getDireccion(), estudiante.getGenero()));
+            }
+            return resultados;
+        }
+
+        @Override
+        public ResultadoActualizacion actualizarConVersion(Estudiante estudiante) {
+            return ResultadoActualizacion.EXITO;
+        }
+
+        @Override
+        public Estudiante getEstudiante(String email) {
+            return null;
+        }
+
+        @Override
+        public Map<String, Estudiante> getEstudiantes(Collection<String> emails) {
+            return Map.of();
+        }
+
+        @Override
+        public List<Estudiante> getResumenEstudiantes() {
+            return List.of();
+        }
+
+        @Override
+        public boolean asignarProyectoAEstudiante(String email, int idProyecto) {
+            return true;
+        }
+
+        @Override
+        public Map<String, ResultadoAsignacion> asignarProyectos(Map<String, Integer> asignaciones) {
+            return Map.of();
+        }
+    }
+
+    private static String email(int i) {
+        return "estudiante" + i + "@uv.mx";
+    }
+
+    private static int indice(String email) {
+        return Integer.parseInt(email.substring("estudiante".length(), email.indexOf('@')));
+    }
+
+    private static String matricula(int i) {
+        return String.format("S%08d", i);
+    }
+
+    private static String nombre(int i) {
+        return "Estudiante " + i;
+    }
+
+    /**
+     * Ejecuta la tarea en {@link #HILOS} hilos que arrancan al mismo tiempo; cada hilo recibe su número.
+     */
+    private static void enParalelo(TareaHilo tarea) throws Exception {
+        ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch salida = new CountDownLatch(1);
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int h = 0; h < HILOS; h++) {
+                int hilo = h;
+                futuros.add(ejecutor.submit(() -> {
+                    salida.await();
+                    tarea.ejecutar(hilo);
+                    return null;
+                }));
+            }
+            salida.countDown();
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TareaHilo {
+        void ejecutar(int hilo) throws Exception;
+    }
+
+    /**
+     * Prueba que registros válidos e inválidos intercalados desde varios hilos se validen cada uno con
+     * sus propios datos: los válidos llegan al DAO sin mezclarse y los inválidos siempre se rechazan.
+     */
+    @Test
+    void testRegistroConcurrenteSinMezclaDeDatos() throws Exception {
+        DAOVerificador dao = new DAOVerificador();
+        EstudianteServicio servicio = new EstudianteServicio(dao, () -> { });
+        AtomicInteger rechazados = new AtomicInteger();
+        AtomicInteger aceptadosIncorrectos = new AtomicInteger();
+
+        enParalelo(hilo -> {
+            for (int j = 0; j < PETICIONES_POR_HILO; j++) {
+                int i = hilo * PETICIONES_POR_HILO + j;
+                boolean valido = i % 2 == 0;
+                try {
+                    servicio.registrarEstudiante(email(i), "password123", valido ? matricula(i) : "invalida");
+                    if (!valido) {
+                        aceptadosIncorrectos.incrementAndGet();
+                    }
+                } catch (ConstraintViolationException e) {
+                    if (valido) {
+                        fail("Se rechazó un registro válido: " + e.getMessage());
+                    }
+                    rechazados.incrementAndGet();
+                }
+            }
+        });
+
+        int total = HILOS * PETICIONES_POR_HILO;
+        assertTrue(dao.mezclas.isEmpty(), "Los datos de las peticiones no deben mezclarse: " + dao.mezclas);
+        assertEquals(0, aceptadosIncorrectos.get(), "Ningún registro inválido debe aceptarse");
+        assertEquals(total / 2, dao.registros.get(), "Todos los registros válidos deben llegar al DAO");
+        assertEquals(total / 2, rechazados.get(), "Todos los registros inválidos deben rechazarse");
+    }
+
+    /**
+     * Prueba que las actualizaciones concurrentes sobre la instancia compartida lleguen al DAO con los datos
+     * de cada estudiante.
+     */
+    @Test
+    void testActualizacionConcurrenteSinMezclaDeDatos() throws Exception {
+        DAOVerificador dao = new DAOVerificador();
+        EstudianteServicio servicio = new EstudianteServicio(dao, () -> { });
+
+        enParalelo(hilo -> {
+            for (int j = 0; j < PETICIONES_POR_HILO; j++) {
+                int i = hilo * PETICIONES_POR_HILO + j;
+                assertTrue(servicio.actualizarDatosPersonales(email(i), "2281234567", nombre(i),
+                        "Calle " + i, i % 2 == 0 ? "Masculino" : "Femenino"));
+            }
+        });
+
+        assertTrue(dao.mezclas.isEmpty(), "Los datos de las peticiones no deben mezclarse: " + dao.mezclas);
+        assertEquals(HILOS * PETICIONES_POR_HILO, dao.actualizaciones.get(),
+                "Todas las actualizaciones deben llegar al DAO");
+    }
+
+    /**
+     * Prueba que {@link Utiles} devuelva a cada hilo un estudiante con exactamente los datos que envió.
+     */
+    @Test
+    void testUtilesDevuelveObjetoPropio() throws Exception {
+        Utiles utiles = new Utiles();
+        Queue<String> mezclas = new ConcurrentLinkedQueue<>();
+
+        enParalelo(hilo -> {
+            for (int j = 0; j < PETICIONES_POR_HILO; j++) {
+                int i = hilo * PETICIONES_POR_HILO + j;
+                Estudiante estudiante = utiles.asignarRegistroEstudiante(email(i), "password123", matricula(i));
+                if (!estudiante.getEmail().equals(email(i)) || !estudiante.getMatricula().equals(matricula(i))) {
+                    mezclas.add(email(i));
+                }
+            }
+        });
+
+        assertTrue(mezclas.isEmpty(), "Cada llamada debe trabajar sobre su propio estudiante: " + mezclas);
+    }
+
+    /**
+     * Prueba que la instancia compartida sea siempre la misma.
+     */
+    @Test
+    void testInstanciaCompartida() {
+        assertSame(EstudianteServicio.getInstancia(), EstudianteServicio.getInstancia());
+    }
+
+    /**
+     * Prueba que las modificaciones concurrentes de un mismo estudiante con control de versión y reintento
+     * no pierdan ninguna escritura: cada hilo suma uno al número de la dirección.
+     */
+    @Test
+    void testModificacionesConcurrentesSinActualizacionesPerdidas() throws Exception {
+        AlmacenMemoria almacen = new AlmacenMemoria();
+        almacen.insertarEstudiante("ana@uv.mx", "hash", "S00000001");
+        almacen.actualizarDatosPersonales("ana@uv.mx", "Ana", "2281234567", "Calle 0", "Femenino");
+        int idProyecto = almacen.insertarProyecto("Sistema de tutorías", "Agenda de tutorías");
+        EstudianteServicio servicio = new EstudianteServicio(new DAOMemoria(almacen), () -> { });
+        PoliticaReintento politica = new PoliticaReintento(10_000, 0);
+        int porHilo = 5;
+
+        enParalelo(hilo -> {
+            for (int j = 0; j < porHilo; j++) {
+                assertEquals(ResultadoActualizacion.EXITO, servicio.modificarEstudiante("ana@uv.mx", estudiante -> {
+                    int numero = Integer.parseInt(estudiante.getDireccion().substring("Calle ".length()));
+                    estudiante.setDireccion("Calle " + (numero + 1));
+                }, politica));
+            }
+        });
+
+        Estudiante ana = servicio.obtenerEstudiante("ana@uv.mx");
+        assertEquals("Calle " + HILOS * porHilo, ana.getDireccion(), "Ninguna modificación debe perderse");
+        assertEquals(1 + HILOS * porHilo, ana.getVersion());
+        assertEquals(ResultadoActualizacion.CONFLICTO, servicio.asignarProyectoConVersion("ana@uv.mx", idProyecto, 0),
+                "Una versión vieja debe rechazarse");
+    }
+}
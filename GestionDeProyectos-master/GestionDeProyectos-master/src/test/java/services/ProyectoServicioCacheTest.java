@@ -0,0 +1,107 @@
+package services;
+
+import org.junit.jupiter.api.Test;
+
+import DAO.Memoria.AlmacenMemoria;
+import DAO.Proyecto.DAOMemoria;
+import Modelos.Proyecto;
+import Servicio.ProyectoServicio;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para la caché del proyecto asignado a cada estudiante.
+ *
+ * Verifica que un error de la consulta no se guarde en la caché como un estudiante sin proyecto y que la
+ * invalidación alcance las consultas en curso de cualquier instancia del servicio.
+ */
+class ProyectoServicioCacheTest {
+
+    /**
+     * Prueba que, si la consulta falla, la excepción llegue a quien llamó y la siguiente llamada vuelva a
+     * consultar en lugar de devolver "Sin proyecto asignado" desde la caché.
+     */
+    @Test
+    void testErrorDeConsultaNoSeGuardaEnCache() throws Exception {
+        AlmacenMemoria almacen = new AlmacenMemoria();
+        String email = "error-cache@uv.mx";
+        almacen.insertarEstudiante(email, "hash", "S90000001");
+        almacen.asignarProyecto(email, almacen.insertarProyecto("Inventario", "Control de inventario"));
+        AtomicInteger fallos = new AtomicInteger(1);
+        DAOMemoria dao = new DAOMemoria(almacen) {
+            @Override
+            public Map<String, Proyecto> getProyectosEstudiantes(Collection<String> emails) {
+                if (fallos.getAndDecrement() > 0) {
+                    throw new IllegalStateException("Conexión perdida");
+                }
+                return super.getProyectosEstudiantes(emails);
+            }
+        };
+        ProyectoServicio servicio = new ProyectoServicio(dao, () -> { });
+        ProyectoServicio.invalidarProyectoEstudiante(email);
+
+        assertThrows(IllegalStateException.class, () -> servicio.obtenerProyectoEstudiante(email));
+        assertEquals(List.of("Inventario", "Control de inventario"), servicio.obtenerProyectoEstudiante(email));
+        ProyectoServicio.invalidarProyectoEstudiante(email);
+    }
+
+    /**
+     * Prueba que, después de invalidar, una instancia distinta de la compartida no entregue el resultado de
+     * una consulta que empezó antes del cambio.
+     */
+    @Test
+    void testInvalidarAlcanzaCualquierInstancia() throws Exception {
+        AlmacenMemoria almacen = new AlmacenMemoria();
+        String email = "otra-instancia@uv.mx";
+        almacen.insertarEstudiante(email, "hash", "S90000002");
+        int idProyecto = almacen.insertarProyecto("Inventario", "Control de inventario");
+        CountDownLatch leido = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger consultas = new AtomicInteger();
+        DAOMemoria dao = new DAOMemoria(almacen) {
+            @Override
+            public Map<String, Proyecto> getProyectosEstudiantes(Collection<String> emails) {
+                Map<String, Proyecto> proyectos = super.getProyectosEstudiantes(emails);
+                if (consultas.getAndIncrement() == 0) {
+                    leido.countDown();
+                    try {
+                        liberar.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return proyectos;
+            }
+        };
+        ProyectoServicio servicio = new ProyectoServicio(dao, () -> { });
+        ProyectoServicio.invalidarProyectoEstudiante(email);
+
+        ExecutorService ejecutor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> anterior = ejecutor.submit(() -> servicio.obtenerProyectoEstudiante(email));
+            assertTrue(leido.await(5, TimeUnit.SECONDS));
+            almacen.asignarProyecto(email, idProyecto);
+            ProyectoServicio.invalidarProyectoEstudiante(email);
+
+            Future<List<String>> posterior = ejecutor.submit(() -> servicio.obtenerProyectoEstudiante(email));
+            assertEquals(List.of("Inventario", "Control de inventario"), posterior.get(5, TimeUnit.SECONDS),
+                    "La lectura posterior al cambio no debe unirse a la consulta anterior");
+            liberar.countDown();
+            assertEquals("Sin proyecto asignado", anterior.get(5, TimeUnit.SECONDS).get(0));
+        } finally {
+            liberar.countDown();
+            ejecutor.shutdown();
+        }
+        ProyectoServicio.invalidarProyectoEstudiante(email);
+    }
+}